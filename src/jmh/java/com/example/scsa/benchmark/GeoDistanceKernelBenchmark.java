@@ -0,0 +1,83 @@
+package com.example.scsa.benchmark;
+
+import com.example.scsa.util.GeoDistanceKernel;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 반경 이내 코트 거리 계산 비교 벤치마크
+ *
+ * - scalar : 기존 방식 (코트마다 도 단위 좌표로 Haversine, toRadians / cos 매번 계산)
+ * - kernel : GeoDistanceKernel.distancesWithin (미리 계산된 라디안/cos 배열, 거리 하한으로 반경 밖 코트는 삼각함수 생략)
+ *
+ * 코트 1k / 10k / 100k (서울 기준 약 ±50km에 분포), 반경 5km / 25km / 100km 각각 측정
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=GeoDistanceKernelBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GeoDistanceKernelBenchmark {
+
+    private static final double ORIGIN_LAT = 37.5666;
+    private static final double ORIGIN_LNG = 126.9782;
+
+    @Param({"1000", "10000", "100000"})
+    private int courts;
+
+    @Param({"5", "25", "100"})
+    private double radiusKm;
+
+    private double[] latDeg;
+    private double[] lngDeg;
+    private double[] latRad;
+    private double[] lngRad;
+    private double[] cosLat;
+    private double[] out;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        latDeg = new double[courts];
+        lngDeg = new double[courts];
+        latRad = new double[courts];
+        lngRad = new double[courts];
+        cosLat = new double[courts];
+        out = new double[courts];
+
+        for (int i = 0; i < courts; i++) {
+            latDeg[i] = ORIGIN_LAT + (random.nextDouble() - 0.5) * 0.9;
+            lngDeg[i] = ORIGIN_LNG + (random.nextDouble() - 0.5) * 1.2;
+            latRad[i] = Math.toRadians(latDeg[i]);
+            lngRad[i] = Math.toRadians(lngDeg[i]);
+            cosLat[i] = Math.cos(latRad[i]);
+        }
+    }
+
+    @Benchmark
+    public void scalar(Blackhole bh) {
+        int within = 0;
+        for (int i = 0; i < courts; i++) {
+            double d = GeoDistanceKernel.haversineKm(ORIGIN_LAT, ORIGIN_LNG, latDeg[i], lngDeg[i]);
+            if (d <= radiusKm) {
+                out[i] = d;
+                within++;
+            }
+        }
+        bh.consume(within);
+        bh.consume(out);
+    }
+
+    @Benchmark
+    public void kernel(Blackhole bh) {
+        double originLatRad = Math.toRadians(ORIGIN_LAT);
+        int within = GeoDistanceKernel.distancesWithin(
+                originLatRad, Math.toRadians(ORIGIN_LNG), Math.cos(originLatRad),
+                latRad, lngRad, cosLat, 0, courts, radiusKm, out);
+        bh.consume(within);
+        bh.consume(out);
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.scsa.benchmark;
+
+import com.example.scsa.util.CursorCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MatchListService 페이지네이션 cursor 인코딩/디코딩 비교 벤치마크
+ *
+ * - jackson* : 기존 방식 (sort별 cursor POJO → JSON → Base64, 서명 없음)
+ * - codec*   : CursorCodec (고정 26바이트 바이너리 + HMAC 8바이트 → URL-safe Base64)
+ *
+ * createdAt(시간 키) / distance(계산값 키) cursor 각각 측정, 할당량은 -prof gc 로 확인
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=MatchCursorCodecBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MatchCursorCodecBenchmark {
+
+    private static final DateTimeFormatter ISO_DATETIME = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CursorCodec codec = new CursorCodec("benchmark-cursor-secret-key-0123456789abcdef");
+
+    private final LocalDateTime createdAt = LocalDateTime.of(2025, 11, 17, 19, 0, 0, 123_456_000);
+    private final double distanceKm = 3.8172;
+    private final long matchId = 1_234_567L;
+
+    private String jacksonCreatedAtCursor;
+    private String jacksonDistanceCursor;
+    private String codecCreatedAtCursor;
+    private String codecDistanceCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        jacksonCreatedAtCursor = jacksonCreatedAt();
+        jacksonDistanceCursor = jacksonDistance();
+        codecCreatedAtCursor = codec.encode(CursorCodec.SortKey.CREATED_AT, createdAt, matchId);
+        codecDistanceCursor = codec.encode(CursorCodec.SortKey.DISTANCE, distanceKm, matchId);
+    }
+
+    @Benchmark
+    public String jacksonEncodeCreatedAt() throws Exception {
+        return jacksonCreatedAt();
+    }
+
+    @Benchmark
+    public void jacksonDecodeCreatedAt(Blackhole bh) throws Exception {
+        String json = new String(Base64.getDecoder().decode(jacksonCreatedAtCursor));
+        CreatedAtCursor c = objectMapper.readValue(json, CreatedAtCursor.class);
+        bh.consume(LocalDateTime.parse(c.createdAt));
+        bh.consume(c.id);
+    }
+
+    @Benchmark
+    public String jacksonEncodeDistance() throws Exception {
+        return jacksonDistance();
+    }
+
+    @Benchmark
+    public void jacksonDecodeDistance(Blackhole bh) throws Exception {
+        String json = new String(Base64.getDecoder().decode(jacksonDistanceCursor));
+        DistanceCursor c = objectMapper.readValue(json, DistanceCursor.class);
+        bh.consume(c.distance);
+        bh.consume(c.id);
+    }
+
+    @Benchmark
+    public String codecEncodeCreatedAt() {
+        return codec.encode(CursorCodec.SortKey.CREATED_AT, createdAt, matchId);
+    }
+
+    @Benchmark
+    public void codecDecodeCreatedAt(Blackhole bh) {
+        CursorCodec.Cursor c = codec.decode(CursorCodec.SortKey.CREATED_AT, codecCreatedAtCursor);
+        bh.consume(c.timeKey());
+        bh.consume(c.matchId());
+    }
+
+    @Benchmark
+    public String codecEncodeDistance() {
+        return codec.encode(CursorCodec.SortKey.DISTANCE, distanceKm, matchId);
+    }
+
+    @Benchmark
+    public void codecDecodeDistance(Blackhole bh) {
+        CursorCodec.Cursor c = codec.decode(CursorCodec.SortKey.DISTANCE, codecDistanceCursor);
+        bh.consume(c.metricKey());
+        bh.consume(c.matchId());
+    }
+
+    private String jacksonCreatedAt() throws Exception {
+        String json = objectMapper.writeValueAsString(new CreatedAtCursor(createdAt.format(ISO_DATETIME), matchId));
+        return Base64.getEncoder().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String jacksonDistance() throws Exception {
+        String json = objectMapper.writeValueAsString(new DistanceCursor(distanceKm, matchId));
+        return Base64.getEncoder().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 기존 MatchListService cursor 구조 (비교용)
+    public static class CreatedAtCursor {
+        public String createdAt;
+        public Long id;
+
+        public CreatedAtCursor() { }
+
+        public CreatedAtCursor(String createdAt, Long id) {
+            this.createdAt = createdAt;
+            this.id = id;
+        }
+    }
+
+    public static class DistanceCursor {
+        public double distance;
+        public Long id;
+
+        public DistanceCursor() { }
+
+        public DistanceCursor(double distance, Long id) {
+            this.distance = distance;
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.scsa.benchmark;
+
+import com.example.scsa.util.TopKSelector;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MatchListService distance / recommend 페이지 선택 비교 벤치마크
+ *
+ * - fullSort : 기존 방식 (전체 정렬 → cursor 위치 선형 탐색 → size+1개 자르기)
+ * - topK     : TopKSelector (cursor 조건 통과분만 크기 size+1 힙에 유지)
+ *
+ * 후보 수 10k / 100k / 1M, 첫 페이지와 깊은 페이지(cursor = 중간 지점) 각각 측정
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=MatchTopKBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MatchTopKBenchmark {
+
+    private static final Comparator<Candidate> ORDER = Comparator
+            .comparingDouble((Candidate c) -> c.metric)
+            .thenComparing(c -> c.id);
+
+    @Param({"10000", "100000", "1000000"})
+    private int candidates;
+
+    @Param({"false", "true"})
+    private boolean deepPage;
+
+    private final int size = 10;
+
+    private List<Candidate> source;
+    private Candidate cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        source = new ArrayList<>(candidates);
+        for (int i = 0; i < candidates; i++) {
+            // 거리(km)처럼 값이 겹치는 경우도 생기도록 소수점 둘째 자리로 반올림
+            double metric = Math.round(random.nextDouble() * 5000) / 100.0;
+            source.add(new Candidate(i + 1L, metric));
+        }
+
+        if (deepPage) {
+            List<Candidate> sorted = new ArrayList<>(source);
+            sorted.sort(ORDER);
+            cursor = sorted.get(candidates / 2);
+        }
+    }
+
+    @Benchmark
+    public void fullSort(Blackhole bh) {
+        // 기존 방식: 복사 + 전체 정렬 + cursor 선형 탐색 + limit
+        List<Candidate> list = new ArrayList<>(source);
+        list.sort(ORDER);
+
+        int startIndex = 0;
+        if (cursor != null) {
+            startIndex = list.size();
+            for (int i = 0; i < list.size(); i++) {
+                if (isAfterCursor(list.get(i))) {
+                    startIndex = i;
+                    break;
+                }
+            }
+        }
+
+        bh.consume(new ArrayList<>(list.subList(startIndex, Math.min(list.size(), startIndex + size + 1))));
+    }
+
+    @Benchmark
+    public void topK(Blackhole bh) {
+        TopKSelector<Candidate> selector = new TopKSelector<>(size + 1, ORDER);
+        for (Candidate c : source) {
+            if (cursor != null && !isAfterCursor(c)) {
+                continue;
+            }
+            selector.offer(c);
+        }
+        bh.consume(selector.toSortedList());
+    }
+
+    private boolean isAfterCursor(Candidate c) {
+        return c.metric > cursor.metric
+                || (Double.compare(c.metric, cursor.metric) == 0 && c.id > cursor.id);
+    }
+
+    private static final class Candidate {
+        private final Long id;
+        private final double metric;
+
+        private Candidate(Long id, double metric) {
+            this.id = id;
+            this.metric = metric;
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package com.example.scsa.benchmark.macro;
+
+import com.example.scsa.ScsaApplication;
+import com.example.scsa.dto.match.MatchListRequestDTO;
+import com.example.scsa.dto.match.MatchListResponseDTO;
+import com.example.scsa.service.court.CourtSpatialIndex;
+import com.example.scsa.service.match.HotMatchIndex;
+import com.example.scsa.service.match.MatchListService;
+import com.example.scsa.service.match.MatchSearchSyncService;
+import io.github.cdimascio.dotenv.Dotenv;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 매치 목록 조회 매크로 벤치마크
+ *
+ * 전체 Spring 컨텍스트(MySQL / Redis)를 띄우고 합성 데이터(SyntheticMatchDataGenerator)를 채운 뒤,
+ * sort × radius × 페이지(첫 페이지 / cursor로 이어지는 다음 페이지) 조합마다
+ * MatchListService.getMatchList 를 반복 호출해 요청당 지표를 출력한다.
+ *
+ *  - 지연 시간 p50 / p99 / max (ms)
+ *  - 할당량 (KB/요청, 전체 스레드 합계: 병렬 점수 계산 ForkJoinPool 포함, 백그라운드 스레드 할당도 섞일 수 있음)
+ *  - SQL 실행 수 / DB에서 읽은 행 수 (SqlRowCounter)
+ *  - 응답 매치 수
+ *
+ * 최적화 전후 비교는 같은 seed / 개수로 실행하고 --bench.out 으로 저장한 CSV를 비교한다.
+ * 목록 결과 캐시(Redis)는 기본으로 끄고 측정한다 (--match.list-cache.enabled=true 로 켤 수 있음).
+ * 그 외 --match.* 설정(hot-index, list-session 등)도 그대로 넘겨 켜고 끈 상태를 비교할 수 있다.
+ *
+ * 실행 (애플리케이션과 같은 .env / 환경 변수 필요):
+ *   ./gradlew matchMacroBenchmark -Pbench.args="--bench.matches=200000 --bench.out=build/bench/before.csv"
+ *
+ * 옵션 (기본값):
+ *   --bench.courts=2000 --bench.users=20000 --bench.matches=200000 --bench.seed=42
+ *   --bench.days-back=30 --bench.days-ahead=30
+ *   --bench.generate=true   합성 데이터가 없을 때만 생성 (--bench.clear=true 면 기존 합성 데이터 삭제 후 생성)
+ *   --bench.generate-only=false
+ *   --bench.sorts=createdAt,latest,distance,recommend --bench.radii=5,25,100
+ *   --bench.latitude=37.5665 --bench.longitude=126.9780 --bench.size=10 --bench.pages=5
+ *   --bench.warmup=30 --bench.iterations=200 --bench.out=(없음)
+ */
+public class MatchListMacroBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        // ScsaApplication.main 과 같은 .env 로딩
+        String envFile = System.getenv("ENV_FILE") != null ? System.getenv("ENV_FILE") : ".env.local";
+        Dotenv.configure().filename(envFile).ignoreIfMissing().load()
+                .entries().forEach(entry -> System.setProperty(entry.getKey(), entry.getValue()));
+
+        SpringApplication application = new SpringApplication(ScsaApplication.class, BenchmarkConfig.class);
+        Map<String, Object> defaults = new HashMap<>();
+        defaults.put("match.list-cache.enabled", "false");
+        defaults.put("server.port", "0");
+        defaults.put("logging.level.com.example.scsa", "WARN");
+        application.setDefaultProperties(defaults);
+
+        try (ConfigurableApplicationContext context = application.run(args)) {
+            new MatchListMacroBenchmark(context).run();
+        }
+    }
+
+    private final ConfigurableApplicationContext context;
+    private final Environment env;
+    private final MatchListService matchListService;
+    private final com.sun.management.ThreadMXBean threadMXBean;
+
+    private MatchListMacroBenchmark(ConfigurableApplicationContext context) {
+        this.context = context;
+        this.env = context.getEnvironment();
+        this.matchListService = context.getBean(MatchListService.class);
+        this.threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    }
+
+    private void run() throws IOException {
+        prepareData();
+        if (env.getProperty("bench.generate-only", Boolean.class, false)) {
+            return;
+        }
+
+        List<String> sorts = Arrays.asList(env.getProperty("bench.sorts", "createdAt,latest,distance,recommend").split(","));
+        int[] radii = Arrays.stream(env.getProperty("bench.radii", "5,25,100").split(","))
+                .mapToInt(r -> Integer.parseInt(r.trim()))
+                .toArray();
+        int warmup = env.getProperty("bench.warmup", Integer.class, 30);
+        int iterations = env.getProperty("bench.iterations", Integer.class, 200);
+        int pages = Math.max(1, env.getProperty("bench.pages", Integer.class, 5));
+
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        List<Stats> results = new ArrayList<>();
+        System.out.println(Stats.HEADER);
+        for (String sort : sorts) {
+            for (int radius : radii) {
+                Stats first = new Stats(sort.trim(), radius, "first", iterations);
+                Stats next = new Stats(sort.trim(), radius, "next", iterations * (pages - 1));
+
+                for (int i = 0; i < warmup; i++) {
+                    scroll(sort.trim(), radius, pages, null, null);
+                }
+                for (int i = 0; i < iterations; i++) {
+                    scroll(sort.trim(), radius, pages, first, next);
+                }
+
+                results.add(first);
+                if (pages > 1) {
+                    results.add(next);
+                }
+                System.out.println(first.format());
+                if (pages > 1) {
+                    System.out.println(next.format());
+                }
+            }
+        }
+
+        printReport(results);
+    }
+
+    /**
+     * 합성 데이터 준비 → match_search 동기화 → 인메모리 인덱스 재적재
+     */
+    private void prepareData() {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        SyntheticMatchDataGenerator generator = new SyntheticMatchDataGenerator(jdbcTemplate,
+                new SyntheticMatchDataGenerator.Options(
+                        env.getProperty("bench.courts", Integer.class, 2_000),
+                        env.getProperty("bench.users", Integer.class, 20_000),
+                        env.getProperty("bench.matches", Integer.class, 200_000),
+                        env.getProperty("bench.seed", Long.class, 42L),
+                        env.getProperty("bench.days-back", Integer.class, 30),
+                        env.getProperty("bench.days-ahead", Integer.class, 30)));
+
+        if (env.getProperty("bench.clear", Boolean.class, false)) {
+            generator.clear();
+        }
+
+        Long existing = jdbcTemplate.queryForObject(
+                "select count(*) from `user` where provider = ?", Long.class, SyntheticMatchDataGenerator.PROVIDER);
+        if (!env.getProperty("bench.generate", Boolean.class, true) || (existing != null && existing > 0)) {
+            System.out.println("[bench] 합성 데이터 생성 생략 (기존 합성 사용자 " + existing + "명)");
+            return;
+        }
+
+        long started = System.currentTimeMillis();
+        SyntheticMatchDataGenerator.Result result = generator.generate(LocalDateTime.now());
+
+        // match_search 읽기 모델 채우기 (운영 재빌드 Job과 같은 변환)
+        MatchSearchSyncService syncService = context.getBean(MatchSearchSyncService.class);
+        Long afterId = result.firstMatchId() - 1;
+        while (afterId != null) {
+            afterId = syncService.syncChunkAfter(afterId, 1_000);
+        }
+
+        context.getBean(CourtSpatialIndex.class).rebuild();
+        context.getBean(HotMatchIndex.class).rebuild();
+
+        System.out.printf("[bench] 합성 데이터 생성 완료 (%d ms)%n", System.currentTimeMillis() - started);
+    }
+
+    /**
+     * 첫 페이지부터 cursor를 따라 pages 페이지까지 조회 (stats가 null이면 워밍업)
+     */
+    private void scroll(String sort, int radius, int pages, Stats first, Stats next) {
+        String cursor = null;
+        for (int page = 0; page < pages; page++) {
+            MatchListRequestDTO request = MatchListRequestDTO.builder()
+                    .sort(sort)
+                    .latitude(env.getProperty("bench.latitude", Double.class, 37.5665))
+                    .longitude(env.getProperty("bench.longitude", Double.class, 126.9780))
+                    .radius(radius)
+                    .size(env.getProperty("bench.size", Integer.class, 10))
+                    .cursor(cursor)
+                    .build();
+
+            long[] sqlBefore = SqlRowCounter.snapshot();
+            long allocBefore = allocatedBytes();
+            long startNanos = System.nanoTime();
+
+            MatchListResponseDTO response = matchListService.getMatchList(request);
+
+            long elapsedNanos = System.nanoTime() - startNanos;
+            long allocated = allocatedBytes() - allocBefore;
+            long[] sqlAfter = SqlRowCounter.snapshot();
+
+            Stats stats = (page == 0) ? first : next;
+            if (stats != null) {
+                stats.add(elapsedNanos, allocated, sqlAfter[0] - sqlBefore[0], sqlAfter[1] - sqlBefore[1],
+                        response.getMatches().size());
+            }
+
+            if (!Boolean.TRUE.equals(response.getHasNext())) {
+                return;
+            }
+            cursor = response.getCursor();
+        }
+    }
+
+    private long allocatedBytes() {
+        long[] threadIds = threadMXBean.getAllThreadIds();
+        long total = 0;
+        for (long allocated : threadMXBean.getThreadAllocatedBytes(threadIds)) {
+            if (allocated > 0) {
+                total += allocated;
+            }
+        }
+        return total;
+    }
+
+    private void printReport(List<Stats> results) throws IOException {
+        System.out.println();
+        System.out.println(Stats.HEADER);
+        results.forEach(stats -> System.out.println(stats.format()));
+
+        String out = env.getProperty("bench.out");
+        if (out == null || out.isBlank()) {
+            return;
+        }
+        Path path = Path.of(out);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(path))) {
+            writer.println("sort,radius_km,page,requests,p50_ms,p99_ms,max_ms,alloc_kb_per_req,"
+                    + "sql_statements_per_req,sql_rows_per_req,result_rows_per_req");
+            results.forEach(stats -> writer.println(stats.csv()));
+        }
+        System.out.println("[bench] CSV 저장: " + path.toAbsolutePath());
+    }
+
+    /**
+     * 시나리오별 요청 측정값
+     */
+    private static class Stats {
+
+        static final String HEADER = String.format(Locale.ROOT, "%-10s %7s %-6s %6s %9s %9s %9s %12s %9s %10s %8s",
+                "sort", "radius", "page", "n", "p50(ms)", "p99(ms)", "max(ms)", "alloc(KB)", "sql", "sqlRows", "rows");
+
+        private final String sort;
+        private final int radius;
+        private final String page;
+
+        private long[] latencies;
+        private int count;
+        private long allocated;
+        private long statements;
+        private long sqlRows;
+        private long resultRows;
+
+        Stats(String sort, int radius, String page, int expected) {
+            this.sort = sort;
+            this.radius = radius;
+            this.page = page;
+            this.latencies = new long[Math.max(expected, 1)];
+        }
+
+        void add(long nanos, long allocatedBytes, long statementCount, long rowCount, int results) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+            allocated += allocatedBytes;
+            statements += statementCount;
+            sqlRows += rowCount;
+            resultRows += results;
+        }
+
+        String format() {
+            long[] sorted = sorted();
+            return String.format(Locale.ROOT, "%-10s %7d %-6s %6d %9.3f %9.3f %9.3f %12.1f %9.2f %10.1f %8.1f",
+                    sort, radius, page, count,
+                    millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.99)), millis(percentile(sorted, 1.0)),
+                    perRequest(allocated) / 1024.0, perRequest(statements), perRequest(sqlRows), perRequest(resultRows));
+        }
+
+        String csv() {
+            long[] sorted = sorted();
+            return String.format(Locale.ROOT, "%s,%d,%s,%d,%.3f,%.3f,%.3f,%.1f,%.2f,%.1f,%.1f",
+                    sort, radius, page, count,
+                    millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.99)), millis(percentile(sorted, 1.0)),
+                    perRequest(allocated) / 1024.0, perRequest(statements), perRequest(sqlRows), perRequest(resultRows));
+        }
+
+        private long[] sorted() {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+
+        private double perRequest(long total) {
+            return count == 0 ? 0 : (double) total / count;
+        }
+
+        private static long percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+
+    /**
+     * 벤치마크 전용 빈 (DataSource SQL 카운터)
+     */
+    static class BenchmarkConfig {
+
+        @Bean
+        static SqlRowCounter sqlRowCounter() {
+            return new SqlRowCounter();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.scsa.benchmark.macro;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 벤치마크용 SQL 실행 / 조회 행 수 카운터
+ *
+ * DataSource 빈을 JDK 동적 프록시로 감싸서
+ *  - Statement execute* 호출 수 (SQL 실행 수)
+ *  - ResultSet.next() 가 true 를 반환한 횟수 (DB에서 읽은 행 수)
+ * 를 센다. 요청마다 snapshot() 차이로 요청당 값을 계산한다.
+ *
+ * 벤치마크 컨텍스트에만 등록되며 애플리케이션 코드에는 영향이 없다.
+ */
+public class SqlRowCounter implements BeanPostProcessor {
+
+    private static final LongAdder STATEMENTS = new LongAdder();
+    private static final LongAdder ROWS = new LongAdder();
+
+    /**
+     * 현재까지 누적값 (SQL 실행 수, 읽은 행 수)
+     */
+    public static long[] snapshot() {
+        return new long[]{STATEMENTS.sum(), ROWS.sum()};
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !Proxy.isProxyClass(bean.getClass())) {
+            return proxy(DataSource.class, dataSource, (target, method, args) -> {
+                Object result = invoke(target, method, args);
+                if (result instanceof Connection connection) {
+                    return proxy(Connection.class, connection, SqlRowCounter::onConnection);
+                }
+                return result;
+            });
+        }
+        return bean;
+    }
+
+    private static Object onConnection(Object target, Method method, Object[] args) throws Throwable {
+        Object result = invoke(target, method, args);
+        if (result instanceof CallableStatement statement) {
+            return proxy(CallableStatement.class, statement, SqlRowCounter::onStatement);
+        }
+        if (result instanceof PreparedStatement statement) {
+            return proxy(PreparedStatement.class, statement, SqlRowCounter::onStatement);
+        }
+        if (result instanceof Statement statement) {
+            return proxy(Statement.class, statement, SqlRowCounter::onStatement);
+        }
+        return result;
+    }
+
+    private static Object onStatement(Object target, Method method, Object[] args) throws Throwable {
+        if (method.getName().startsWith("execute")) {
+            STATEMENTS.increment();
+        }
+        Object result = invoke(target, method, args);
+        if (result instanceof ResultSet resultSet) {
+            return proxy(ResultSet.class, resultSet, SqlRowCounter::onResultSet);
+        }
+        return result;
+    }
+
+    private static Object onResultSet(Object target, Method method, Object[] args) throws Throwable {
+        Object result = invoke(target, method, args);
+        if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+            ROWS.increment();
+        }
+        return result;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Handler handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> handler.handle(target, method, args);
+        return (T) Proxy.newProxyInstance(SqlRowCounter.class.getClassLoader(), new Class<?>[]{type}, invocationHandler);
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object handle(Object target, Method method, Object[] args) throws Throwable;
+    }
+}
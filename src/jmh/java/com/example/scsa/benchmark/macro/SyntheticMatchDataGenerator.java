@@ -0,0 +1,368 @@
+package com.example.scsa.benchmark.macro;
+
+import com.example.scsa.domain.vo.Age;
+import com.example.scsa.domain.vo.GameType;
+import com.example.scsa.domain.vo.Gender;
+import com.example.scsa.domain.vo.MatchStatus;
+import com.example.scsa.domain.vo.Period;
+import com.example.scsa.util.EnumBitMask;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 매치 검색 벤치마크용 합성 데이터 생성기 (MySQL)
+ *
+ * 같은 seed / 개수 / 기준 시각이면 같은 데이터를 만든다 (java.util.Random 고정 seed).
+ *
+ *  - 코트: 전국 주요 도시 중심 좌표 주변 정규분포 (수도권 비중 높음)
+ *  - 사용자: 성별 / 나이대 / 경력 비율을 실제 서비스와 비슷하게 섞음
+ *  - 매치: 기준 시각 전후 [-daysBack, +daysAhead]일, 평일 저녁 / 주말 오전에 몰리도록 시작 시각 분포
+ *          시작 시각이 지난 매치는 COMPLETED, 이후 매치는 일부(인원 마감)만 COMPLETED
+ *          모집 나이대 / 경력은 인접 구간 1~3개, 성별은 게임 유형에 맞춤
+ *
+ * JdbcTemplate batch insert로 court / user / match / match_age / match_gender / match_period 에 직접 넣고,
+ * match_search 읽기 모델은 호출 측에서 MatchSearchSyncService.syncChunkAfter로 채운다 (운영 재빌드와 같은 변환).
+ * 기존 데이터와 겹치지 않도록 각 테이블 최대 ID 다음부터 사용하고,
+ * 합성 사용자는 provider = "synthetic", 합성 코트는 이름 "합성코트-" 로 표시해 clear()로 한 번에 지울 수 있다.
+ *
+ * 대량 입력 시 DB_URL에 rewriteBatchedStatements=true 를 붙이면 훨씬 빠르다.
+ */
+public class SyntheticMatchDataGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticMatchDataGenerator.class);
+
+    static final String PROVIDER = "synthetic";
+    static final String COURT_NAME_PREFIX = "합성코트-";
+
+    private static final int BATCH_SIZE = 1000;
+
+    // 도시 중심 (위도, 경도, 비중)
+    private static final Object[][] CITIES = {
+            {"서울특별시", 37.5665, 126.9780, 30},
+            {"경기도 수원시", 37.2636, 127.0286, 12},
+            {"경기도 성남시", 37.4200, 127.1265, 6},
+            {"경기도 고양시", 37.6584, 126.8320, 5},
+            {"인천광역시", 37.4563, 126.7052, 8},
+            {"부산광역시", 35.1796, 129.0756, 10},
+            {"대구광역시", 35.8714, 128.6014, 7},
+            {"대전광역시", 36.3504, 127.3845, 5},
+            {"광주광역시", 35.1595, 126.8526, 5},
+            {"울산광역시", 35.5384, 129.3114, 3},
+            {"충청북도 청주시", 36.6424, 127.4890, 3},
+            {"전라북도 전주시", 35.8242, 127.1480, 2},
+            {"경상남도 창원시", 35.2280, 128.6811, 2},
+            {"제주특별자치도 제주시", 33.4996, 126.5312, 2},
+    };
+
+    // 도시 중심으로부터 표준편차 (도, 약 9km)
+    private static final double CITY_SPREAD_DEG = 0.08;
+
+    private static final String[] DESCRIPTIONS = {
+            "초보 환영합니다", "즐겁게 랠리하실 분", "레슨 후 게임 진행", "실력 무관 친선 경기",
+            "복식 파트너 구해요", "주말 아침 운동", "퇴근 후 가볍게 한 게임", "중급 이상 빠른 템포",
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Options options;
+    private final Random random;
+
+    public SyntheticMatchDataGenerator(JdbcTemplate jdbcTemplate, Options options) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.options = options;
+        this.random = new Random(options.seed());
+    }
+
+    /**
+     * 합성 데이터 생성
+     *
+     * @param now 매치 시작 시각 분포의 기준 시각
+     * @return 생성 결과 (각 테이블에서 사용한 첫 ID)
+     */
+    public Result generate(LocalDateTime now) {
+        long courtStart = nextId("court", "court_id");
+        long userStart = nextId("`user`", "user_id");
+        long matchStart = nextId("`match`", "match_id");
+
+        insertCourts(courtStart);
+        insertUsers(userStart);
+        insertMatches(matchStart, courtStart, userStart, now);
+
+        log.info("[SyntheticData] courts={} (from {}), users={} (from {}), matches={} (from {})",
+                options.courts(), courtStart, options.users(), userStart, options.matches(), matchStart);
+        return new Result(courtStart, userStart, matchStart);
+    }
+
+    /**
+     * 합성 사용자가 호스트인 매치와 합성 사용자 / 코트 삭제 (seed 구분 없이 전체)
+     */
+    public void clear() {
+        String syntheticMatches = "select m.match_id from `match` m join `user` u on u.user_id = m.host_id"
+                + " where u.provider = '" + PROVIDER + "'";
+        for (String table : new String[]{"match_search", "match_age", "match_gender", "match_period"}) {
+            jdbcTemplate.update("delete from " + table + " where match_id in (select match_id from (" + syntheticMatches + ") t)");
+        }
+        jdbcTemplate.update("delete from `match` where host_id in (select user_id from `user` where provider = ?)", PROVIDER);
+        jdbcTemplate.update("delete from `user` where provider = ?", PROVIDER);
+        jdbcTemplate.update("delete from court where court_name like ?", COURT_NAME_PREFIX + "%");
+        log.info("[SyntheticData] cleared");
+    }
+
+    private void insertCourts(long firstId) {
+        int totalWeight = 0;
+        for (Object[] city : CITIES) {
+            totalWeight += (int) city[3];
+        }
+
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < options.courts(); i++) {
+            Object[] city = pickCity(totalWeight);
+            double lat = (double) city[1] + random.nextGaussian() * CITY_SPREAD_DEG;
+            double lng = (double) city[2] + random.nextGaussian() * CITY_SPREAD_DEG * 1.2;
+
+            batch.add(new Object[]{
+                    firstId + i,
+                    COURT_NAME_PREFIX + options.seed() + "-" + (i + 1),
+                    city[0] + " 합성로 " + (i + 1),
+                    lat,
+                    lng
+            });
+            if (batch.size() == BATCH_SIZE) {
+                flushCourts(batch);
+            }
+        }
+        flushCourts(batch);
+    }
+
+    private void flushCourts(List<Object[]> batch) {
+        if (batch.isEmpty()) return;
+        jdbcTemplate.batchUpdate(
+                "insert into court (court_id, court_name, location, latitude, longitude) values (?, ?, ?, ?, ?)",
+                batch);
+        batch.clear();
+    }
+
+    private void insertUsers(long firstId) {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < options.users(); i++) {
+            long id = firstId + i;
+            batch.add(new Object[]{
+                    id,
+                    "syn" + options.seed() + "_" + Long.toString(id, 36),
+                    weighted(Gender.values(), 65, 32, 3).name(),
+                    weighted(Period.values(), 30, 30, 20, 20).name(),
+                    weighted(Age.values(), 35, 35, 20, 10).name(),
+                    "합성사용자" + (i + 1),
+                    "USER",
+                    PROVIDER,
+                    PROVIDER + "-" + options.seed() + "-" + id,
+                    createdAt,
+                    createdAt
+            });
+            if (batch.size() == BATCH_SIZE) {
+                flushUsers(batch);
+            }
+        }
+        flushUsers(batch);
+    }
+
+    private void flushUsers(List<Object[]> batch) {
+        if (batch.isEmpty()) return;
+        jdbcTemplate.batchUpdate(
+                "insert into `user` (user_id, nickname, gender, period, age, name, role, provider, provider_id,"
+                        + " created_at, last_modified_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                batch);
+        batch.clear();
+    }
+
+    private void insertMatches(long firstId, long courtStart, long userStart, LocalDateTime now) {
+        LocalDateTime origin = now.truncatedTo(ChronoUnit.DAYS).minusDays(options.daysBack());
+        int days = options.daysBack() + options.daysAhead();
+
+        List<Object[]> matches = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> ages = new ArrayList<>(BATCH_SIZE * 2);
+        List<Object[]> genders = new ArrayList<>(BATCH_SIZE * 2);
+        List<Object[]> periods = new ArrayList<>(BATCH_SIZE * 2);
+
+        for (int i = 0; i < options.matches(); i++) {
+            long id = firstId + i;
+
+            LocalDateTime day = origin.plusDays(random.nextInt(days));
+            LocalDateTime start = day.plusHours(startHour(day.getDayOfWeek())).plusMinutes(30L * random.nextInt(2));
+            LocalDateTime end = start.plusMinutes(60L + 30L * random.nextInt(5));
+
+            // 생성 시각: 시작 1시간 ~ 14일 전 (기준 시각 이후면 기준 시각 직전)
+            LocalDateTime createdAt = start.minusMinutes(60L + random.nextInt(14 * 24 * 60));
+            if (createdAt.isAfter(now)) {
+                createdAt = now.minusSeconds(1 + random.nextInt(3600));
+            }
+
+            MatchStatus status = start.isBefore(now) || random.nextInt(10) == 0
+                    ? MatchStatus.COMPLETED
+                    : MatchStatus.RECRUITING;
+
+            GameType gameType = weighted(GameType.values(), 20, 35, 15, 30);
+            Set<Gender> genderSet = gendersOf(gameType);
+            Set<Age> ageSet = contiguous(Age.class, Age.values());
+            Set<Period> periodSet = contiguous(Period.class, Period.values());
+
+            long playerMen = switch (gameType) {
+                case SINGLES -> genderSet.contains(Gender.FEMALE) ? 0 : 2;
+                case MEN_DOUBLES -> 4;
+                case WOMEN_DOUBLES -> 0;
+                case MIXED_DOUBLES -> 2;
+            };
+            long playerWomen = switch (gameType) {
+                case SINGLES -> genderSet.contains(Gender.FEMALE) ? 2 : 0;
+                case MEN_DOUBLES -> 0;
+                case WOMEN_DOUBLES -> 4;
+                case MIXED_DOUBLES -> 2;
+            };
+
+            matches.add(new Object[]{
+                    id,
+                    userStart + random.nextInt(options.users()),
+                    courtStart + random.nextInt(options.courts()),
+                    gameType.name(),
+                    status.name(),
+                    EnumBitMask.encode(ageSet),
+                    EnumBitMask.encode(genderSet),
+                    EnumBitMask.encode(periodSet),
+                    Timestamp.valueOf(start),
+                    Timestamp.valueOf(end),
+                    1000L * random.nextInt(21),
+                    playerMen,
+                    playerWomen,
+                    random.nextInt(4) == 0 ? null : DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)],
+                    Timestamp.valueOf(createdAt),
+                    Timestamp.valueOf(createdAt)
+            });
+            ageSet.forEach(age -> ages.add(new Object[]{id, age.name()}));
+            genderSet.forEach(gender -> genders.add(new Object[]{id, gender.name()}));
+            periodSet.forEach(period -> periods.add(new Object[]{id, period.name()}));
+
+            if (matches.size() == BATCH_SIZE) {
+                flushMatches(matches, ages, genders, periods);
+            }
+            if ((i + 1) % 100_000 == 0) {
+                log.info("[SyntheticData] matches {}/{}", i + 1, options.matches());
+            }
+        }
+        flushMatches(matches, ages, genders, periods);
+    }
+
+    private void flushMatches(List<Object[]> matches, List<Object[]> ages,
+                              List<Object[]> genders, List<Object[]> periods) {
+        if (matches.isEmpty()) return;
+        jdbcTemplate.batchUpdate(
+                "insert into `match` (match_id, host_id, court_id, game_type, match_status,"
+                        + " ages_mask, genders_mask, periods_mask, match_start_date_time, match_end_date_time,"
+                        + " fee, player_count_men, player_count_women, description, created_at, last_modified_at)"
+                        + " values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                matches);
+        jdbcTemplate.batchUpdate("insert into match_age (match_id, age) values (?, ?)", ages);
+        jdbcTemplate.batchUpdate("insert into match_gender (match_id, gender) values (?, ?)", genders);
+        jdbcTemplate.batchUpdate("insert into match_period (match_id, period) values (?, ?)", periods);
+        matches.clear();
+        ages.clear();
+        genders.clear();
+        periods.clear();
+    }
+
+    /**
+     * 시작 시각(시): 평일은 저녁(18~21시) 위주, 주말은 오전(7~11시) 위주
+     */
+    private int startHour(DayOfWeek dayOfWeek) {
+        boolean weekend = dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
+        int roll = random.nextInt(100);
+        if (weekend) {
+            return roll < 60 ? 7 + random.nextInt(5) : 12 + random.nextInt(10);
+        }
+        if (roll < 15) return 6 + random.nextInt(3);
+        if (roll < 30) return 9 + random.nextInt(9);
+        return 18 + random.nextInt(4);
+    }
+
+    private Set<Gender> gendersOf(GameType gameType) {
+        return switch (gameType) {
+            case MEN_DOUBLES -> EnumSet.of(Gender.MALE);
+            case WOMEN_DOUBLES -> EnumSet.of(Gender.FEMALE);
+            case MIXED_DOUBLES -> EnumSet.of(Gender.MALE, Gender.FEMALE);
+            case SINGLES -> random.nextInt(4) == 0 ? EnumSet.of(Gender.FEMALE) : EnumSet.of(Gender.MALE);
+        };
+    }
+
+    /**
+     * 인접 구간 1~3개 (예: THIRTY, FORTY)
+     */
+    private <E extends Enum<E>> Set<E> contiguous(Class<E> type, E[] values) {
+        int length = 1 + random.nextInt(Math.min(3, values.length));
+        int from = random.nextInt(values.length - length + 1);
+        Set<E> result = EnumSet.noneOf(type);
+        for (int i = from; i < from + length; i++) {
+            result.add(values[i]);
+        }
+        return result;
+    }
+
+    private Object[] pickCity(int totalWeight) {
+        int roll = random.nextInt(totalWeight);
+        for (Object[] city : CITIES) {
+            roll -= (int) city[3];
+            if (roll < 0) {
+                return city;
+            }
+        }
+        return CITIES[0];
+    }
+
+    private <E> E weighted(E[] values, int... weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int roll = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    private long nextId(String table, String idColumn) {
+        Long max = jdbcTemplate.queryForObject("select max(" + idColumn + ") from " + table, Long.class);
+        return (max != null ? max : 0L) + 1;
+    }
+
+    /**
+     * 생성 옵션
+     *
+     * @param courts    코트 수
+     * @param users     사용자 수 (매치 호스트 후보)
+     * @param matches   매치 수
+     * @param seed      난수 seed
+     * @param daysBack  기준 시각 이전 일 수 (지난 매치, COMPLETED)
+     * @param daysAhead 기준 시각 이후 일 수
+     */
+    public record Options(int courts, int users, int matches, long seed, int daysBack, int daysAhead) {
+    }
+
+    /**
+     * 생성 결과 (각 테이블에서 사용한 첫 ID)
+     */
+    public record Result(long firstCourtId, long firstUserId, long firstMatchId) {
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.scsa.batch;
+
+import com.example.scsa.service.match.MatchSearchSyncService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * match_search 읽기 모델 재빌드 배치 Job/Step 설정
+ *
+ * - Job 이름: matchSearchRebuildJob
+ * - Step 1 (syncMatchSearchStep): match 테이블을 matchId 순으로 CHUNK_SIZE개씩 읽어 match_search 행 갱신/추가
+ *   → tasklet이 CONTINUABLE을 반환하는 동안 반복되며, 반복 1회 = 트랜잭션 1개
+ * - Step 2 (removeMatchSearchOrphansStep): match 테이블에 없는 match_search 행 삭제
+ *
+ * 쓰기 시점 동기화(MatchSearchSyncService)가 누락된 경우(직접 SQL 수정 등)의 drift 보정용
+ */
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class MatchSearchRebuildBatchConfig {
+
+    // 한 트랜잭션에서 처리할 매치 수
+    private static final int CHUNK_SIZE = 500;
+
+    // Step ExecutionContext에 저장하는 마지막 처리 matchId 키
+    private static final String LAST_MATCH_ID_KEY = "lastMatchId";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final MatchSearchSyncService matchSearchSyncService;
+
+    /**
+     * 배치 Job 정의
+     */
+    @Bean
+    public Job matchSearchRebuildJob() {
+        return new JobBuilder("matchSearchRebuildJob", jobRepository)
+                .start(syncMatchSearchStep())
+                .next(removeMatchSearchOrphansStep())
+                .build();
+    }
+
+    /**
+     * match → match_search 행 갱신/추가 Step
+     */
+    @Bean
+    public Step syncMatchSearchStep() {
+        return new StepBuilder("syncMatchSearchStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    ExecutionContext context = contribution.getStepExecution().getExecutionContext();
+                    long afterId = context.getLong(LAST_MATCH_ID_KEY, 0L);
+
+                    Long lastId = matchSearchSyncService.syncChunkAfter(afterId, CHUNK_SIZE);
+                    if (lastId == null) {
+                        log.info("[Batch] match_search sync finished. lastMatchId={}", afterId);
+                        return RepeatStatus.FINISHED;
+                    }
+
+                    context.putLong(LAST_MATCH_ID_KEY, lastId);
+                    return RepeatStatus.CONTINUABLE;
+                }, transactionManager)
+                .build();
+    }
+
+    /**
+     * 삭제된 매치의 match_search 행 정리 Step
+     */
+    @Bean
+    public Step removeMatchSearchOrphansStep() {
+        return new StepBuilder("removeMatchSearchOrphansStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    int deletedCount = matchSearchSyncService.removeOrphans();
+                    log.info("[Batch] match_search orphan rows removed. deletedCount={}", deletedCount);
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .build();
+    }
+}
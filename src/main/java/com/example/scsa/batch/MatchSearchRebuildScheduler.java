@@ -0,0 +1,90 @@
+package com.example.scsa.batch;
+
+import com.example.scsa.repository.MatchRepository;
+import com.example.scsa.repository.MatchSearchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * match_search 읽기 모델 재빌드 Job을 실행하는 스케줄러
+ *
+ * - 매일 새벽 4시: match 테이블 기준 전체 재빌드 (drift 보정)
+ * - 애플리케이션 시작 시: match_search가 비어있는데 매치가 있거나,
+ *   새로 추가된 컬럼이 채워지지 않은 행이 있거나,
+ *   모집 조건 비트마스크가 컬렉션과 어긋난(컬렉션은 있는데 mask가 0인) 매치가 있으면 재빌드
+ *   → mask 컬럼 도입 직후 기존 매치가 새벽 4시까지 "제한 없음"으로 검색되지 않게 함
+ *
+ * ShedLock으로 분산 환경에서 한 서버만 실행 (MatchStatusScheduler와 동일)
+ *  - 시작 시 확인도 같은 락 이름을 사용 → 여러 서버가 동시에 떠도 재빌드는 한 번만,
+ *    매일 재빌드와도 겹치지 않음 (락을 얻지 못한 서버는 건너뜀)
+ */
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class MatchSearchRebuildScheduler {
+
+    private final JobLauncher jobLauncher;
+    private final Job matchSearchRebuildJob;
+    private final MatchRepository matchRepository;
+    private final MatchSearchRepository matchSearchRepository;
+
+    @Scheduled(cron = "0 0 4 * * *")   // 매일 04:00 실행
+    @SchedulerLock(
+        name = "matchSearchRebuildJob",
+        lockAtMostFor = "30m",
+        lockAtLeastFor = "1m"
+    )
+    public void runMatchSearchRebuildJob() {
+        launch();
+    }
+
+    /**
+     * 읽기 모델 도입/컬럼 추가 직후처럼 match_search가 비어있거나 덜 채워져 있으면 재빌드
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @SchedulerLock(
+        name = "matchSearchRebuildJob",
+        lockAtMostFor = "30m",
+        lockAtLeastFor = "1m"
+    )
+    public void initializeIfStale() {
+        try {
+            if (matchSearchRepository.count() == 0 && matchRepository.count() > 0) {
+                log.info("[Scheduler] match_search is empty. Starting initial rebuild");
+                launch();
+            } else if (matchSearchRepository.existsByStartMinuteOfDayIsNull()) {
+                log.info("[Scheduler] match_search has unfilled columns. Starting rebuild");
+                launch();
+            } else if (matchRepository.existsWithUnsyncedMasks()) {
+                log.info("[Scheduler] match has unsynced recruitment masks. Starting rebuild");
+                launch();
+            }
+        } catch (Exception e) {
+            log.error("[Scheduler] Failed to check match_search initial state", e);
+        }
+    }
+
+    private void launch() {
+        try {
+            // JobParameters는 매 실행마다 달라야 새로운 JobInstance로 인식됨
+            JobParameters params = new JobParametersBuilder()
+                    .addLong("timestamp", System.currentTimeMillis())
+                    .toJobParameters();
+
+            log.info("[Scheduler] Starting matchSearchRebuildJob with params={}", params);
+            jobLauncher.run(matchSearchRebuildJob, params);
+            log.info("[Scheduler] Completed matchSearchRebuildJob");
+        } catch (Exception e) {
+            log.error("[Scheduler] Failed to run matchSearchRebuildJob", e);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.scsa.batch;
 
+import com.example.scsa.domain.event.MatchChangedEvent;
 import com.example.scsa.domain.vo.MatchStatus;
 import com.example.scsa.repository.MatchRepository;
+import com.example.scsa.service.match.MatchSearchSyncService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -10,6 +12,7 @@ import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -21,6 +24,7 @@ import java.time.LocalDateTime;
  * - Job 이름: matchStatusUpdateJob
  * - Step 이름: closeExpiredMatchesStep
  * - 역할: 현재 시간 기준으로 이미 시작한(RECRUITING 상태) 매치를 COMPLETED로 일괄 변경
+ *         (match_search 읽기 모델도 같은 트랜잭션에서 같은 조건으로 변경)
  */
 @Configuration
 @RequiredArgsConstructor
@@ -30,6 +34,8 @@ public class MatchStatusBatchConfig {
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private final MatchRepository matchRepository;
+    private final MatchSearchSyncService matchSearchSyncService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 배치 Job 정의
@@ -55,8 +61,14 @@ public class MatchStatusBatchConfig {
                             MatchStatus.RECRUITING,
                             MatchStatus.COMPLETED
                     );
+                    matchSearchSyncService.onExpired(now);
 
                     log.info("[Batch] Expired match auto-complete executed. now={}, updatedCount={}", now, updatedCount);
+
+                    // 변경된 매치가 있으면 매치 변경 이벤트 발행 (커밋 후 목록 캐시 무효화 등)
+                    if (updatedCount > 0) {
+                        eventPublisher.publishEvent(MatchChangedEvent.expired());
+                    }
                     return RepeatStatus.FINISHED;
                 }, transactionManager)
                 .build();
@@ -58,8 +58,8 @@ public class CorsConfig {
         // preflight 요청 캐시 시간
         configuration.setMaxAge(maxAge);
 
-        // 노출할 헤더 (프론트엔드에서 접근 가능)
-        configuration.setExposedHeaders(Arrays.asList("Authorization"));
+        // 노출할 헤더 (프론트엔드에서 접근 가능, ETag: 매치 조회 조건부 요청용)
+        configuration.setExposedHeaders(Arrays.asList("Authorization", "ETag"));
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
@@ -0,0 +1,85 @@
+package com.example.scsa.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+/**
+ * Court 위치 SPATIAL 인덱스 설정
+ * 반경 검색 시 주변 코트만 인덱스로 빠르게 찾기 위한 POINT 컬럼/인덱스를 준비
+ *
+ * 작동 방식:
+ * 1. court 테이블에 latitude/longitude로부터 계산되는 location_point 컬럼 생성
+ *    (STORED generated column → INSERT/UPDATE 시 MySQL이 자동으로 값 유지)
+ * 2. location_point 컬럼에 SPATIAL INDEX 생성
+ * 3. MatchSearchRepositoryImpl에서 MBRContains(bounding box, location_point)로 주변 코트만 조회
+ *
+ * 참고:
+ * - JPA(ddl-auto)는 SPATIAL INDEX / generated column을 만들 수 없으므로 애플리케이션 시작 시 생성
+ * - 이미 존재하면 건너뜀
+ * - MySQL 전용 DDL이므로 다른 DB(테스트용 H2 등)에서는 실행하지 않음
+ */
+@Slf4j
+@Configuration
+public class CourtSpatialIndexConfig {
+
+    @Bean
+    public CommandLineRunner initCourtSpatialIndex(DataSource dataSource) {
+        return args -> {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+            if (!isMySql(jdbcTemplate)) {
+                log.info("Court SPATIAL 인덱스 초기화 건너뜀 (MySQL 아님)");
+                return;
+            }
+
+            try {
+                Integer columnCount = jdbcTemplate.queryForObject("""
+                    SELECT COUNT(*)
+                      FROM information_schema.columns
+                     WHERE table_schema = DATABASE()
+                       AND table_name = 'court'
+                       AND column_name = 'location_point'
+                    """, Integer.class);
+
+                if (columnCount == null || columnCount == 0) {
+                    jdbcTemplate.execute("""
+                        ALTER TABLE court
+                          ADD COLUMN location_point POINT SRID 0
+                              GENERATED ALWAYS AS (POINT(longitude, latitude)) STORED NOT NULL
+                              COMMENT '코트 좌표 (x=경도, y=위도)'
+                        """);
+                }
+
+                Integer indexCount = jdbcTemplate.queryForObject("""
+                    SELECT COUNT(*)
+                      FROM information_schema.statistics
+                     WHERE table_schema = DATABASE()
+                       AND table_name = 'court'
+                       AND index_name = 'idx_court_location_point'
+                    """, Integer.class);
+
+                if (indexCount == null || indexCount == 0) {
+                    jdbcTemplate.execute(
+                            "ALTER TABLE court ADD SPATIAL INDEX idx_court_location_point (location_point)");
+                }
+
+                log.info("✅ Court SPATIAL 인덱스 초기화 완료 (이미 존재하거나 새로 생성됨)");
+            } catch (Exception e) {
+                log.error("❌ Court SPATIAL 인덱스 생성 실패: {}", e.getMessage());
+                throw new RuntimeException("Court SPATIAL 인덱스 초기화 실패", e);
+            }
+        };
+    }
+
+    private boolean isMySql(JdbcTemplate jdbcTemplate) {
+        String productName = jdbcTemplate.execute(
+                (Connection connection) -> connection.getMetaData().getDatabaseProductName());
+        return productName != null && productName.toLowerCase().contains("mysql");
+    }
+}
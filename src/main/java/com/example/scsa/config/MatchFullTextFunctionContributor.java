@@ -0,0 +1,27 @@
+package com.example.scsa.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * JPQL용 MySQL FULLTEXT 검색 함수 등록
+ *
+ * match_against(컬럼, 검색어) → MATCH(컬럼) AGAINST(검색어 IN BOOLEAN MODE)
+ * - 반환값은 relevance(double), WHERE 절에서 "> 0" 으로 사용
+ * - idx_match_search_description(ngram FULLTEXT) 인덱스는 MatchSearchFullTextIndexConfig에서 생성
+ *
+ * META-INF/services/org.hibernate.boot.model.FunctionContributor 로 Hibernate에 등록됨
+ */
+public class MatchFullTextFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                "match_against",
+                "match(?1) against(?2 in boolean mode)",
+                functionContributions.getTypeConfiguration()
+                        .getBasicTypeRegistry()
+                        .resolve(StandardBasicTypes.DOUBLE));
+    }
+}
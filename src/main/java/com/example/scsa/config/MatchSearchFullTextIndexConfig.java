@@ -0,0 +1,68 @@
+package com.example.scsa.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+/**
+ * match_search 설명(description) FULLTEXT 인덱스 설정
+ * 매치 목록 q(검색어) 필터를 LIKE '%...%' 전체 스캔 없이 처리하기 위한 ngram 인덱스를 준비
+ *
+ * 작동 방식:
+ * 1. match_search.description 컬럼에 ngram parser FULLTEXT INDEX 생성
+ *    (ngram_token_size 기본값 2 → 띄어쓰기 없는 한글 "초보환영" 안의 "초보"도 검색됨)
+ * 2. MatchSearchRepositoryImpl에서 match_against(description, 검색어) > 0 조건으로 조회
+ *    (MatchFullTextFunctionContributor가 MATCH ... AGAINST ... IN BOOLEAN MODE로 변환)
+ *
+ * 참고:
+ * - JPA(ddl-auto)는 FULLTEXT / ngram 인덱스를 만들 수 없으므로 애플리케이션 시작 시 생성
+ * - 이미 존재하면 건너뜀
+ * - MySQL 전용 DDL이므로 다른 DB(테스트용 H2 등)에서는 실행하지 않음
+ */
+@Slf4j
+@Configuration
+public class MatchSearchFullTextIndexConfig {
+
+    @Bean
+    public CommandLineRunner initMatchSearchFullTextIndex(DataSource dataSource) {
+        return args -> {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+            if (!isMySql(jdbcTemplate)) {
+                log.info("match_search FULLTEXT 인덱스 초기화 건너뜀 (MySQL 아님)");
+                return;
+            }
+
+            try {
+                Integer indexCount = jdbcTemplate.queryForObject("""
+                    SELECT COUNT(*)
+                      FROM information_schema.statistics
+                     WHERE table_schema = DATABASE()
+                       AND table_name = 'match_search'
+                       AND index_name = 'idx_match_search_description'
+                    """, Integer.class);
+
+                if (indexCount == null || indexCount == 0) {
+                    jdbcTemplate.execute(
+                            "ALTER TABLE match_search ADD FULLTEXT INDEX idx_match_search_description (description) WITH PARSER ngram");
+                }
+
+                log.info("✅ match_search FULLTEXT 인덱스 초기화 완료 (이미 존재하거나 새로 생성됨)");
+            } catch (Exception e) {
+                log.error("❌ match_search FULLTEXT 인덱스 생성 실패: {}", e.getMessage());
+                throw new RuntimeException("match_search FULLTEXT 인덱스 초기화 실패", e);
+            }
+        };
+    }
+
+    private boolean isMySql(JdbcTemplate jdbcTemplate) {
+        String productName = jdbcTemplate.execute(
+                (Connection connection) -> connection.getMetaData().getDatabaseProductName());
+        return productName != null && productName.toLowerCase().contains("mysql");
+    }
+}
@@ -3,7 +3,10 @@ package com.example.scsa.controller;
 import com.example.scsa.dto.match.*;
 import com.example.scsa.dto.response.ErrorResponse;
 import com.example.scsa.exception.match.InvalidMatchSearchParameterException;
+import com.example.scsa.exception.match.MatchExportLimitExceededException;
 import com.example.scsa.exception.match.MatchNotFoundException;
+import com.example.scsa.service.match.MatchClusterService;
+import com.example.scsa.service.match.MatchDataVersion;
 import com.example.scsa.service.match.MatchListService;
 import com.example.scsa.service.match.MatchSearchService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,8 +17,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("api/v1/matches")
@@ -26,14 +34,20 @@ public class MatchController {
 
     private final MatchSearchService matchSearchService;
     private final MatchListService matchListService;
+    private final MatchClusterService matchClusterService;
+    private final MatchDataVersion matchDataVersion;
 
     /**
      * 매치 단건 조회
      * GET /api/v1/matches/{match_id}
+     *
+     * 응답에 매치 버전 기반 weak ETag를 내려주고,
+     * If-None-Match가 현재 ETag와 같으면 조회 없이 304를 반환한다.
      */
     @Operation(
             summary = "매치 상세 조회",
-            description = "match_id로 특정 매치의 상세 정보를 조회합니다."
+            description = "match_id로 특정 매치의 상세 정보를 조회합니다. "
+                    + "If-None-Match가 응답 ETag와 같으면 304를 반환합니다."
     )
     @ApiResponses({
             @ApiResponse(
@@ -41,6 +55,10 @@ public class MatchController {
                     description = "조회 성공",
                     content = @Content(schema = @Schema(implementation = MatchSearchDTO.class))
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "변경 없음 (If-None-Match 일치)"
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "매치를 찾을 수 없음",
@@ -53,14 +71,23 @@ public class MatchController {
             )
     })
     @GetMapping("/{match_id}")
-    public ResponseEntity<?> searchMatch(@PathVariable("match_id") Long matchId) {
+    public ResponseEntity<?> searchMatch(@PathVariable("match_id") Long matchId,
+                                         @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
             log.info("매치 상세 조회 요청 - matchId: {}", matchId);
 
-            MatchSearchDTO dto = matchSearchService.searchMatch(matchId);
+            // 조회 전에 버전을 읽어 ETag 생성 (변경 없으면 DB 조회 없이 304)
+            String version = matchDataVersion.detailVersion(matchId);
+            String etag = matchDataVersion.detailETag(version);
+            if (matchDataVersion.detailNotModified(ifNoneMatch, etag)) {
+                return notModified(etag);
+            }
+
+            // 같은 버전으로 상세 캐시(L1 → L2) 조회, 없으면 DB 조회 후 저장
+            MatchSearchDTO dto = matchSearchService.searchMatch(matchId, version);
 
             log.info("매치 상세 조회 성공 - matchId: {}", matchId);
-            return ResponseEntity.ok(dto);
+            return ok(dto, etag);
 
         } catch (MatchNotFoundException e) {
             log.warn("매치 상세 조회 실패 - 존재하지 않는 matchId: {}", matchId);
@@ -77,10 +104,14 @@ public class MatchController {
     /**
      * 매치 리스트 조회
      * GET /api/v1/matches?{...}
+     *
+     * 응답에 전역 매치 버전 기반 weak ETag를 내려주고,
+     * If-None-Match가 현재 ETag와 같으면 조회 없이 304를 반환한다.
      */
     @Operation(
             summary = "매치 리스트 조회",
-            description = "필터 및 정렬 조건을 바탕으로 매치 목록을 조회합니다."
+            description = "필터 및 정렬 조건을 바탕으로 매치 목록을 조회합니다. "
+                    + "If-None-Match가 응답 ETag와 같으면 304를 반환합니다."
     )
     @ApiResponses({
             @ApiResponse(
@@ -88,6 +119,10 @@ public class MatchController {
                     description = "조회 성공",
                     content = @Content(schema = @Schema(implementation = MatchListResponseDTO.class))
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "변경 없음 (If-None-Match 일치)"
+            ),
             @ApiResponse(
                     responseCode = "400",
                     description = "잘못된 조회 파라미터",
@@ -100,10 +135,17 @@ public class MatchController {
             )
     })
     @GetMapping
-    public ResponseEntity<?> getMatches(@ModelAttribute MatchListRequestDTO request) {
+    public ResponseEntity<?> getMatches(@ModelAttribute MatchListRequestDTO request,
+                                        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
+            // 조회 전에 버전을 읽어 ETag 생성 (변경 없으면 파라미터 검증/DB 조회 없이 304)
+            String etag = matchDataVersion.listETag(request);
+            if (matchDataVersion.listNotModified(ifNoneMatch, etag)) {
+                return notModified(etag);
+            }
+
             MatchListResponseDTO response = matchListService.getMatchList(request);
-            return ResponseEntity.ok(response);
+            return ok(response, etag);
         } catch(InvalidMatchSearchParameterException e){
             log.error("잘못된 매치 조회 : {}",e.getMessage(), e);
             return ResponseEntity.status(400)
@@ -115,4 +157,178 @@ public class MatchController {
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * 매치 필터 facet 개수 조회
+     * GET /api/v1/matches/facets?{...}
+     *
+     * 매치 리스트 조회와 같은 필터 기준으로 gameType별 / status별 / 날짜별 매치 수를 한 번에 내려준다.
+     */
+    @Operation(
+            summary = "매치 필터 facet 개수 조회",
+            description = "매치 리스트 조회와 같은 필터 기준으로 gameType별, status별, 시작 날짜별 매치 수를 조회합니다. "
+                    + "gameType / status 개수는 각자의 필터를 제외한 나머지 조건 기준입니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = MatchFacetResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 조회 파라미터",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "서버 내부 오류",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @GetMapping("/facets")
+    public ResponseEntity<?> getMatchFacets(@ModelAttribute MatchListRequestDTO request) {
+        try {
+            MatchFacetResponseDTO response = matchListService.getMatchFacets(request);
+            return ResponseEntity.ok(response);
+        } catch(InvalidMatchSearchParameterException e){
+            log.error("잘못된 매치 facet 조회 : {}",e.getMessage(), e);
+            return ResponseEntity.status(400)
+                    .body(ErrorResponse.of("잘못된 매치 조회", "INVALID_MATCH_SEARCH_PARAMETER"));
+        } catch(Exception e){
+            log.error("매치 facet 조회 실패 - 서버오류 : {}",  e.getMessage(), e);
+            return ResponseEntity.status(500)
+                    .body(ErrorResponse.of("서버 내부 오류가 발생했습니다.", "INTERNAL_SERVER_ERROR"));
+        }
+    }
+
+    /**
+     * 지도용 매치 클러스터 조회
+     * GET /api/v1/matches/clusters?bbox={minLat,minLng,maxLat,maxLng}&zoom={zoom}
+     *
+     * 지도 화면 영역(bbox) 안의 모집 중 매치를 zoom에 따른 격자 셀 단위로 묶어
+     * 셀별 매치 수 / 중심 좌표 / 가장 빠른 시작 시각만 내려준다.
+     */
+    @Operation(
+            summary = "지도용 매치 클러스터 조회",
+            description = "bbox(minLat,minLng,maxLat,maxLng) 안의 모집 중 매치를 zoom(0~21)에 따른 격자 셀로 묶어 "
+                    + "셀별 매치 수, 중심 좌표, 가장 빠른 시작 시각을 조회합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = MatchClusterResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 조회 파라미터",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "서버 내부 오류",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @GetMapping("/clusters")
+    public ResponseEntity<?> getMatchClusters(@RequestParam(value = "bbox", required = false) String bbox,
+                                              @RequestParam(value = "zoom", required = false) Integer zoom) {
+        try {
+            MatchClusterResponseDTO response = matchClusterService.getClusters(bbox, zoom);
+            return ResponseEntity.ok(response);
+        } catch(InvalidMatchSearchParameterException e){
+            log.error("잘못된 매치 클러스터 조회 : {}",e.getMessage(), e);
+            return ResponseEntity.status(400)
+                    .body(ErrorResponse.of("잘못된 매치 조회", "INVALID_MATCH_SEARCH_PARAMETER"));
+        } catch(Exception e){
+            log.error("매치 클러스터 조회 실패 - 서버오류 : {}",  e.getMessage(), e);
+            return ResponseEntity.status(500)
+                    .body(ErrorResponse.of("서버 내부 오류가 발생했습니다.", "INTERNAL_SERVER_ERROR"));
+        }
+    }
+
+    /**
+     * 매치 리스트 내보내기 (NDJSON)
+     * GET /api/v1/matches/export?{...}
+     *
+     * 매치 리스트 조회와 같은 필터를 사용하며, 페이지 없이 조건에 맞는 전체 매치를
+     * 한 줄에 하나씩(application/x-ndjson) 스트리밍으로 응답한다.
+     * 로그인 사용자만 호출할 수 있고, 서버별 동시 내보내기 수를 넘으면 429로 거절한다.
+     */
+    @Operation(
+            summary = "매치 리스트 내보내기 (NDJSON)",
+            description = "매치 리스트 조회와 같은 필터로 조건에 맞는 전체 매치를 NDJSON 스트림으로 내려줍니다. "
+                    + "sort는 createdAt / latest만 지원하며 size, cursor는 무시합니다. 인증이 필요합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "내보내기 성공 (한 줄에 MatchSearchDTO 하나)",
+                    content = @Content(mediaType = "application/x-ndjson",
+                            schema = @Schema(implementation = MatchSearchDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 조회 파라미터",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "인증되지 않은 사용자",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "429",
+                    description = "동시 내보내기 제한 초과",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "서버 내부 오류",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @GetMapping("/export")
+    public ResponseEntity<?> exportMatches(@ModelAttribute MatchListRequestDTO request) {
+        try {
+            StreamingResponseBody body = matchListService.exportMatches(request);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(body);
+        } catch(InvalidMatchSearchParameterException e){
+            log.error("잘못된 매치 내보내기 : {}",e.getMessage(), e);
+            return ResponseEntity.status(400)
+                    .body(ErrorResponse.of("잘못된 매치 조회", "INVALID_MATCH_SEARCH_PARAMETER"));
+        } catch(MatchExportLimitExceededException e){
+            return ResponseEntity.status(429)
+                    .body(ErrorResponse.of(e.getMessage(), "MATCH_EXPORT_LIMIT_EXCEEDED"));
+        } catch(Exception e){
+            log.error("매치 내보내기 실패 - 서버오류 : {}",  e.getMessage(), e);
+            return ResponseEntity.status(500)
+                    .body(ErrorResponse.of("서버 내부 오류가 발생했습니다.", "INTERNAL_SERVER_ERROR"));
+        }
+    }
+
+    /**
+     * 200 응답 (ETag가 있으면 헤더 포함, 클라이언트가 매번 재검증하도록 no-cache)
+     */
+    private ResponseEntity<?> ok(Object body, String etag) {
+        if (etag == null) {
+            return ResponseEntity.ok(body);
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(body);
+    }
+
+    /**
+     * 304 응답 (본문 없음)
+     */
+    private ResponseEntity<?> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .build();
+    }
+}
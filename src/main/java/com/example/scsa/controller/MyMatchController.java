@@ -5,6 +5,7 @@ import com.example.scsa.dto.response.ErrorResponse;
 import com.example.scsa.exception.match.InvalidMatchStatusChangeException;
 import com.example.scsa.exception.match.MatchAccessDeniedException;
 import com.example.scsa.exception.match.MatchNotFoundException;
+import com.example.scsa.exception.match.MatchScheduleConflictException;
 import com.example.scsa.service.match.MatchMyListService;
 import com.example.scsa.service.match.MatchService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -56,6 +57,11 @@ public class MyMatchController {
                     description = "인증되지 않은 사용자",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))
             ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "같은 코트, 같은 시간대에 모집 중인 매치가 있음 (겹치는 매치 ID를 error 메시지에 포함)",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
             @ApiResponse(
                     responseCode = "500",
                     description = "서버 내부 오류",
@@ -86,6 +92,11 @@ public class MyMatchController {
             return ResponseEntity.badRequest()
                     .body(ErrorResponse.of("요청 데이터가 유효하지 않습니다.", e.getMessage()));
 
+        } catch (MatchScheduleConflictException e) {
+            log.warn("매치 등록 실패 - 시간 겹침: {}", e.getConflictingMatchIds());
+            return ResponseEntity.status(409)
+                    .body(ErrorResponse.of(e.getMessage(), "MATCH_SCHEDULE_CONFLICT"));
+
         } catch (Exception e) {
             log.error("매치 등록 중 서버 에러 발생", e);
             return ResponseEntity.status(500)
@@ -169,6 +180,8 @@ public class MyMatchController {
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "매치 없음",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "모집 재개 시 같은 코트, 같은 시간대에 모집 중인 매치가 있음",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "서버 내부 오류",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
@@ -203,6 +216,10 @@ public class MyMatchController {
             log.warn("매치 상태 변경 실패 - 권한 없음, matchId: {}, userId: {}", matchId, authentication.getName());
             return ResponseEntity.status(403)
                     .body(ErrorResponse.of("해당 매치를 삭제할 권한이 없습니다.", "FORBIDDEN"));
+        } catch (MatchScheduleConflictException e) {
+            log.warn("매치 상태 변경 실패 - 시간 겹침, matchId: {}, conflicts: {}", matchId, e.getConflictingMatchIds());
+            return ResponseEntity.status(409)
+                    .body(ErrorResponse.of(e.getMessage(), "MATCH_SCHEDULE_CONFLICT"));
         } catch (Exception e) {
             log.error("매치 상태 변경 실패 - 서버오류 : {}", e.getMessage(), e);
             return ResponseEntity.status(500)
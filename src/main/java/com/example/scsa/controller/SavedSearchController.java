@@ -0,0 +1,166 @@
+package com.example.scsa.controller;
+
+import com.example.scsa.dto.alert.SavedSearchDTO;
+import com.example.scsa.dto.match.MatchListRequestDTO;
+import com.example.scsa.dto.response.ErrorResponse;
+import com.example.scsa.exception.alert.SavedSearchNotFoundException;
+import com.example.scsa.exception.match.InvalidMatchSearchParameterException;
+import com.example.scsa.service.alert.SavedSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("api/v1/me/saved-searches")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "매치 알림 API (인증 필요 O)",
+        description = "매치 검색 조건 저장/조회/삭제 API. 저장한 조건에 맞는 매치가 생성되면 "
+                + "STOMP /user/queue/match-alerts 로 MatchAlertDTO 알림을 받습니다.")
+public class SavedSearchController {
+
+    private final SavedSearchService savedSearchService;
+
+    /*
+     * 검색 조건 저장
+     * POST /api/v1/me/saved-searches
+     */
+    @Operation(
+            summary = "매치 검색 조건 저장 (알림 등록)",
+            description = "매치 리스트 조회와 같은 필터(startDate, endDate, startTime, endTime, gameType, ageRange, gender, "
+                    + "period, latitude, longitude, radius)를 저장합니다. 조건에 맞는 매치가 새로 생성되면 알림을 받습니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "저장 성공",
+                    content = @Content(schema = @Schema(implementation = SavedSearchDTO.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 검색 조건 또는 최대 개수 초과",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping
+    public ResponseEntity<?> createSavedSearch(@RequestBody MatchListRequestDTO request) {
+
+        Long userId = currentUserId();
+        if (userId == null) {
+            return ResponseEntity.status(401)
+                    .body(ErrorResponse.of("인증되지 않은 사용자입니다.", "UNAUTHORIZED"));
+        }
+
+        try {
+            SavedSearchDTO response = savedSearchService.createSavedSearch(userId, request);
+            return ResponseEntity.ok(response);
+        } catch (InvalidMatchSearchParameterException e) {
+            log.warn("잘못된 검색 조건 저장 - userId: {}, error: {}", userId, e.getMessage());
+            return ResponseEntity.status(400)
+                    .body(ErrorResponse.of(e.getMessage(), "INVALID_MATCH_SEARCH_PARAMETER"));
+        } catch (Exception e) {
+            log.error("검색 조건 저장 실패 - 서버오류 : {}", e.getMessage(), e);
+            return ResponseEntity.status(500)
+                    .body(ErrorResponse.of("서버 내부 오류가 발생했습니다.", "INTERNAL_SERVER_ERROR"));
+        }
+    }
+
+    /*
+     * 내 저장된 검색 목록
+     * GET /api/v1/me/saved-searches
+     */
+    @Operation(
+            summary = "내 저장된 매치 검색 목록",
+            description = "로그인한 사용자가 저장한 매치 검색 조건 목록을 최신순으로 조회합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = SavedSearchDTO.class)))),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping
+    public ResponseEntity<?> getSavedSearches() {
+
+        Long userId = currentUserId();
+        if (userId == null) {
+            return ResponseEntity.status(401)
+                    .body(ErrorResponse.of("인증되지 않은 사용자입니다.", "UNAUTHORIZED"));
+        }
+
+        try {
+            List<SavedSearchDTO> response = savedSearchService.getSavedSearches(userId);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("저장된 검색 목록 조회 실패 - 서버오류 : {}", e.getMessage(), e);
+            return ResponseEntity.status(500)
+                    .body(ErrorResponse.of("서버 내부 오류가 발생했습니다.", "INTERNAL_SERVER_ERROR"));
+        }
+    }
+
+    /*
+     * 저장된 검색 삭제
+     * DELETE /api/v1/me/saved-searches/{saved_search_id}
+     */
+    @Operation(
+            summary = "저장된 매치 검색 삭제 (알림 해제)",
+            description = "로그인한 사용자가 자신이 저장한 매치 검색 조건을 삭제합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "삭제 성공",
+                    content = @Content(schema = @Schema(implementation = String.class))),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "저장된 검색 없음",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @DeleteMapping("/{saved_search_id}")
+    public ResponseEntity<?> deleteSavedSearch(@PathVariable("saved_search_id") Long savedSearchId) {
+
+        Long userId = currentUserId();
+        if (userId == null) {
+            return ResponseEntity.status(401)
+                    .body(ErrorResponse.of("인증되지 않은 사용자입니다.", "UNAUTHORIZED"));
+        }
+
+        try {
+            savedSearchService.deleteSavedSearch(userId, savedSearchId);
+            return ResponseEntity.ok("저장된 검색이 삭제되었습니다.");
+        } catch (SavedSearchNotFoundException e) {
+            log.warn("저장된 검색 삭제 실패 - 존재하지 않음, savedSearchId: {}", savedSearchId);
+            return ResponseEntity.status(404)
+                    .body(ErrorResponse.of("요청한 저장된 검색을 찾을 수 없습니다.", "SAVED_SEARCH_NOT_FOUND"));
+        } catch (Exception e) {
+            log.error("저장된 검색 삭제 실패 - 서버오류 : {}", e.getMessage(), e);
+            return ResponseEntity.status(500)
+                    .body(ErrorResponse.of("서버 내부 오류가 발생했습니다.", "INTERNAL_SERVER_ERROR"));
+        }
+    }
+
+    /**
+     * 현재 로그인 사용자 ID (인증되지 않았으면 null)
+     */
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return Long.parseLong(authentication.getName());
+    }
+}
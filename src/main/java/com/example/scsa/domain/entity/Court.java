@@ -40,6 +40,10 @@ public class Court {
     @Column(nullable = false)
     private Double longitude;
 
+    // 참고: 반경 검색용 location_point(POINT) 컬럼과 SPATIAL 인덱스는
+    // latitude/longitude로부터 MySQL이 자동 계산하는 generated column으로,
+    // 엔티티에 매핑하지 않고 CourtSpatialIndexConfig에서 생성한다.
+
     // 코트 이미지 URL (선택사항)
     private String imgUrl;
 
@@ -1,6 +1,7 @@
 package com.example.scsa.domain.entity;
 
 import com.example.scsa.domain.vo.*;
+import com.example.scsa.util.EnumBitMask;
 import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,7 +20,14 @@ import java.util.Set;
  * BaseTimeEntity 상속으로 createdAt, lastModifiedAt 자동 관리
  */
 @Entity
-@Table(name = "`match`")  // MySQL 예약어이므로 백틱 사용
+@Table(
+    name = "`match`",  // MySQL 예약어이므로 백틱 사용
+    indexes = {
+        // 만료 매치 일괄 완료 배치(completeExpiredMatches)용
+        // 목록 조회용 인덱스는 읽기 모델(match_search)에 있음
+        @Index(name = "idx_match_status_start_at", columnList = "match_status, match_start_date_time, match_id")
+    }
+)
 @Getter
 @NoArgsConstructor
 public class Match extends BaseTimeEntity {
@@ -80,6 +88,18 @@ public class Match extends BaseTimeEntity {
     @Column(name = "period")
     private Set<Period> periods = new HashSet<>();
 
+    // 모집 조건 비트마스크: ages / genders / periods 집합을 enum ordinal 비트로 미러링
+    // - 목록 필터((mask & 요청비트) != 0)와 응답 변환에서 컬렉션 테이블 조회 없이 사용
+    // - add*() 에서 함께 갱신, 어긋난 경우 syncMasks()로 재계산 (match_search 재빌드 시)
+    @Column(nullable = false)
+    private int agesMask;
+
+    @Column(nullable = false)
+    private int gendersMask;
+
+    @Column(nullable = false)
+    private int periodsMask;
+
     // 매치 시작 시간
     @Column(nullable = false)
     private LocalDateTime matchStartDateTime;
@@ -144,16 +164,26 @@ public class Match extends BaseTimeEntity {
     // 비즈니스 로직: 모집 조건에 나이대 추가
     public void addAge(Age age) {
         this.ages.add(age);
+        this.agesMask |= EnumBitMask.bitOf(age);
     }
 
     // 비즈니스 로직: 모집 조건에 성별 추가
     public void addGender(Gender gender) {
         this.genders.add(gender);
+        this.gendersMask |= EnumBitMask.bitOf(gender);
     }
 
     // 비즈니스 로직: 모집 조건에 경력 추가
     public void addPeriod(Period period) {
         this.periods.add(period);
+        this.periodsMask |= EnumBitMask.bitOf(period);
+    }
+
+    // 비즈니스 로직: 모집 조건 컬렉션 기준으로 비트마스크 재계산 (컬렉션 로딩 발생)
+    public void syncMasks() {
+        this.agesMask = EnumBitMask.encode(this.ages);
+        this.gendersMask = EnumBitMask.encode(this.genders);
+        this.periodsMask = EnumBitMask.encode(this.periods);
     }
 
     // 비즈니스 로직: 매치 상태 변경 (모집중 → 완료 등)
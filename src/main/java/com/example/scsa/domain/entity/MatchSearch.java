@@ -0,0 +1,189 @@
+package com.example.scsa.domain.entity;
+
+import com.example.scsa.domain.vo.GameType;
+import com.example.scsa.domain.vo.MatchStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매치 검색용 비정규화 읽기 모델 (match_search 테이블)
+ *
+ * 목록 조회(MatchListService, MatchMyListService)가 match / court / user 조인과
+ * match_age / match_gender / match_period 컬렉션 로딩 없이 한 행으로 응답을 만들 수 있도록
+ * MatchSearchDTO에 필요한 값을 모두 평평하게 보관한다.
+ *
+ * 설계 참고:
+ * - PK는 match_id 그대로 사용 (매치 1건 = 행 1개)
+ * - 나이대/성별/경력 Set은 enum ordinal 비트마스크(int)로 저장 (EnumBitMask)
+ * - 쓰기 시점에 MatchSearchSyncService가 같은 트랜잭션에서 갱신
+ *   (매치 생성/삭제/상태 변경, 만료 배치, 회원 탈퇴)
+ * - 불일치(drift)는 matchSearchRebuildJob이 주기적으로 match 테이블 기준으로 바로잡음
+ * - PK를 직접 지정하므로 Persistable로 신규 여부를 알려 save() 시 불필요한 merge(SELECT)를 피함
+ */
+@Entity
+@Table(
+    name = "match_search",
+    indexes = {
+        // 목록 keyset 페이지네이션용 (sort=createdAt / sort=latest)
+        @Index(name = "idx_match_search_status_created_at", columnList = "match_status, created_at, match_id"),
+        @Index(name = "idx_match_search_status_start_at", columnList = "match_status, match_start_date_time, match_id"),
+        // 시간대(startTime~endTime) 필터용
+        @Index(name = "idx_match_search_status_minutes", columnList = "match_status, start_minute_of_day, end_minute_of_day"),
+        // 내 매치 목록 (host_id 기준 match_id 내림차순)
+        @Index(name = "idx_match_search_host", columnList = "host_id, match_id"),
+        // 반경 이내 코트 ID(IN) 필터 + 매치 생성 시 같은 코트 시간 겹침 확인 (court_id, 상태, 시작 시각 범위)
+        @Index(name = "idx_match_search_court_status_start", columnList = "court_id, match_status, match_start_date_time")
+    }
+)
+@Getter
+@NoArgsConstructor
+public class MatchSearch implements Persistable<Long> {
+
+    // 기본키: match.match_id 그대로 사용
+    @Id
+    @Column(name = "match_id")
+    private Long matchId;
+
+    @Column(name = "host_id", nullable = false)
+    private Long hostId;
+
+    @Column(name = "court_id", nullable = false)
+    private Long courtId;
+
+    // 코트 좌표 (거리 계산용, court 조인 없이 사용)
+    @Column(nullable = false)
+    private Double courtLatitude;
+
+    @Column(nullable = false)
+    private Double courtLongitude;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private GameType gameType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MatchStatus matchStatus;
+
+    @Column(nullable = false)
+    private LocalDateTime matchStartDateTime;
+
+    @Column(nullable = false)
+    private LocalDateTime matchEndDateTime;
+
+    // 시작/종료 시각의 하루 중 분 (0 ~ 1439, 시간대 필터를 SQL에서 처리하기 위함)
+    // 컬럼 도입 전 행은 null → 재빌드(matchSearchRebuildJob) 시 채워짐
+    @Column(name = "start_minute_of_day")
+    private Integer startMinuteOfDay;
+
+    @Column(name = "end_minute_of_day")
+    private Integer endMinuteOfDay;
+
+    @Column(nullable = false)
+    private Long fee;
+
+    @Column(nullable = false)
+    private Long playerCountMen;
+
+    @Column(nullable = false)
+    private Long playerCountWomen;
+
+    private String description;
+
+    // 모집 조건 비트마스크 (Age / Gender / Period ordinal, match 테이블 값 복사)
+    @Column(nullable = false)
+    private int agesMask;
+
+    @Column(nullable = false)
+    private int gendersMask;
+
+    @Column(nullable = false)
+    private int periodsMask;
+
+    // 현재 참가 인원 (호스트 포함)
+    @Column(nullable = false)
+    private int guestCount;
+
+    // match 테이블의 생성/수정 시간 복사본
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime lastModifiedAt;
+
+    // 아직 저장되지 않은 행인지 여부 (from()으로 만든 경우만 true)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean newRow;
+
+    private MatchSearch(Long matchId) {
+        this.matchId = matchId;
+        this.newRow = true;
+    }
+
+    @Override
+    public Long getId() {
+        return matchId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newRow;
+    }
+
+    @PostPersist
+    @PostLoad
+    private void markNotNew() {
+        this.newRow = false;
+    }
+
+    /**
+     * Match 엔티티 → 읽기 모델 행 생성
+     */
+    public static MatchSearch from(Match match) {
+        MatchSearch row = new MatchSearch(match.getId());
+        row.refreshFrom(match);
+        return row;
+    }
+
+    /**
+     * Match 엔티티 기준으로 모든 컬럼 갱신 (재빌드/보정용)
+     */
+    public void refreshFrom(Match match) {
+        this.hostId = match.getHost().getId();
+        this.courtId = match.getCourt().getId();
+        this.courtLatitude = match.getCourt().getLatitude();
+        this.courtLongitude = match.getCourt().getLongitude();
+        this.gameType = match.getGameType();
+        this.matchStatus = match.getMatchStatus();
+        this.matchStartDateTime = match.getMatchStartDateTime();
+        this.matchEndDateTime = match.getMatchEndDateTime();
+        this.startMinuteOfDay = minuteOfDay(match.getMatchStartDateTime());
+        this.endMinuteOfDay = minuteOfDay(match.getMatchEndDateTime());
+        this.fee = match.getFee();
+        this.playerCountMen = match.getPlayerCountMen();
+        this.playerCountWomen = match.getPlayerCountWomen();
+        this.description = match.getDescription();
+        this.agesMask = match.getAgesMask();
+        this.gendersMask = match.getGendersMask();
+        this.periodsMask = match.getPeriodsMask();
+        this.guestCount = match.getCurrentGuestCount();
+        this.createdAt = match.getCreatedAt();
+        this.lastModifiedAt = match.getLastModifiedAt();
+    }
+
+    // 하루 중 분 (초 단위는 버림, 매치 시각은 분 단위로 등록됨)
+    private static int minuteOfDay(LocalDateTime dateTime) {
+        return dateTime.getHour() * 60 + dateTime.getMinute();
+    }
+
+    // 매치 상태 변경 반영
+    public void updateMatchStatus(MatchStatus newStatus) {
+        this.matchStatus = newStatus;
+        this.lastModifiedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.scsa.domain.entity;
+
+import com.example.scsa.domain.vo.GameType;
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 저장된 매치 검색 조건 (매치 알림)
+ * 사용자가 저장한 목록 검색 필터에 맞는 매치가 새로 생성되면 STOMP 사용자 큐로 알림을 보냄
+ *
+ * 설계 참고:
+ * - 조건 표현은 목록 조회(MatchSearchCondition)와 같음: 날짜 범위, 하루 중 시간대(분), gameType,
+ *   모집 조건 비트마스크(0이면 필터링 하지 않음), 기준 좌표 + 반경
+ * - 새 매치 평가는 DB가 아니라 SavedSearchIndex(역색인)에서 수행
+ * - CreatableEntity 상속: 수정 없이 생성/삭제만 함
+ */
+@Entity
+@Table(
+    name = "saved_search",
+    indexes = {
+        // 내 저장된 검색 목록
+        @Index(name = "idx_saved_search_user", columnList = "user_id, saved_search_id")
+    }
+)
+@Getter
+@NoArgsConstructor
+public class SavedSearch extends CreatableEntity {
+
+    // 기본키: 자동 증가 방식
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "saved_search_id")
+    private Long id;
+
+    // 알림을 받을 사용자
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    // 게임 유형 (null이면 필터링 하지 않음)
+    @Enumerated(EnumType.STRING)
+    private GameType gameType;
+
+    // 매치 시작 날짜 범위 (null이면 해당 경계는 필터링 하지 않음)
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    // 하루 중 시간대 (분, null이면 해당 경계는 필터링 하지 않음)
+    private Integer minMinuteOfDay;
+
+    private Integer maxMinuteOfDay;
+
+    // 모집 조건 비트마스크 (0이면 필터링 하지 않음)
+    @Column(nullable = false)
+    private int agesMask;
+
+    @Column(nullable = false)
+    private int gendersMask;
+
+    @Column(nullable = false)
+    private int periodsMask;
+
+    // 기준 좌표 + 반경(km) (모두 null이면 위치 필터링 하지 않음)
+    private Double latitude;
+
+    private Double longitude;
+
+    private Integer radiusKm;
+
+    @Builder
+    public SavedSearch(User user, GameType gameType, LocalDate startDate, LocalDate endDate,
+                       Integer minMinuteOfDay, Integer maxMinuteOfDay,
+                       int agesMask, int gendersMask, int periodsMask,
+                       Double latitude, Double longitude, Integer radiusKm) {
+        this.user = user;
+        this.gameType = gameType;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.minMinuteOfDay = minMinuteOfDay;
+        this.maxMinuteOfDay = maxMinuteOfDay;
+        this.agesMask = agesMask;
+        this.gendersMask = gendersMask;
+        this.periodsMask = periodsMask;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.radiusKm = radiusKm;
+    }
+
+    /**
+     * 위치 필터 적용 여부
+     */
+    public boolean hasLocation() {
+        return latitude != null && longitude != null && radiusKm != null;
+    }
+}
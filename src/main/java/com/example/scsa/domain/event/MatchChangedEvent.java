@@ -0,0 +1,46 @@
+package com.example.scsa.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 매치 변경 이벤트
+ * 매치 생성/삭제/상태 변경 및 만료 배치 처리 후 발행
+ *
+ * 설계 참고:
+ * - MatchService, UserProfileService(회원 탈퇴 시 삭제되는 매치), MatchStatusBatchConfig에서 ApplicationEventPublisher로 발행
+ * - 캐시 무효화 / 버전(ETag) 증가 등 부가 처리는 @TransactionalEventListener(AFTER_COMMIT)로 커밋 이후에 수행
+ * - EXPIRED(배치 일괄 처리)는 특정 매치가 아니므로 matchId가 null
+ */
+@Getter
+@RequiredArgsConstructor
+public class MatchChangedEvent {
+
+    public enum Type {
+        CREATED,
+        DELETED,
+        STATUS_CHANGED,
+        EXPIRED
+    }
+
+    private final Type type;
+
+    // 변경된 매치 ID (EXPIRED면 null)
+    private final Long matchId;
+
+    public static MatchChangedEvent created(Long matchId) {
+        return new MatchChangedEvent(Type.CREATED, matchId);
+    }
+
+    public static MatchChangedEvent deleted(Long matchId) {
+        return new MatchChangedEvent(Type.DELETED, matchId);
+    }
+
+    public static MatchChangedEvent statusChanged(Long matchId) {
+        return new MatchChangedEvent(Type.STATUS_CHANGED, matchId);
+    }
+
+    public static MatchChangedEvent expired() {
+        return new MatchChangedEvent(Type.EXPIRED, null);
+    }
+}
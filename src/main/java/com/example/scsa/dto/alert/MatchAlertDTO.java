@@ -0,0 +1,32 @@
+package com.example.scsa.dto.alert;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 새 매치 알림 메시지 (STOMP /user/queue/match-alerts)
+ * 저장된 검색 조건에 맞는 매치가 생성되면 해당 사용자에게 전송
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MatchAlertDTO {
+
+    // 조건에 맞은 저장된 검색 ID
+    private Long savedSearchId;
+
+    private Long matchId;
+
+    private Long courtId;
+
+    private String gameType;
+
+    private String startDateTime;
+
+    private String endDateTime;
+
+    private Long fee;
+}
@@ -0,0 +1,45 @@
+package com.example.scsa.dto.alert;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 저장된 매치 검색(알림) 응답 DTO
+ * 요청은 매치 목록 조회와 같은 MatchListRequestDTO 필드를 사용
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SavedSearchDTO {
+
+    private Long savedSearchId;
+
+    private String gameType;
+
+    private String startDate;
+
+    private String endDate;
+
+    private Integer startTime;
+
+    private Integer endTime;
+
+    private List<String> ageRange;
+
+    private List<String> gender;
+
+    private List<String> period;
+
+    private Double latitude;
+
+    private Double longitude;
+
+    private Integer radius;
+
+    private String createdAt;
+}
@@ -0,0 +1,39 @@
+package com.example.scsa.dto.match;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지도 격자 셀 하나의 매치 클러스터
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MatchClusterDTO {
+
+    // 셀 안 코트 좌표의 매치 수 가중 평균
+    @NotNull
+    private Double latitude;
+
+    @NotNull
+    private Double longitude;
+
+    // 셀 안 모집 중 매치 수
+    @NotNull
+    private Long count;
+
+    // 셀 안 코트 수 (1이면 단일 코트 핀으로 표시 가능)
+    @NotNull
+    private Integer courtCount;
+
+    // 셀 안 코트 ID (courtCount == 1 일 때만, 그 외 null)
+    private Long courtId;
+
+    // 셀 안에서 가장 빠른 매치 시작 시각
+    @NotNull
+    private String earliestStartDateTime;
+}
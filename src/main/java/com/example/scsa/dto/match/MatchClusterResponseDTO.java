@@ -0,0 +1,25 @@
+package com.example.scsa.dto.match;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MatchClusterResponseDTO {
+
+    private List<MatchClusterDTO> clusters;
+
+    private Integer zoom;
+
+    // 격자 셀 크기(도)
+    private Double cellSize;
+
+    // 전체 매치 수 (클러스터 count 합)
+    private Long total;
+}
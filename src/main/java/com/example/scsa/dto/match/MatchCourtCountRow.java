@@ -0,0 +1,19 @@
+package com.example.scsa.dto.match;
+
+import java.time.LocalDateTime;
+
+/**
+ * 코트별 모집 중 매치 집계 projection (지도 클러스터용)
+ *
+ * MatchSearchRepository.countByCourtInBoundingBox 의 GROUP BY court 결과 한 행
+ * - matchCount        : 해당 코트의 모집 중 매치 수
+ * - earliestStartTime : 가장 빠른 매치 시작 시각
+ */
+public record MatchCourtCountRow(
+        Long courtId,
+        Double courtLatitude,
+        Double courtLongitude,
+        Long matchCount,
+        LocalDateTime earliestStartTime
+) {
+}
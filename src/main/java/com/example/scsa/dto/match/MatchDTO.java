@@ -39,6 +39,9 @@ public class MatchDTO {
     @NotNull
     private List<String> ageRange;
 
+    // 모집 성별 (MALE / FEMALE / OTHER), 없거나 비어 있으면 제한 없음
+    private List<String> gender;
+
     @NotNull
     private Long fee;
 
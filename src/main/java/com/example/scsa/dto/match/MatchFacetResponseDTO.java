@@ -0,0 +1,31 @@
+package com.example.scsa.dto.match;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 매치 필터 facet 개수 응답
+ *
+ * - gameTypes : gameType별 매치 수 (gameType 필터를 제외한 나머지 조건 기준, 0건 포함)
+ * - statuses  : status별 매치 수 (status 필터를 제외한 나머지 조건 기준, 0건 포함)
+ * - days      : 시작 날짜(YYYY-MM-DD)별 매치 수 (모든 조건 기준, 매치가 있는 날짜만)
+ * - total     : 모든 조건에 맞는 매치 수
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MatchFacetResponseDTO {
+
+    private Map<String, Long> gameTypes;
+
+    private Map<String, Long> statuses;
+
+    private Map<String, Long> days;
+
+    private Long total;
+}
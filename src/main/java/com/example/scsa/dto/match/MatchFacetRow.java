@@ -0,0 +1,19 @@
+package com.example.scsa.dto.match;
+
+import com.example.scsa.domain.vo.GameType;
+import com.example.scsa.domain.vo.MatchStatus;
+
+import java.time.LocalDate;
+
+/**
+ * 필터 facet 집계 projection
+ *
+ * MatchSearchRepositoryCustom.countFacets 의 GROUP BY (gameType, status, 시작 날짜) 결과 한 행
+ */
+public record MatchFacetRow(
+        GameType gameType,
+        MatchStatus matchStatus,
+        LocalDate startDate,
+        Long matchCount
+) {
+}
@@ -57,6 +57,38 @@ public class MatchListRequestDTO {
      */
     private String gameType;
 
+    /**
+     * 모집 나이대 필터 (콤마 구분)
+     * - 예: TWENTY, TWENTY,THIRTY
+     * - 매치 모집 나이대 중 하나라도 포함되면 조회
+     * - null이면 필터링 하지 않음
+     */
+    private String ageRange;
+
+    /**
+     * 모집 성별 필터 (콤마 구분)
+     * - 예: MALE, FEMALE, MALE,FEMALE
+     * - 매치 모집 성별 중 하나라도 포함되면 조회
+     * - null이면 필터링 하지 않음
+     */
+    private String gender;
+
+    /**
+     * 모집 경력 필터 (콤마 구분)
+     * - 예: ONE_YEAR, ONE_YEAR,TWO_YEARS
+     * - 매치 모집 경력 중 하나라도 포함되면 조회
+     * - null이면 필터링 하지 않음
+     */
+    private String period;
+
+    /**
+     * 매치 설명 검색어
+     * - 예: 초보 환영, 레슨
+     * - 공백으로 구분된 단어가 모두 설명에 포함된 매치만 조회
+     * - null이면 필터링 하지 않음
+     */
+    private String q;
+
     /**
      * 사용자 위도
      * - sort=distance 일 때 필수
@@ -100,4 +132,12 @@ public class MatchListRequestDTO {
      * - 첫 페이지 조회 시 null
      */
     private String cursor;
+
+    /**
+     * 추천 정렬 프로필 (sort=recommend 일 때만 사용)
+     * - match.ranking.profiles 에 정의된 이름
+     * - null이면 기본 프로필 (match.ranking.default-profile)
+     * - 로그인 상태면 사용자 나이대/성별/경력에 맞는 매치를 우선 (프로필에 따라 맞지 않는 매치 제외)
+     */
+    private String rankProfile;
 }
@@ -0,0 +1,40 @@
+package com.example.scsa.dto.match;
+
+import com.example.scsa.domain.vo.GameType;
+import com.example.scsa.domain.vo.MatchStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매치 조회용 읽기 전용 projection
+ *
+ * JPQL 생성자 표현식(SELECT new ...MatchRow(...))으로 쿼리 결과를 바로 만든다.
+ * 엔티티가 영속성 컨텍스트에 올라가지 않으므로 스냅샷/더티체킹 비용이 없고,
+ * 목록/상세 응답(MatchSearchDTO)에 필요한 스칼라 값만 담는다.
+ *
+ * - 모집 나이대/성별/경력은 비트마스크로 담고 응답 변환 시 EnumBitMask로 복원
+ * - guestCount: 현재 참가 인원 (호스트 포함, 추천 정렬의 남은 자리 계산용)
+ * - 생성자 인자 순서는 MatchSearchRepositoryCustom.ROW_SELECT, MatchRepository.findRowById 와 같아야 함
+ */
+public record MatchRow(
+        Long matchId,
+        Long hostId,
+        Long courtId,
+        Double courtLatitude,
+        Double courtLongitude,
+        GameType gameType,
+        MatchStatus matchStatus,
+        LocalDateTime matchStartDateTime,
+        LocalDateTime matchEndDateTime,
+        Long fee,
+        Long playerCountMen,
+        Long playerCountWomen,
+        String description,
+        int agesMask,
+        int gendersMask,
+        int periodsMask,
+        int guestCount,
+        LocalDateTime createdAt,
+        LocalDateTime lastModifiedAt
+) {
+}
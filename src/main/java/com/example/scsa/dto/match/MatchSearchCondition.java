@@ -0,0 +1,65 @@
+package com.example.scsa.dto.match;
+
+import com.example.scsa.domain.vo.GameType;
+import com.example.scsa.domain.vo.MatchStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 매치 목록 조회용 DB 검색 조건
+ *
+ * MatchListService에서 요청 파라미터를 검증/정규화한 뒤 만들어
+ * MatchSearchRepositoryCustom의 검색 메서드들에 공통으로 전달한다.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class MatchSearchCondition {
+
+    // 검색 시작 일시 (항상 현재 시각 이후)
+    private final LocalDateTime from;
+
+    // 검색 종료 일시
+    private final LocalDateTime to;
+
+    // 하루 중 시간대 필터 (분 단위, null이면 해당 경계는 필터링 하지 않음)
+    // 시작/종료 시각 모두 [minMinuteOfDay, maxMinuteOfDay] 안에 있어야 함
+    private final Integer minMinuteOfDay;
+    private final Integer maxMinuteOfDay;
+
+    // 게임 유형 (null이면 필터링 하지 않음)
+    private final GameType gameType;
+
+    // 매치 상태 목록 (비어있으면 필터링 하지 않음)
+    private final List<MatchStatus> statuses;
+
+    // 모집 조건 비트마스크 필터 (null이면 필터링 하지 않음)
+    // mask = 0(모집 조건 제한 없음) 이거나 (mask & 요청비트) != 0, 즉 요청한 값 중 하나라도 모집 조건에 포함된 매치만 조회
+    private final Integer agesMask;
+    private final Integer gendersMask;
+    private final Integer periodsMask;
+
+    // 설명(description) 전문 검색어 (MySQL BOOLEAN MODE 문법으로 정규화된 값, null이면 필터링 하지 않음)
+    // match_search ngram FULLTEXT 인덱스(idx_match_search_description)로 처리
+    private final String fullTextQuery;
+
+    // 반경 이내 코트 ID 목록 (null이면 필터링 하지 않음, 지정되면 bounding box보다 우선)
+    private final List<Long> courtIds;
+
+    // 반경 검색 bounding box (모두 null이면 위치 필터링 하지 않음)
+    // 정확한 반경(Haversine) 판정은 Service에서 bounding box 통과분에만 수행
+    private final Double minLatitude;
+    private final Double maxLatitude;
+    private final Double minLongitude;
+    private final Double maxLongitude;
+
+    /**
+     * bounding box 위치 필터 적용 여부
+     */
+    public boolean hasBoundingBox() {
+        return minLatitude != null && maxLatitude != null
+                && minLongitude != null && maxLongitude != null;
+    }
+}
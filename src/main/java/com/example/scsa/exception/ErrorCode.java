@@ -33,6 +33,11 @@ public enum ErrorCode {
     INVALID_MATCH_SEARCH_PARAMETER(HttpStatus.BAD_REQUEST, "MATCH-002", "잘못된 매치 검색"),
     INVALID_MATCH_STATUS_CHANGE(HttpStatus.BAD_REQUEST, "MATCH-003", "잘못된 매치 상태 변경"),
     MATCH_ACCESS_DENIED(HttpStatus.FORBIDDEN, "MATCH-004", "매치에 접근할 권한이 없습니다."),
+    MATCH_SCHEDULE_CONFLICT(HttpStatus.CONFLICT, "MATCH-005", "같은 코트, 같은 시간대에 모집 중인 매치가 있습니다."),
+    MATCH_EXPORT_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "MATCH-006", "진행 중인 내보내기가 많습니다. 잠시 후 다시 시도해 주세요."),
+
+    // Saved search (매치 알림)
+    SAVED_SEARCH_NOT_FOUND(HttpStatus.NOT_FOUND, "ALERT-001", "존재하지 않는 저장된 검색입니다."),
 
     //Chat
     CHAT_ROOM_ALREADY_EXISTS(HttpStatus.CONFLICT, "CHAT-001", "이미 존재하는 채팅방입니다."),
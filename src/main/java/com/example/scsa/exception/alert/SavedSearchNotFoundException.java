@@ -0,0 +1,17 @@
+package com.example.scsa.exception.alert;
+
+import com.example.scsa.exception.ErrorCode;
+
+/**
+ * 저장된 검색(매치 알림)을 찾을 수 없거나 본인 소유가 아닐 때 발생하는 예외
+ */
+public class SavedSearchNotFoundException extends RuntimeException {
+
+    public SavedSearchNotFoundException() {
+        super(ErrorCode.SAVED_SEARCH_NOT_FOUND.getMessage());
+    }
+
+    public SavedSearchNotFoundException(Long savedSearchId) {
+        super("저장된 검색을 찾을 수 없습니다. (ID: " + savedSearchId + ")");
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.scsa.exception.match;
+
+import com.example.scsa.exception.ErrorCode;
+
+/**
+ * 동시에 진행 중인 매치 내보내기가 제한(match.export.max-concurrent)을 넘었을 때 발생하는 예외
+ */
+public class MatchExportLimitExceededException extends RuntimeException {
+
+    public MatchExportLimitExceededException() {
+        super(ErrorCode.MATCH_EXPORT_LIMIT_EXCEEDED.getMessage());
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.scsa.exception.match;
+
+import com.example.scsa.exception.ErrorCode;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 같은 코트, 겹치는 시간대에 모집 중인 매치가 이미 있을 때 발생하는 예외 (매치 생성 시)
+ */
+@Getter
+public class MatchScheduleConflictException extends RuntimeException {
+
+    // 시간이 겹치는 모집 중 매치 ID 목록
+    private final List<Long> conflictingMatchIds;
+
+    public MatchScheduleConflictException(List<Long> conflictingMatchIds) {
+        super(ErrorCode.MATCH_SCHEDULE_CONFLICT.getMessage() + " (ID: " + joinIds(conflictingMatchIds) + ")");
+        this.conflictingMatchIds = List.copyOf(conflictingMatchIds);
+    }
+
+    private static String joinIds(List<Long> ids) {
+        return String.join(", ", ids.stream().map(String::valueOf).toList());
+    }
+}
@@ -1,13 +1,16 @@
 package com.example.scsa.repository;
 
 import com.example.scsa.domain.entity.Court;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CourtRepository extends JpaRepository<Court, Long> {
@@ -36,4 +39,16 @@ public interface CourtRepository extends JpaRepository<Court, Long> {
             @Param("cursor") long cursor,
             Pageable pageable
     );
+
+    /**
+     * 코트 조회 + 행 잠금 (SELECT ... FOR UPDATE)
+     *
+     * 같은 코트에 매치를 동시에 생성할 때 시간 겹침 확인 ~ 저장을 코트 단위로 직렬화
+     *
+     * @param courtId 코트 ID
+     * @return 코트
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from Court c where c.id = :courtId")
+    Optional<Court> findByIdForUpdate(@Param("courtId") Long courtId);
 }
@@ -0,0 +1,22 @@
+package com.example.scsa.repository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * DB에서 keyset(커서) 페이지네이션이 가능한 정렬 기준
+ *
+ * - CREATED_AT       : sort=createdAt (생성일시 오름차순, match_id 오름차순)
+ * - START_DATE_TIME  : sort=latest    (매치 시작일시 오름차순, match_id 오름차순)
+ *
+ * distance / recommend 는 요청마다 계산되는 값이라 SQL keyset 대상이 아니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum MatchKeysetOrder {
+    CREATED_AT("m.createdAt"),
+    START_DATE_TIME("m.matchStartDateTime");
+
+    // JPQL 정렬/커서 비교에 사용할 속성 경로
+    private final String path;
+}
@@ -2,8 +2,8 @@ package com.example.scsa.repository;
 
 import com.example.scsa.domain.entity.Match;
 import com.example.scsa.domain.vo.MatchStatus;
+import com.example.scsa.dto.match.MatchRow;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -11,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -28,7 +29,7 @@ import java.util.Optional;
  * - fetch join + pagination 사용 시 countQuery 필수 분리
  */
 @Repository
-public interface MatchRepository extends JpaRepository<Match, Long>, MatchRepositoryCustom {
+public interface MatchRepository extends JpaRepository<Match, Long> {
 
     /**
      * 매치 상세 조회 (N+1 방지: host, matchGuests 모두 fetch join)
@@ -48,6 +49,25 @@ public interface MatchRepository extends JpaRepository<Match, Long>, MatchReposi
            "WHERE m.id = :id")
     Optional<Match> findByIdWithGuests(@Param("id") Long id);
 
+    /**
+     * 매치 단건 조회 (MatchRow projection)
+     * 매치 상세 응답(MatchSearchDTO)에 필요한 스칼라 값만 조회
+     *
+     * - 엔티티/연관관계/컬렉션을 로딩하지 않음 (court 는 좌표만 조인)
+     * - 모집 조건은 비트마스크 컬럼 사용
+     *
+     * @param id 매치 ID
+     * @return 매치 정보
+     */
+    @Query("SELECT new com.example.scsa.dto.match.MatchRow(" +
+           "m.id, m.host.id, c.id, c.latitude, c.longitude, " +
+           "m.gameType, m.matchStatus, m.matchStartDateTime, m.matchEndDateTime, " +
+           "m.fee, m.playerCountMen, m.playerCountWomen, m.description, " +
+           "m.agesMask, m.gendersMask, m.periodsMask, size(m.matchGuests), m.createdAt, m.lastModifiedAt) " +
+           "FROM Match m JOIN m.court c " +
+           "WHERE m.id = :id")
+    Optional<MatchRow> findRowById(@Param("id") Long id);
+
     /**
      * 해당 유저가 호스트이고, 상태가 RECRUITING 인 매치가 하나라도 있는지
      * @param hostId
@@ -63,6 +83,16 @@ public interface MatchRepository extends JpaRepository<Match, Long>, MatchReposi
      */
     void deleteAllByHost_IdAndMatchStatus(Long hostId, MatchStatus matchStatus);
 
+    /**
+     * 해당 유저가 호스트이고, 해당 상태인 매치 ID 목록 (삭제 전 변경 이벤트 발행용)
+     * @param hostId
+     * @param matchStatus
+     * @return 매치 ID 목록
+     */
+    @Query("SELECT m.id FROM Match m WHERE m.host.id = :hostId AND m.matchStatus = :matchStatus")
+    List<Long> findIdsByHostIdAndMatchStatus(@Param("hostId") Long hostId,
+                                             @Param("matchStatus") MatchStatus matchStatus);
+
     /**
      * 현재시간을 비교하여 현재 상태가 recruiting인 매치를 completed로 변경
      * @param now 현재 시간
@@ -82,19 +112,60 @@ public interface MatchRepository extends JpaRepository<Match, Long>, MatchReposi
                                @Param("completed") MatchStatus completed);
 
     /**
-     * hostId로 검색한 매치 목록 matchId 로 내림차순 정렬로 반환
-     * @param hostId hostId
-     * @param pageable 페이징 정보
-     * @return 매치 목록
+     * matchId 오름차순으로 afterId 이후 매치 목록 조회 (match_search 재빌드용)
+     * @param afterId 마지막으로 처리한 matchId
+     * @param pageable 페이징 정보 (조회 개수)
+     * @return 매치 목록 (court fetch join)
+     */
+    @Query("SELECT m FROM Match m JOIN FETCH m.court " +
+           "WHERE m.id > :afterId ORDER BY m.id ASC")
+    List<Match> findChunkAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 매치 목록의 모집 나이대 컬렉션 일괄 초기화 (match_search 재빌드용)
+     * - 같은 영속성 컨텍스트의 Match 에 컬렉션이 채워져 이후 접근 시 매치별 지연 로딩(N+1)이 없음
+     * - 컬렉션마다 따로 조회 (한 번에 fetch join 하면 곱집합 행이 생김)
+     * @param ids matchId 목록
+     * @return 매치 목록 (컬렉션 fetch join)
      */
-    Slice<Match> findByHostIdOrderByIdDesc(Long hostId, Pageable pageable);
+    @Query("SELECT DISTINCT m FROM Match m LEFT JOIN FETCH m.ages WHERE m.id IN :ids")
+    List<Match> findWithAgesByIdIn(@Param("ids") List<Long> ids);
 
     /**
-     * hostId로 검색한 매치 목록들을 cursor(마지막 matchId)보다 작은 것들만 내림차순 정렬로 반환
-     * @param hostId hostId
-     * @param cursor 마지막 matchId
-     * @param pageable 페이징 정보
-     * @return 매치 목록
+     * 매치 목록의 모집 성별 컬렉션 일괄 초기화 (match_search 재빌드용, findWithAgesByIdIn 참고)
+     * @param ids matchId 목록
+     * @return 매치 목록 (컬렉션 fetch join)
      */
-    Slice<Match> findByHostIdAndIdLessThanOrderByIdDesc(Long hostId, Long cursor, Pageable pageable);
+    @Query("SELECT DISTINCT m FROM Match m LEFT JOIN FETCH m.genders WHERE m.id IN :ids")
+    List<Match> findWithGendersByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * 매치 목록의 모집 경력 컬렉션 일괄 초기화 (match_search 재빌드용, findWithAgesByIdIn 참고)
+     * @param ids matchId 목록
+     * @return 매치 목록 (컬렉션 fetch join)
+     */
+    @Query("SELECT DISTINCT m FROM Match m LEFT JOIN FETCH m.periods WHERE m.id IN :ids")
+    List<Match> findWithPeriodsByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * 매치 목록의 참가자 컬렉션 일괄 초기화 (match_search 재빌드 시 참가 인원 계산용, findWithAgesByIdIn 참고)
+     * @param ids matchId 목록
+     * @return 매치 목록 (컬렉션 fetch join)
+     */
+    @Query("SELECT DISTINCT m FROM Match m LEFT JOIN FETCH m.matchGuests WHERE m.id IN :ids")
+    List<Match> findWithGuestsByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * 모집 조건 컬렉션은 있는데 비트마스크가 0인 매치가 있는지 (mask 컬럼 도입 전 데이터 → 재빌드 필요)
+     * - 애플리케이션 시작 시 한 번만 호출 (컬렉션 테이블 EXISTS 서브쿼리)
+     * @return 재계산이 필요한 매치가 하나라도 있으면 true
+     */
+    @Query("""
+        SELECT CASE WHEN COUNT(m) > 0 THEN true ELSE false END
+          FROM Match m
+         WHERE (m.agesMask = 0 AND m.ages IS NOT EMPTY)
+            OR (m.gendersMask = 0 AND m.genders IS NOT EMPTY)
+            OR (m.periodsMask = 0 AND m.periods IS NOT EMPTY)
+        """)
+    boolean existsWithUnsyncedMasks();
 }
\ No newline at end of file
@@ -0,0 +1,188 @@
+package com.example.scsa.repository;
+
+import com.example.scsa.domain.entity.MatchSearch;
+import com.example.scsa.domain.vo.MatchStatus;
+import com.example.scsa.dto.match.MatchCourtCountRow;
+import com.example.scsa.dto.match.MatchRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * MatchSearch(match_search 읽기 모델) Repository
+ *
+ * - 목록 조회: MatchSearchRepositoryCustom (동적 JPQL)
+ * - 쓰기: MatchSearchSyncService에서만 사용 (match 테이블과 같은 트랜잭션)
+ */
+@Repository
+public interface MatchSearchRepository extends JpaRepository<MatchSearch, Long>, MatchSearchRepositoryCustom {
+
+    /**
+     * hostId로 검색한 매치 목록 matchId 로 내림차순 정렬로 반환 (MatchRow projection)
+     * @param hostId hostId
+     * @param pageable 페이징 정보
+     * @return 매치 목록
+     */
+    @Query(ROW_SELECT + "WHERE m.hostId = :hostId ORDER BY m.matchId DESC")
+    Slice<MatchRow> findRowsByHostId(@Param("hostId") Long hostId, Pageable pageable);
+
+    /**
+     * hostId로 검색한 매치 목록들을 cursor(마지막 matchId)보다 작은 것들만 내림차순 정렬로 반환 (MatchRow projection)
+     * @param hostId hostId
+     * @param cursor 마지막 matchId
+     * @param pageable 페이징 정보
+     * @return 매치 목록
+     */
+    @Query(ROW_SELECT + "WHERE m.hostId = :hostId AND m.matchId < :cursor ORDER BY m.matchId DESC")
+    Slice<MatchRow> findRowsByHostIdBefore(@Param("hostId") Long hostId,
+                                           @Param("cursor") Long cursor,
+                                           Pageable pageable);
+
+    /**
+     * 주어진 상태이고 from 이후 시작하는 매치 행 전체 (MatchRow projection, HotMatchIndex 적재용)
+     * @param status 매치 상태
+     * @param from 이 시각 이후 시작하는 매치만
+     * @return 매치 목록
+     */
+    @Query(ROW_SELECT + "WHERE m.matchStatus = :status AND m.matchStartDateTime > :from")
+    List<MatchRow> findRowsByStatusStartingAfter(@Param("status") MatchStatus status,
+                                                 @Param("from") LocalDateTime from);
+
+    /**
+     * matchId 목록으로 매치 행 조회 (MatchRow projection, 검색 세션 페이지 조회용, 순서 없음)
+     * @param matchIds matchId 목록
+     * @return 매치 목록 (삭제된 매치는 빠짐)
+     */
+    @Query(ROW_SELECT + "WHERE m.matchId IN :matchIds")
+    List<MatchRow> findRowsByMatchIds(@Param("matchIds") Collection<Long> matchIds);
+
+    /**
+     * 같은 코트에서 [start, end) 와 시간이 겹치는 매치 ID 조회 (매치 생성 시 중복 예약 확인)
+     *
+     * - 겹침: 기존 시작 < end AND 기존 종료 > start (끝과 시작이 맞닿는 경우는 겹치지 않음)
+     * - idx_match_search_court_status_start (court_id, match_status, match_start_date_time) 범위 조회
+     *   → 해당 코트의 해당 상태 매치 중 end 이전에 시작하는 행만 읽음
+     * @param courtId 코트 ID
+     * @param status 매치 상태
+     * @param start 새 매치 시작 시각
+     * @param end 새 매치 종료 시각
+     * @return 겹치는 매치 ID (오름차순)
+     */
+    @Query("SELECT m.matchId FROM MatchSearch m " +
+            "WHERE m.courtId = :courtId AND m.matchStatus = :status " +
+            "AND m.matchStartDateTime < :end AND m.matchEndDateTime > :start " +
+            "ORDER BY m.matchId")
+    List<Long> findOverlappingMatchIds(@Param("courtId") Long courtId,
+                                       @Param("status") MatchStatus status,
+                                       @Param("start") LocalDateTime start,
+                                       @Param("end") LocalDateTime end);
+
+    /**
+     * matchId로 매치 행 조회 (MatchRow projection)
+     * @param matchId matchId
+     * @return 매치 행
+     */
+    @Query(ROW_SELECT + "WHERE m.matchId = :matchId")
+    Optional<MatchRow> findRowByMatchId(@Param("matchId") Long matchId);
+
+    /**
+     * 코트별 매치 수 + 가장 빠른 시작 시각 (지도 클러스터용, GROUP BY 한 번)
+     * - bbox 안 코트 ID를 먼저 구해서(CourtSpatialIndex) 넘김
+     * - idx_match_search_court_status_start 인덱스로 코트마다 (코트, 상태, 시작 시각 범위)만 읽음
+     *   → 읽는 행 수는 bbox 안 코트들의 매치 수로 제한됨
+     * @param courtIds 코트 ID 목록 (비어 있으면 안 됨)
+     * @param status 매치 상태
+     * @param from 이 시각 이후 시작하는 매치만
+     * @return 코트별 집계 목록
+     */
+    @Query("""
+        SELECT new com.example.scsa.dto.match.MatchCourtCountRow(
+                   m.courtId, m.courtLatitude, m.courtLongitude, COUNT(m), MIN(m.matchStartDateTime))
+          FROM MatchSearch m
+         WHERE m.courtId IN :courtIds
+           AND m.matchStatus = :status
+           AND m.matchStartDateTime > :from
+         GROUP BY m.courtId, m.courtLatitude, m.courtLongitude
+        """)
+    List<MatchCourtCountRow> countByCourtIdIn(@Param("courtIds") List<Long> courtIds,
+                                              @Param("status") MatchStatus status,
+                                              @Param("from") LocalDateTime from);
+
+    /**
+     * bounding box 안 코트별 매치 수 + 가장 빠른 시작 시각 (CourtSpatialIndex가 아직 없을 때만 사용)
+     * - 좌표 조건에 쓸 수 있는 인덱스가 없음: idx_match_search_status_start_at으로
+     *   상태 + 시작 시각 범위의 모든 매치를 읽고 좌표는 행마다 걸러냄 (bbox 크기와 무관하게 비용이 듦)
+     * @param status 매치 상태
+     * @param from 이 시각 이후 시작하는 매치만
+     * @return 코트별 집계 목록
+     */
+    @Query("""
+        SELECT new com.example.scsa.dto.match.MatchCourtCountRow(
+                   m.courtId, m.courtLatitude, m.courtLongitude, COUNT(m), MIN(m.matchStartDateTime))
+          FROM MatchSearch m
+         WHERE m.matchStatus = :status
+           AND m.matchStartDateTime > :from
+           AND m.courtLatitude BETWEEN :minLat AND :maxLat
+           AND m.courtLongitude BETWEEN :minLng AND :maxLng
+         GROUP BY m.courtId, m.courtLatitude, m.courtLongitude
+        """)
+    List<MatchCourtCountRow> countByCourtInBoundingBox(@Param("status") MatchStatus status,
+                                                       @Param("from") LocalDateTime from,
+                                                       @Param("minLat") double minLat,
+                                                       @Param("maxLat") double maxLat,
+                                                       @Param("minLng") double minLng,
+                                                       @Param("maxLng") double maxLng);
+
+    /**
+     * 시작 시각의 하루 중 분 값이 비어있는 행이 있는지 (컬럼 도입 전 데이터 → 재빌드 필요)
+     */
+    boolean existsByStartMinuteOfDayIsNull();
+
+    /**
+     * 현재시간을 비교하여 현재 상태가 recruiting인 매치를 completed로 변경
+     * (MatchRepository.completeExpiredMatches와 같은 조건)
+     * @param now 현재 시간
+     * @param recruiting 현재 상태
+     * @param completed 변경할 상태
+     * @return 변경된 행 개수
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+        UPDATE MatchSearch m
+           SET m.matchStatus = :completed,
+               m.lastModifiedAt = :now
+         WHERE m.matchStartDateTime < :now
+           AND m.matchStatus = :recruiting
+        """)
+    int completeExpiredMatches(@Param("now") LocalDateTime now,
+                               @Param("recruiting") MatchStatus recruiting,
+                               @Param("completed") MatchStatus completed);
+
+    /**
+     * 해당 유저가 호스트이고 주어진 상태인 매치 행 삭제 (회원 탈퇴 시)
+     * @param hostId hostId
+     * @param matchStatus 삭제할 매치 상태
+     * @return 삭제된 행 개수
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM MatchSearch m WHERE m.hostId = :hostId AND m.matchStatus = :matchStatus")
+    int deleteAllByHostIdAndMatchStatus(@Param("hostId") Long hostId,
+                                        @Param("matchStatus") MatchStatus matchStatus);
+
+    /**
+     * match 테이블에 더 이상 없는 매치 행 삭제 (재빌드 시 drift 보정)
+     * @return 삭제된 행 개수
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM MatchSearch s WHERE NOT EXISTS (SELECT 1 FROM Match m WHERE m.id = s.matchId)")
+    int deleteOrphans();
+}
@@ -0,0 +1,77 @@
+package com.example.scsa.repository;
+
+import com.example.scsa.dto.match.MatchFacetRow;
+import com.example.scsa.dto.match.MatchRow;
+import com.example.scsa.dto.match.MatchSearchCondition;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * match_search 읽기 모델 검색용 동적 쿼리
+ */
+public interface MatchSearchRepositoryCustom {
+
+    /**
+     * match_search → MatchRow 생성자 projection SELECT 절 (별칭 m)
+     * MatchRow 생성자 인자 순서와 같아야 함
+     */
+    String ROW_SELECT =
+            "SELECT new com.example.scsa.dto.match.MatchRow(" +
+                    "m.matchId, m.hostId, m.courtId, m.courtLatitude, m.courtLongitude, " +
+                    "m.gameType, m.matchStatus, m.matchStartDateTime, m.matchEndDateTime, " +
+                    "m.fee, m.playerCountMen, m.playerCountWomen, m.description, " +
+                    "m.agesMask, m.gendersMask, m.periodsMask, m.guestCount, m.createdAt, m.lastModifiedAt) " +
+            "FROM MatchSearch m ";
+
+    /**
+     * 기본 필터 (날짜/시간, gameType, status)만 적용된 매치 목록 조회.
+     * 정렬/거리/추천/커서는 Service에서 처리.
+     * (distance / recommend 정렬처럼 계산값 기준 정렬에서 사용)
+     *
+     * @param condition 검색 조건 (from, to, gameType, statuses)
+     * @return 매치 목록
+     */
+    List<MatchRow> findMatchesForSearch(MatchSearchCondition condition);
+
+    /**
+     * 기본 필터 + keyset 커서 조건을 DB에서 적용하여 정렬된 매치 목록을 limit개까지 조회.
+     * (createdAt / latest 정렬에서 사용)
+     *
+     * 커서 조건: (정렬키, match_id) > (cursorKey, cursorId)
+     *
+     * @param condition 검색 조건 (from, to, gameType, statuses)
+     * @param order     정렬 기준 (createdAt / matchStartDateTime)
+     * @param cursorKey 마지막으로 조회한 매치의 정렬키 (null이면 첫 페이지)
+     * @param cursorId  마지막으로 조회한 매치의 ID (null이면 첫 페이지)
+     * @param limit     최대 조회 개수
+     * @return 정렬키, match_id 오름차순으로 정렬된 매치 목록
+     */
+    List<MatchRow> findMatchesAfterCursor(MatchSearchCondition condition,
+                                          MatchKeysetOrder order,
+                                          LocalDateTime cursorKey,
+                                          Long cursorId,
+                                          int limit);
+
+    /**
+     * 기본 필터가 적용된 매치 전체를 정렬키, match_id 오름차순으로 스트리밍 조회.
+     * (NDJSON export 에서 사용, 결과 전체를 메모리에 올리지 않음)
+     *
+     * 반환된 Stream은 DB 커서를 점유하므로 트랜잭션 안에서 사용하고 반드시 close 해야 함.
+     *
+     * @param condition 검색 조건 (from, to, gameType, statuses)
+     * @param order     정렬 기준 (createdAt / matchStartDateTime)
+     * @return 정렬키, match_id 오름차순 매치 Stream
+     */
+    Stream<MatchRow> streamMatches(MatchSearchCondition condition, MatchKeysetOrder order);
+
+    /**
+     * 기본 필터가 적용된 매치 수를 (gameType, status, 시작 날짜)별로 집계.
+     * (필터 facet 개수 조회에서 사용, GROUP BY 쿼리 한 번)
+     *
+     * @param condition 검색 조건 (findMatchesForSearch와 같은 필터)
+     * @return (gameType, status, 시작 날짜)별 매치 수
+     */
+    List<MatchFacetRow> countFacets(MatchSearchCondition condition);
+}
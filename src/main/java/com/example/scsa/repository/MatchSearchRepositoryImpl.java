@@ -0,0 +1,303 @@
+package com.example.scsa.repository;
+
+import com.example.scsa.dto.match.MatchFacetRow;
+import com.example.scsa.dto.match.MatchRow;
+import com.example.scsa.dto.match.MatchSearchCondition;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public class MatchSearchRepositoryImpl implements MatchSearchRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    /**
+     * 매치 검색용 JPQL 동적 쿼리
+     *
+     * 필터링 조건:
+     *  - 진행 시간(from < start <= to)
+     *  - 하루 중 시간대(start/end minute of day, 선택)
+     *  - gameType (선택)
+     *  - matchStatus 리스트 (선택)
+     *  - 모집 나이대/성별/경력 비트마스크 (선택, mask = 0(제한 없음) 또는 bitand(mask, 요청비트) <> 0)
+     *  - 설명 전문 검색어 (선택, ngram FULLTEXT 인덱스 MATCH ... AGAINST)
+     *  - 반경 이내 코트 ID 목록 또는 bounding box 안의 코트 (선택)
+     *
+     * match_search 한 테이블만 조회:
+     *  - 코트 좌표/호스트 ID/모집 조건이 모두 한 행에 있어 조인/컬렉션 로딩 없음
+     *  - 엔티티 대신 MatchRow 생성자 projection으로 바로 반환 (영속성 컨텍스트 미사용)
+     *
+     * @return 조건에 맞는 매치 리스트
+     */
+    @Override
+    public List<MatchRow> findMatchesForSearch(MatchSearchCondition condition) {
+
+        // 대상 코트가 하나도 없으면 매치도 없음
+        List<Long> courtIds = resolveCourtIds(condition);
+        if (courtIds != null && courtIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // 기본 검색 조건 + 선택 조건
+        StringBuilder jpql = new StringBuilder(ROW_SELECT);
+        appendSearchPredicates(jpql, condition, courtIds);
+
+        // 쿼리 생성 및 파라미터 설정
+        TypedQuery<MatchRow> query = em.createQuery(jpql.toString(), MatchRow.class);
+        bindSearchParameters(query, condition, courtIds);
+
+        return query.getResultList();
+    }
+
+    /**
+     * keyset 페이지네이션 JPQL 동적 쿼리
+     *
+     * findMatchesForSearch와 같은 필터에 더해
+     *  - (정렬키 > cursorKey) OR (정렬키 = cursorKey AND match_id > cursorId)
+     *  - ORDER BY 정렬키 ASC, match_id ASC
+     *  - LIMIT limit
+     * 를 DB에서 처리하여 커서 이후 limit개의 행만 읽는다.
+     * (idx_match_search_status_created_at / idx_match_search_status_start_at 인덱스 사용)
+     */
+    @Override
+    public List<MatchRow> findMatchesAfterCursor(MatchSearchCondition condition,
+                                                 MatchKeysetOrder order,
+                                                 LocalDateTime cursorKey,
+                                                 Long cursorId,
+                                                 int limit) {
+
+        String key = order.getPath();
+        boolean hasCursor = cursorKey != null && cursorId != null;
+
+        // 대상 코트가 하나도 없으면 매치도 없음
+        List<Long> courtIds = resolveCourtIds(condition);
+        if (courtIds != null && courtIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        StringBuilder jpql = new StringBuilder(ROW_SELECT);
+        appendSearchPredicates(jpql, condition, courtIds);
+
+        // 커서 조건: (key, id) > (cursorKey, cursorId)
+        if (hasCursor) {
+            jpql.append(" AND (").append(key).append(" > :cursorKey")
+                    .append(" OR (").append(key).append(" = :cursorKey AND m.matchId > :cursorId))");
+        }
+
+        jpql.append(" ORDER BY ").append(key).append(" ASC, m.matchId ASC");
+
+        TypedQuery<MatchRow> query = em.createQuery(jpql.toString(), MatchRow.class);
+        bindSearchParameters(query, condition, courtIds);
+
+        if (hasCursor) {
+            query.setParameter("cursorKey", cursorKey);
+            query.setParameter("cursorId", cursorId);
+        }
+
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    /**
+     * export 용 스트리밍 JPQL 동적 쿼리
+     *
+     * findMatchesAfterCursor와 같은 필터/정렬(정렬키 ASC, match_id ASC)을 커서/LIMIT 없이 적용하고
+     * getResultStream()으로 한 행씩 읽는다.
+     *  - fetch size = Integer.MIN_VALUE : MySQL Connector/J 행 단위 스트리밍 (결과 전체 버퍼링 안 함)
+     *  - read only : projection 이라 영속성 컨텍스트에 쌓이지 않음
+     */
+    @Override
+    public Stream<MatchRow> streamMatches(MatchSearchCondition condition, MatchKeysetOrder order) {
+
+        // 대상 코트가 하나도 없으면 매치도 없음
+        List<Long> courtIds = resolveCourtIds(condition);
+        if (courtIds != null && courtIds.isEmpty()) {
+            return Stream.empty();
+        }
+
+        String key = order.getPath();
+
+        StringBuilder jpql = new StringBuilder(ROW_SELECT);
+        appendSearchPredicates(jpql, condition, courtIds);
+        jpql.append(" ORDER BY ").append(key).append(" ASC, m.matchId ASC");
+
+        TypedQuery<MatchRow> query = em.createQuery(jpql.toString(), MatchRow.class);
+        bindSearchParameters(query, condition, courtIds);
+
+        return query
+                .setHint(HibernateHints.HINT_FETCH_SIZE, Integer.MIN_VALUE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    /**
+     * facet 집계 JPQL 동적 쿼리
+     *
+     * findMatchesForSearch와 같은 WHERE 절에
+     *  - GROUP BY gameType, matchStatus, 시작 날짜
+     * 를 적용하여 facet별 개수를 한 번에 집계한다.
+     * (gameType 4종 x status 2종 x 날짜 수 만큼의 행만 반환, 행별 합계는 Service에서 계산)
+     */
+    @Override
+    public List<MatchFacetRow> countFacets(MatchSearchCondition condition) {
+
+        // 대상 코트가 하나도 없으면 매치도 없음
+        List<Long> courtIds = resolveCourtIds(condition);
+        if (courtIds != null && courtIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        StringBuilder jpql = new StringBuilder(
+                "SELECT new com.example.scsa.dto.match.MatchFacetRow(" +
+                        "m.gameType, m.matchStatus, cast(m.matchStartDateTime as LocalDate), COUNT(m)) " +
+                "FROM MatchSearch m ");
+        appendSearchPredicates(jpql, condition, courtIds);
+        jpql.append(" GROUP BY m.gameType, m.matchStatus, cast(m.matchStartDateTime as LocalDate)");
+
+        TypedQuery<MatchFacetRow> query = em.createQuery(jpql.toString(), MatchFacetRow.class);
+        bindSearchParameters(query, condition, courtIds);
+
+        return query.getResultList();
+    }
+
+    /**
+     * 공통 WHERE 절 생성
+     */
+    private void appendSearchPredicates(StringBuilder jpql, MatchSearchCondition condition, List<Long> courtIds) {
+        jpql.append("WHERE " +
+                "   m.matchStartDateTime BETWEEN :from AND :to " +
+                "AND " +
+                "   m.matchEndDateTime BETWEEN :from AND :to");
+
+        // 선택 조건(하루 중 시간대: 시작/종료 시각 모두 범위 안)
+        if (condition.getMinMinuteOfDay() != null) {
+            jpql.append(" AND m.startMinuteOfDay >= :minMinuteOfDay AND m.endMinuteOfDay >= :minMinuteOfDay");
+        }
+        if (condition.getMaxMinuteOfDay() != null) {
+            jpql.append(" AND m.startMinuteOfDay <= :maxMinuteOfDay AND m.endMinuteOfDay <= :maxMinuteOfDay");
+        }
+
+        // 선택 조건(gameType)
+        if (condition.getGameType() != null) {
+            jpql.append(" AND m.gameType = :gameType");
+        }
+
+        // 선택 조건(status 리스트)
+        if (condition.getStatuses() != null && !condition.getStatuses().isEmpty()) {
+            jpql.append(" AND m.matchStatus IN :statuses");
+        }
+
+        // 선택 조건(모집 조건 비트마스크)
+        if (condition.getAgesMask() != null) {
+            jpql.append(" AND (m.agesMask = 0 OR bitand(m.agesMask, :agesMask) <> 0)");
+        }
+        if (condition.getGendersMask() != null) {
+            jpql.append(" AND (m.gendersMask = 0 OR bitand(m.gendersMask, :gendersMask) <> 0)");
+        }
+        if (condition.getPeriodsMask() != null) {
+            jpql.append(" AND (m.periodsMask = 0 OR bitand(m.periodsMask, :periodsMask) <> 0)");
+        }
+
+        // 선택 조건(설명 전문 검색, LIKE 대신 FULLTEXT 인덱스 사용)
+        if (condition.getFullTextQuery() != null) {
+            jpql.append(" AND match_against(m.description, :fullTextQuery) > 0");
+        }
+
+        // 선택 조건(반경 이내 / bounding box 안의 코트)
+        if (courtIds != null) {
+            jpql.append(" AND m.courtId IN :courtIds");
+        }
+    }
+
+    /**
+     * 공통 WHERE 절 파라미터 설정
+     */
+    private void bindSearchParameters(TypedQuery<?> query, MatchSearchCondition condition, List<Long> courtIds) {
+        query.setParameter("from", condition.getFrom());
+        query.setParameter("to", condition.getTo());
+
+        // 선택 파라미터 설정
+        if (condition.getMinMinuteOfDay() != null) {
+            query.setParameter("minMinuteOfDay", condition.getMinMinuteOfDay());
+        }
+        if (condition.getMaxMinuteOfDay() != null) {
+            query.setParameter("maxMinuteOfDay", condition.getMaxMinuteOfDay());
+        }
+        if (condition.getGameType() != null) {
+            query.setParameter("gameType", condition.getGameType());
+        }
+        if (condition.getStatuses() != null && !condition.getStatuses().isEmpty()) {
+            query.setParameter("statuses", condition.getStatuses());
+        }
+        if (condition.getAgesMask() != null) {
+            query.setParameter("agesMask", condition.getAgesMask());
+        }
+        if (condition.getGendersMask() != null) {
+            query.setParameter("gendersMask", condition.getGendersMask());
+        }
+        if (condition.getPeriodsMask() != null) {
+            query.setParameter("periodsMask", condition.getPeriodsMask());
+        }
+        if (condition.getFullTextQuery() != null) {
+            query.setParameter("fullTextQuery", condition.getFullTextQuery());
+        }
+        if (courtIds != null) {
+            query.setParameter("courtIds", courtIds);
+        }
+    }
+
+    /**
+     * 위치 조건에 해당하는 코트 ID 목록
+     *
+     * - condition.courtIds 가 있으면 그대로 사용 (Service에서 코트 격자 인덱스로 계산)
+     * - 없고 bounding box가 있으면 SPATIAL 인덱스로 조회
+     *
+     * @return 위치 조건이 없으면 null
+     */
+    private List<Long> resolveCourtIds(MatchSearchCondition condition) {
+        if (condition.getCourtIds() != null) {
+            return condition.getCourtIds();
+        }
+        return findCourtIdsInBoundingBox(condition);
+    }
+
+    /**
+     * bounding box 안에 있는 코트 ID 목록 조회 (SPATIAL 인덱스 사용)
+     *
+     * - court.location_point: POINT(경도, 위도) generated column (CourtSpatialIndexConfig에서 생성)
+     * - MBRContains + idx_court_location_point 로 전국 코트 중 주변 코트만 읽음
+     *
+     * @return bounding box 조건이 없으면 null, 있으면 해당 코트 ID 목록
+     */
+    private List<Long> findCourtIdsInBoundingBox(MatchSearchCondition condition) {
+        if (!condition.hasBoundingBox()) {
+            return null;
+        }
+
+        List<?> rows = em.createNativeQuery(
+                        "SELECT c.court_id FROM court c " +
+                                "WHERE MBRContains(" +
+                                "   ST_MakeEnvelope(POINT(:minLng, :minLat), POINT(:maxLng, :maxLat)), " +
+                                "   c.location_point)")
+                .setParameter("minLng", condition.getMinLongitude())
+                .setParameter("minLat", condition.getMinLatitude())
+                .setParameter("maxLng", condition.getMaxLongitude())
+                .setParameter("maxLat", condition.getMaxLatitude())
+                .getResultList();
+
+        List<Long> courtIds = new ArrayList<>(rows.size());
+        for (Object row : rows) {
+            courtIds.add(((Number) row).longValue());
+        }
+        return courtIds;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.scsa.repository;
+
+import com.example.scsa.domain.entity.SavedSearch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SavedSearch(저장된 매치 검색 / 알림) Repository
+ */
+@Repository
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+
+    /**
+     * 내 저장된 검색 목록 (최신순)
+     * @param userId 사용자 ID
+     * @return 저장된 검색 목록
+     */
+    List<SavedSearch> findAllByUser_IdOrderByIdDesc(Long userId);
+
+    /**
+     * 본인 소유의 저장된 검색 조회
+     * @param id 저장된 검색 ID
+     * @param userId 사용자 ID
+     * @return 저장된 검색
+     */
+    Optional<SavedSearch> findByIdAndUser_Id(Long id, Long userId);
+
+    /**
+     * 사용자별 저장된 검색 개수 (최대 개수 제한용)
+     */
+    long countByUser_Id(Long userId);
+
+    /**
+     * 해당 사용자의 저장된 검색 전체 삭제 (회원 탈퇴 시)
+     * @param userId 사용자 ID
+     * @return 삭제된 행 개수
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM SavedSearch s WHERE s.user.id = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+}
@@ -7,6 +7,7 @@ import com.example.scsa.domain.vo.Period;
 import com.example.scsa.dto.request.ProfileCompleteRequest;
 import com.example.scsa.dto.response.ProfileCompleteResponse;
 import com.example.scsa.repository.UserRepository;
+import com.example.scsa.service.match.ranking.CallerProfileCache;
 import com.example.scsa.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +26,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
     private final RefreshTokenService refreshTokenService;
+    private final CallerProfileCache callerProfileCache;
 
     /**
      * 프로필 완성 처리
@@ -63,6 +65,7 @@ public class UserService {
         );
 
         User savedUser = userRepository.save(user);
+        callerProfileCache.evict(userId);
         log.info("프로필 완성 성공 - userId={}, nickname={}", userId, request.getNickname());
 
         // 5. 새 JWT 토큰 생성 (Access Token + Refresh Token)
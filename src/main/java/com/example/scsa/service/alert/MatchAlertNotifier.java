@@ -0,0 +1,103 @@
+package com.example.scsa.service.alert;
+
+import com.example.scsa.domain.entity.MatchSearch;
+import com.example.scsa.domain.event.MatchChangedEvent;
+import com.example.scsa.dto.alert.MatchAlertDTO;
+import com.example.scsa.repository.MatchSearchRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 새 매치 알림 발송
+ *
+ * 매치 생성(MatchChangedEvent.CREATED) 커밋 후:
+ *  1) match_search 행 하나를 PK로 조회
+ *  2) SavedSearchIndex(역색인)로 조건에 맞는 저장된 검색 조회 (저장된 검색 수와 무관하게 버킷 크기만큼만 평가)
+ *  3) 맞은 사용자마다 STOMP 사용자 큐(/user/queue/match-alerts)로 MatchAlertDTO 전송 (호스트 본인 제외)
+ *
+ * 알림 실패는 매치 생성 결과에 영향을 주지 않는다 (커밋 이후 처리, 예외는 로그만 남김).
+ *
+ * 메트릭: match.alert.evaluate (평가 시간), match.alert.delivered (전송 건수)
+ */
+@Slf4j
+@Component
+public class MatchAlertNotifier {
+
+    // 클라이언트 구독 경로: /user/queue/match-alerts
+    private static final String ALERT_DESTINATION = "/queue/match-alerts";
+
+    private static final DateTimeFormatter ISO_DATETIME = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private final MatchSearchRepository matchSearchRepository;
+    private final SavedSearchIndex savedSearchIndex;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private final Timer evaluateTimer;
+    private final Counter deliveredCounter;
+
+    public MatchAlertNotifier(MatchSearchRepository matchSearchRepository,
+                              SavedSearchIndex savedSearchIndex,
+                              SimpMessagingTemplate messagingTemplate,
+                              MeterRegistry meterRegistry) {
+        this.matchSearchRepository = matchSearchRepository;
+        this.savedSearchIndex = savedSearchIndex;
+        this.messagingTemplate = messagingTemplate;
+        this.evaluateTimer = meterRegistry.timer("match.alert.evaluate");
+        this.deliveredCounter = meterRegistry.counter("match.alert.delivered");
+    }
+
+    /**
+     * 매치 생성 커밋 후 저장된 검색 평가 + 알림 전송
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMatchChanged(MatchChangedEvent event) {
+        if (event.getType() != MatchChangedEvent.Type.CREATED || event.getMatchId() == null) {
+            return;
+        }
+
+        try {
+            MatchSearch row = matchSearchRepository.findById(event.getMatchId()).orElse(null);
+            if (row == null) {
+                return;
+            }
+
+            List<SavedSearchIndex.Hit> hits = evaluateTimer.record(() -> savedSearchIndex.match(row));
+
+            int delivered = 0;
+            for (SavedSearchIndex.Hit hit : hits) {
+                if (hit.userId() == row.getHostId()) {
+                    continue;
+                }
+                messagingTemplate.convertAndSendToUser(
+                        String.valueOf(hit.userId()), ALERT_DESTINATION, toAlert(hit, row));
+                delivered++;
+            }
+            deliveredCounter.increment(delivered);
+
+            log.debug("[MatchAlert] matchId: {}, hits: {}, delivered: {}",
+                    row.getMatchId(), hits.size(), delivered);
+        } catch (Exception e) {
+            log.warn("[MatchAlert] 알림 처리 실패 - matchId: {}, error: {}", event.getMatchId(), e.getMessage());
+        }
+    }
+
+    private MatchAlertDTO toAlert(SavedSearchIndex.Hit hit, MatchSearch row) {
+        return MatchAlertDTO.builder()
+                .savedSearchId(hit.savedSearchId())
+                .matchId(row.getMatchId())
+                .courtId(row.getCourtId())
+                .gameType(row.getGameType().name())
+                .startDateTime(row.getMatchStartDateTime().format(ISO_DATETIME))
+                .endDateTime(row.getMatchEndDateTime().format(ISO_DATETIME))
+                .fee(row.getFee())
+                .build();
+    }
+}
@@ -0,0 +1,438 @@
+package com.example.scsa.service.alert;
+
+import com.example.scsa.domain.entity.MatchSearch;
+import com.example.scsa.domain.entity.SavedSearch;
+import com.example.scsa.repository.SavedSearchRepository;
+import com.example.scsa.util.GeoDistanceKernel;
+import com.example.scsa.util.GeoGrid;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 저장된 매치 검색 역색인 (인메모리)
+ *
+ * 새 매치 하나가 어떤 저장된 검색 조건에 맞는지를 저장된 검색 전체를 훑지 않고 찾는다.
+ *
+ * 구조:
+ *  - 버킷 키 = (위치 격자 셀, gameType, 시작 날짜)
+ *  - 저장된 검색은 반경이 덮는 셀들 x gameType x 날짜 범위의 각 날짜 버킷에 등록
+ *    • 위치 조건이 없거나 반경이 넓어 셀이 MAX_CELLS_PER_SEARCH 개를 넘으면 ANY 셀
+ *    • gameType 조건이 없으면 ANY gameType
+ *    • 날짜 범위가 열려 있거나 MAX_DAYS_PER_SEARCH 일을 넘으면 ANY 날짜
+ *  - 새 매치 평가: (매치 셀 | ANY) x (gameType | ANY) x (날짜 | ANY) 8개 버킷만 조회 후
+ *    후보마다 정확한 조건(거리, 시간대, 모집 조건 비트마스크, 날짜 범위) 확인
+ *  → 평가 비용은 저장된 검색 수가 아니라 해당 버킷 크기에 비례
+ *
+ * 갱신:
+ *  - 애플리케이션 시작 시 + 주기적으로(match.alert.index-refresh-interval-ms) 전체 재빌드
+ *  - 저장/삭제/회원 탈퇴 커밋 후 add()/remove()/removeAllByUser()로 이 서버에 바로 반영하고,
+ *    Redis pub/sub(match:alert:saved-search:changed)으로 다른 서버에도 전파
+ *    (메시지가 유실되면 다음 주기 재빌드에서 보정)
+ *  - 재빌드 시 상태를 통째로 교체하므로 조회 쪽은 락 없이 읽음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SavedSearchIndex implements MessageListener {
+
+    static final String CHANGE_CHANNEL = "match:alert:saved-search:changed";
+
+    // 변경 메시지 종류
+    private static final String ADDED = "ADDED";
+    private static final String REMOVED = "REMOVED";
+    private static final String USER_REMOVED = "USER_REMOVED";
+
+    // 격자 한 칸 크기(도), 위도 기준 약 11km
+    private static final double CELL_SIZE_DEGREE = 0.1;
+
+    // 저장된 검색 하나가 등록될 수 있는 최대 셀 / 날짜 버킷 수 (넘으면 ANY 버킷)
+    private static final int MAX_CELLS_PER_SEARCH = 64;
+    private static final int MAX_DAYS_PER_SEARCH = 14;
+
+    // ANY 버킷 값
+    private static final long ANY_CELL = Long.MIN_VALUE;
+    private static final int ANY_GAME_TYPE = -1;
+    private static final long ANY_DAY = Long.MIN_VALUE;
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    // 현재 인덱스 상태 (재빌드 시 통째로 교체)
+    private volatile State state = new State();
+
+    // 이 서버가 발행한 변경 메시지 구분용 (자기 메시지는 이미 반영했으므로 무시)
+    private final String instanceId = UUID.randomUUID().toString();
+
+    /**
+     * 다른 서버의 저장된 검색 변경 메시지 구독
+     */
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANGE_CHANNEL));
+    }
+
+    /**
+     * 애플리케이션 시작 시 인덱스 빌드
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * 주기적으로 인덱스 재빌드
+     */
+    @Scheduled(
+            fixedDelayString = "${match.alert.index-refresh-interval-ms:300000}",
+            initialDelayString = "${match.alert.index-refresh-interval-ms:300000}"
+    )
+    public void refresh() {
+        rebuild();
+    }
+
+    /**
+     * 전체 저장된 검색을 읽어 인덱스 재빌드 (종료 날짜가 지난 검색은 제외)
+     */
+    public void rebuild() {
+        try {
+            LocalDate today = LocalDate.now();
+            State next = new State();
+            for (SavedSearch savedSearch : savedSearchRepository.findAll()) {
+                if (savedSearch.getEndDate() != null && savedSearch.getEndDate().isBefore(today)) {
+                    continue;
+                }
+                next.add(Criteria.of(savedSearch));
+            }
+            this.state = next;
+            log.info("[SavedSearchIndex] rebuilt. searches={}, buckets={}",
+                    next.entries.size(), next.buckets.size());
+        } catch (Exception e) {
+            // 빌드 실패 시 이전 상태 유지
+            log.error("[SavedSearchIndex] rebuild failed", e);
+        }
+    }
+
+    /**
+     * 저장된 검색 추가 (저장 커밋 후 호출, 다른 서버에도 전파)
+     */
+    public void add(SavedSearch savedSearch) {
+        state.add(Criteria.of(savedSearch));
+        publish(ADDED, savedSearch.getId());
+    }
+
+    /**
+     * 저장된 검색 제거 (삭제 커밋 후 호출, 다른 서버에도 전파)
+     */
+    public void remove(Long savedSearchId) {
+        state.remove(savedSearchId);
+        publish(REMOVED, savedSearchId);
+    }
+
+    /**
+     * 사용자의 저장된 검색 전체 제거 (회원 탈퇴 커밋 후 호출, 다른 서버에도 전파)
+     */
+    public void removeAllByUser(Long userId) {
+        state.removeAllByUser(userId);
+        publish(USER_REMOVED, userId);
+    }
+
+    /**
+     * 다른 서버의 변경 메시지 수신
+     * - ADDED        : 저장된 검색을 다시 읽어 등록 (그 사이 삭제되었으면 무시)
+     * - REMOVED      : 저장된 검색 제거
+     * - USER_REMOVED : 사용자의 저장된 검색 전체 제거
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", -1);
+        if (parts.length != 3 || instanceId.equals(parts[0])) {
+            return;
+        }
+
+        try {
+            long id = Long.parseLong(parts[2]);
+            switch (parts[1]) {
+                case ADDED -> savedSearchRepository.findById(id)
+                        .ifPresent(savedSearch -> state.add(Criteria.of(savedSearch)));
+                case REMOVED -> state.remove(id);
+                case USER_REMOVED -> state.removeAllByUser(id);
+                default -> log.warn("[SavedSearchIndex] 잘못된 변경 메시지 - {}", String.join("|", parts));
+            }
+        } catch (NumberFormatException e) {
+            log.warn("[SavedSearchIndex] 잘못된 변경 메시지 - {}", String.join("|", parts));
+        } catch (Exception e) {
+            // 반영 실패 시 다음 주기 재빌드에서 보정
+            log.warn("[SavedSearchIndex] 변경 반영 실패 - message: {}, error: {}",
+                    String.join("|", parts), e.getMessage());
+        }
+    }
+
+    /**
+     * 변경 메시지 발행: {instanceId}|{type}|{id}
+     */
+    private void publish(String type, Long id) {
+        try {
+            redisTemplate.convertAndSend(CHANGE_CHANNEL, instanceId + "|" + type + "|" + id);
+        } catch (Exception e) {
+            // 발행 실패 시 다른 서버는 다음 주기 재빌드에서 반영
+            log.warn("[SavedSearchIndex] 변경 메시지 발행 실패 - type: {}, id: {}, error: {}",
+                    type, id, e.getMessage());
+        }
+    }
+
+    /**
+     * 새 매치 행에 맞는 저장된 검색 조회
+     *
+     * @return 조건에 맞는 저장된 검색 (검색 ID, 사용자 ID)
+     */
+    public List<Hit> match(MatchSearch row) {
+        State s = this.state;
+
+        long cell = GeoGrid.cellKey(cellIndex(row.getCourtLatitude()), cellIndex(row.getCourtLongitude()));
+        int gameType = row.getGameType().ordinal();
+        long day = row.getMatchStartDateTime().toLocalDate().toEpochDay();
+
+        Set<Long> seen = new HashSet<>();
+        List<Hit> hits = new ArrayList<>();
+        for (long c : new long[]{cell, ANY_CELL}) {
+            for (int g : new int[]{gameType, ANY_GAME_TYPE}) {
+                for (long d : new long[]{day, ANY_DAY}) {
+                    Set<Long> ids = s.buckets.get(new BucketKey(c, g, d));
+                    if (ids == null) {
+                        continue;
+                    }
+                    for (Long id : ids) {
+                        if (!seen.add(id)) {
+                            continue;
+                        }
+                        Criteria criteria = s.entries.get(id);
+                        if (criteria != null && criteria.matches(row)) {
+                            hits.add(new Hit(criteria.id, criteria.userId));
+                        }
+                    }
+                }
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * 현재 인덱스에 등록된 저장된 검색 수
+     */
+    public int size() {
+        return state.entries.size();
+    }
+
+    private static long cellIndex(double degree) {
+        return GeoGrid.cellIndex(degree, CELL_SIZE_DEGREE);
+    }
+
+    /**
+     * 조건에 맞은 저장된 검색
+     */
+    public record Hit(long savedSearchId, long userId) {
+    }
+
+    private record BucketKey(long cell, int gameType, long day) {
+    }
+
+    /**
+     * 버킷 → 저장된 검색 ID 집합 + 저장된 검색 ID → 조건
+     */
+    private static class State {
+        private final Map<BucketKey, Set<Long>> buckets = new ConcurrentHashMap<>();
+        private final Map<Long, Criteria> entries = new ConcurrentHashMap<>();
+
+        private void add(Criteria criteria) {
+            entries.put(criteria.id, criteria);
+            for (BucketKey key : criteria.bucketKeys()) {
+                buckets.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(criteria.id);
+            }
+        }
+
+        private void remove(Long id) {
+            Criteria criteria = entries.remove(id);
+            if (criteria == null) {
+                return;
+            }
+            for (BucketKey key : criteria.bucketKeys()) {
+                Set<Long> ids = buckets.get(key);
+                if (ids != null) {
+                    ids.remove(id);
+                    if (ids.isEmpty()) {
+                        buckets.remove(key, ids);
+                    }
+                }
+            }
+        }
+
+        private void removeAllByUser(long userId) {
+            for (Criteria criteria : entries.values()) {
+                if (criteria.userId == userId) {
+                    remove(criteria.id);
+                }
+            }
+        }
+    }
+
+    /**
+     * 저장된 검색 조건 (엔티티 → primitive 값, 평가용)
+     */
+    private static class Criteria {
+        private final long id;
+        private final long userId;
+        private final int gameType;
+        private final long fromDay;
+        private final long toDay;
+        private final int minMinuteOfDay;
+        private final int maxMinuteOfDay;
+        private final int agesMask;
+        private final int gendersMask;
+        private final int periodsMask;
+        private final boolean hasLocation;
+        private final double latitude;
+        private final double longitude;
+        private final double radiusKm;
+
+        private Criteria(SavedSearch s) {
+            this.id = s.getId();
+            this.userId = s.getUser().getId();
+            this.gameType = s.getGameType() != null ? s.getGameType().ordinal() : ANY_GAME_TYPE;
+            this.fromDay = s.getStartDate() != null ? s.getStartDate().toEpochDay() : Long.MIN_VALUE;
+            this.toDay = s.getEndDate() != null ? s.getEndDate().toEpochDay() : Long.MAX_VALUE;
+            this.minMinuteOfDay = s.getMinMinuteOfDay() != null ? s.getMinMinuteOfDay() : 0;
+            this.maxMinuteOfDay = s.getMaxMinuteOfDay() != null ? s.getMaxMinuteOfDay() : Integer.MAX_VALUE;
+            this.agesMask = s.getAgesMask();
+            this.gendersMask = s.getGendersMask();
+            this.periodsMask = s.getPeriodsMask();
+            this.hasLocation = s.hasLocation();
+            this.latitude = hasLocation ? s.getLatitude() : 0.0;
+            this.longitude = hasLocation ? s.getLongitude() : 0.0;
+            this.radiusKm = hasLocation ? s.getRadiusKm() : Double.POSITIVE_INFINITY;
+        }
+
+        private static Criteria of(SavedSearch savedSearch) {
+            return new Criteria(savedSearch);
+        }
+
+        /**
+         * 이 조건이 등록될 버킷 키 목록 (셀 x gameType x 날짜)
+         */
+        private List<BucketKey> bucketKeys() {
+            List<Long> cells = cells();
+            List<Long> days = days();
+            List<BucketKey> keys = new ArrayList<>(cells.size() * days.size());
+            for (long cell : cells) {
+                for (long day : days) {
+                    keys.add(new BucketKey(cell, gameType, day));
+                }
+            }
+            return keys;
+        }
+
+        private List<Long> cells() {
+            if (!hasLocation) {
+                return List.of(ANY_CELL);
+            }
+
+            double dLat = radiusKm / GeoGrid.KM_PER_DEGREE;
+            double minLat = latitude - dLat;
+            double maxLat = latitude + dLat;
+            if (minLat <= -90.0 || maxLat >= 90.0) {
+                return List.of(ANY_CELL);
+            }
+            double cosLat = Math.cos(Math.toRadians(Math.max(Math.abs(minLat), Math.abs(maxLat))));
+            double dLng = radiusKm / (GeoGrid.KM_PER_DEGREE * cosLat);
+
+            long minLatIndex = cellIndex(minLat);
+            long maxLatIndex = cellIndex(maxLat);
+            long minLngIndex = cellIndex(longitude - dLng);
+            long maxLngIndex = cellIndex(longitude + dLng);
+
+            long count = (maxLatIndex - minLatIndex + 1) * (maxLngIndex - minLngIndex + 1);
+            if (count > MAX_CELLS_PER_SEARCH) {
+                return List.of(ANY_CELL);
+            }
+
+            List<Long> cells = new ArrayList<>((int) count);
+            for (long la = minLatIndex; la <= maxLatIndex; la++) {
+                for (long ln = minLngIndex; ln <= maxLngIndex; ln++) {
+                    cells.add(GeoGrid.cellKey(la, ln));
+                }
+            }
+            return cells;
+        }
+
+        private List<Long> days() {
+            if (fromDay == Long.MIN_VALUE || toDay == Long.MAX_VALUE
+                    || toDay - fromDay + 1 > MAX_DAYS_PER_SEARCH) {
+                return List.of(ANY_DAY);
+            }
+            List<Long> days = new ArrayList<>();
+            for (long day = fromDay; day <= toDay; day++) {
+                days.add(day);
+            }
+            return days;
+        }
+
+        /**
+         * 매치 행이 조건에 정확히 맞는지 (MatchSearchRepositoryImpl 검색 조건과 같은 의미)
+         */
+        private boolean matches(MatchSearch row) {
+            if (gameType != ANY_GAME_TYPE && row.getGameType().ordinal() != gameType) {
+                return false;
+            }
+
+            long day = row.getMatchStartDateTime().toLocalDate().toEpochDay();
+            if (day < fromDay || day > toDay) {
+                return false;
+            }
+
+            Integer start = row.getStartMinuteOfDay();
+            Integer end = row.getEndMinuteOfDay();
+            if (start == null || end == null
+                    || start < minMinuteOfDay || end < minMinuteOfDay
+                    || start > maxMinuteOfDay || end > maxMinuteOfDay) {
+                return false;
+            }
+
+            if (!fits(row.getAgesMask(), agesMask)
+                    || !fits(row.getGendersMask(), gendersMask)
+                    || !fits(row.getPeriodsMask(), periodsMask)) {
+                return false;
+            }
+
+            return !hasLocation
+                    || GeoDistanceKernel.haversineKm(latitude, longitude,
+                            row.getCourtLatitude(), row.getCourtLongitude()) <= radiusKm;
+        }
+
+        /**
+         * 모집 조건 비트마스크 비교 (검색 조건 0 = 필터링 하지 않음, 매치 0 = 제한 없음)
+         */
+        private static boolean fits(int rowMask, int searchMask) {
+            return searchMask == 0 || rowMask == 0 || (rowMask & searchMask) != 0;
+        }
+    }
+}
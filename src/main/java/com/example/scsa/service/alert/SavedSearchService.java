@@ -0,0 +1,226 @@
+package com.example.scsa.service.alert;
+
+import com.example.scsa.domain.entity.SavedSearch;
+import com.example.scsa.domain.entity.User;
+import com.example.scsa.domain.vo.Age;
+import com.example.scsa.domain.vo.GameType;
+import com.example.scsa.domain.vo.Gender;
+import com.example.scsa.domain.vo.Period;
+import com.example.scsa.dto.alert.SavedSearchDTO;
+import com.example.scsa.dto.match.MatchListRequestDTO;
+import com.example.scsa.exception.UserNotFoundException;
+import com.example.scsa.exception.alert.SavedSearchNotFoundException;
+import com.example.scsa.exception.match.InvalidMatchSearchParameterException;
+import com.example.scsa.repository.SavedSearchRepository;
+import com.example.scsa.repository.UserRepository;
+import com.example.scsa.util.EnumBitMask;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+@Slf4j
+@Service
+public class SavedSearchService {
+
+    private static final DateTimeFormatter ISO_DATETIME = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    // 이 반경(km) 이상이면 위치 필터 없이 저장 (목록 조회 기본값 100000km)
+    private static final int MAX_RADIUS_KM = 1000;
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final UserRepository userRepository;
+    private final SavedSearchIndex savedSearchIndex;
+    private final int maxPerUser;
+
+    public SavedSearchService(SavedSearchRepository savedSearchRepository,
+                              UserRepository userRepository,
+                              SavedSearchIndex savedSearchIndex,
+                              @Value("${match.alert.max-saved-searches-per-user:20}") int maxPerUser) {
+        this.savedSearchRepository = savedSearchRepository;
+        this.userRepository = userRepository;
+        this.savedSearchIndex = savedSearchIndex;
+        this.maxPerUser = maxPerUser;
+    }
+
+    /**
+     * 검색 조건 저장 (매치 알림 등록)
+     *
+     * 처리 흐름:
+     *  1) 사용자별 최대 개수 확인
+     *  2) 목록 조회 요청(MatchListRequestDTO)의 필터 필드 파싱 + 검증
+     *     (날짜, 시간대, gameType, 모집 조건, 좌표 + 반경 / sort, size, cursor, status, q 는 사용하지 않음)
+     *  3) 저장 후 커밋되면 역색인(SavedSearchIndex)에 등록
+     */
+    @Transactional
+    public SavedSearchDTO createSavedSearch(Long userId, MatchListRequestDTO request) {
+
+        // 1. 최대 개수 확인
+        if (savedSearchRepository.countByUser_Id(userId) >= maxPerUser) {
+            throw new InvalidMatchSearchParameterException("저장된 검색은 최대 " + maxPerUser + "개까지 등록할 수 있습니다.");
+        }
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(UserNotFoundException::new);
+
+        // 2. 날짜 범위
+        LocalDate startDate = parseDate(request.getStartDate(), "startDate");
+        LocalDate endDate = parseDate(request.getEndDate(), "endDate");
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new InvalidMatchSearchParameterException("startDate는 endDate보다 이후일 수 없습니다.");
+        }
+        if (endDate != null && endDate.isBefore(LocalDate.now())) {
+            throw new InvalidMatchSearchParameterException("endDate가 이미 지났습니다.");
+        }
+
+        // 시간대
+        int startHour = request.getStartTime() != null ? request.getStartTime() : 0;
+        int endHour = request.getEndTime() != null ? request.getEndTime() : 24;
+        if (startHour < 0 || startHour > 23 || endHour < 1 || endHour > 24 || startHour >= endHour) {
+            throw new InvalidMatchSearchParameterException("잘못된 시간 범위입니다.");
+        }
+
+        // gameType
+        GameType gameType = null;
+        if (request.getGameType() != null && !request.getGameType().isBlank()) {
+            try {
+                gameType = GameType.valueOf(request.getGameType());
+            } catch (IllegalArgumentException e) {
+                throw new InvalidMatchSearchParameterException("존재하지 않는 gameType 입니다.");
+            }
+        }
+
+        // 위치: 좌표가 둘 다 있고 반경이 MAX_RADIUS_KM 미만일 때만 위치 필터
+        Double lat = request.getLatitude();
+        Double lng = request.getLongitude();
+        if ((lat == null) != (lng == null)) {
+            throw new InvalidMatchSearchParameterException("latitude와 longitude는 둘 다 존재하거나 둘 다 null이어야 합니다.");
+        }
+        Integer radius = request.getRadius();
+        boolean hasLocation = lat != null && radius != null && radius > 0 && radius < MAX_RADIUS_KM;
+
+        SavedSearch savedSearch = SavedSearch.builder()
+                .user(user)
+                .gameType(gameType)
+                .startDate(startDate)
+                .endDate(endDate)
+                .minMinuteOfDay(startHour > 0 ? startHour * 60 : null)
+                .maxMinuteOfDay(endHour < 24 ? endHour * 60 : null)
+                .agesMask(parseMask(request.getAgeRange(), Age.class, "ageRange"))
+                .gendersMask(parseMask(request.getGender(), Gender.class, "gender"))
+                .periodsMask(parseMask(request.getPeriod(), Period.class, "period"))
+                .latitude(hasLocation ? lat : null)
+                .longitude(hasLocation ? lng : null)
+                .radiusKm(hasLocation ? radius : null)
+                .build();
+
+        SavedSearch saved = savedSearchRepository.save(savedSearch);
+        log.info("[SavedSearch] created - userId: {}, savedSearchId: {}", userId, saved.getId());
+
+        // 3. 커밋 후 역색인 등록
+        afterCommit(() -> savedSearchIndex.add(saved));
+
+        return toDTO(saved);
+    }
+
+    /**
+     * 내 저장된 검색 목록
+     */
+    @Transactional(readOnly = true)
+    public List<SavedSearchDTO> getSavedSearches(Long userId) {
+        return savedSearchRepository.findAllByUser_IdOrderByIdDesc(userId).stream()
+                .map(this::toDTO)
+                .toList();
+    }
+
+    /**
+     * 저장된 검색 삭제 (본인 소유만, 커밋 후 역색인에서 제거)
+     */
+    @Transactional
+    public void deleteSavedSearch(Long userId, Long savedSearchId) {
+        SavedSearch savedSearch = savedSearchRepository.findByIdAndUser_Id(savedSearchId, userId)
+                .orElseThrow(() -> new SavedSearchNotFoundException(savedSearchId));
+
+        savedSearchRepository.delete(savedSearch);
+        afterCommit(() -> savedSearchIndex.remove(savedSearchId));
+    }
+
+    /**
+     * 회원 탈퇴 시 저장된 검색 전체 삭제 (커밋 후 역색인에서 해당 사용자 검색 제거)
+     */
+    @Transactional
+    public void deleteAllByUser(Long userId) {
+        savedSearchRepository.deleteAllByUserId(userId);
+        afterCommit(() -> savedSearchIndex.removeAllByUser(userId));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private LocalDate parseDate(String value, String paramName) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new InvalidMatchSearchParameterException(paramName + " 값이 잘못되었습니다: " + value, e);
+        }
+    }
+
+    /**
+     * 콤마 구분 enum 목록 → 비트마스크 (null/빈값이면 0, 필터링 하지 않음)
+     */
+    private <E extends Enum<E>> int parseMask(String param, Class<E> type, String paramName) {
+        if (param == null || param.isBlank()) {
+            return 0;
+        }
+
+        int mask = 0;
+        for (String token : param.split(",")) {
+            String trimmed = token.trim();
+            if (trimmed.isEmpty()) continue;
+            try {
+                mask |= EnumBitMask.bitOf(Enum.valueOf(type, trimmed));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidMatchSearchParameterException(paramName + " 값이 잘못되었습니다: " + trimmed);
+            }
+        }
+        return mask;
+    }
+
+    private SavedSearchDTO toDTO(SavedSearch s) {
+        return SavedSearchDTO.builder()
+                .savedSearchId(s.getId())
+                .gameType(s.getGameType() != null ? s.getGameType().name() : null)
+                .startDate(s.getStartDate() != null ? s.getStartDate().toString() : null)
+                .endDate(s.getEndDate() != null ? s.getEndDate().toString() : null)
+                .startTime(s.getMinMinuteOfDay() != null ? s.getMinMinuteOfDay() / 60 : 0)
+                .endTime(s.getMaxMinuteOfDay() != null ? s.getMaxMinuteOfDay() / 60 : 24)
+                .ageRange(EnumBitMask.decodeNames(s.getAgesMask(), Age.class))
+                .gender(EnumBitMask.decodeNames(s.getGendersMask(), Gender.class))
+                .period(EnumBitMask.decodeNames(s.getPeriodsMask(), Period.class))
+                .latitude(s.getLatitude())
+                .longitude(s.getLongitude())
+                .radius(s.getRadiusKm())
+                .createdAt(s.getCreatedAt() != null ? s.getCreatedAt().format(ISO_DATETIME) : null)
+                .build();
+    }
+}
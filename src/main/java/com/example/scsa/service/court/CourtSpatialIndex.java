@@ -0,0 +1,379 @@
+package com.example.scsa.service.court;
+
+import com.example.scsa.domain.entity.Court;
+import com.example.scsa.repository.CourtRepository;
+import com.example.scsa.util.GeoDistanceKernel;
+import com.example.scsa.util.GeoGrid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 코트 좌표 인메모리 격자(grid) 인덱스
+ *
+ * 코트는 거의 바뀌지 않으므로 전체 코트 좌표를 메모리에 올려두고,
+ * "기준 좌표에서 R km 이내 코트 ID + 거리", "bounding box 안 코트 ID" 조회를 DB/엔티티 접근 없이 처리한다.
+ *
+ * 구조:
+ *  - 위경도를 CELL_SIZE_DEGREE 크기의 균일 격자로 나누고, 코트를 셀 순서로 정렬해 primitive 배열에 저장
+ *  - 셀 키 → 배열 구간[start, end) 매핑으로 반경을 덮는 셀들만 순회
+ *  - 위도/경도 라디안 값과 cos(위도)를 미리 계산해 두어 Haversine 계산 비용 절감
+ *  - 셀 구간 단위로 GeoDistanceKernel 일괄 계산 (거리 하한으로 반경 밖 코트는 삼각함수 생략)
+ *
+ * 갱신:
+ *  - 애플리케이션 시작 시 + 주기적으로(court.spatial-index.refresh-interval-ms) 전체 재빌드
+ *  - 코트 변경 시 rebuild()를 직접 호출해도 됨
+ *  - 스냅샷을 통째로 교체하므로 조회 쪽은 락 없이 안전하게 읽음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CourtSpatialIndex {
+
+    // 격자 한 칸 크기(도), 위도 기준 약 5.5km
+    private static final double CELL_SIZE_DEGREE = 0.05;
+
+    private final CourtRepository courtRepository;
+
+    // 현재 인덱스 스냅샷 (재빌드 시 통째로 교체)
+    private volatile Snapshot snapshot;
+
+    /**
+     * 애플리케이션 시작 시 인덱스 빌드
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * 주기적으로 인덱스 재빌드 (코트 데이터는 SQL 스크립트 등으로도 바뀔 수 있음)
+     */
+    @Scheduled(
+            fixedDelayString = "${court.spatial-index.refresh-interval-ms:600000}",
+            initialDelayString = "${court.spatial-index.refresh-interval-ms:600000}"
+    )
+    public void refresh() {
+        rebuild();
+    }
+
+    /**
+     * 전체 코트를 읽어 인덱스 재빌드
+     */
+    public void rebuild() {
+        try {
+            List<Court> courts = courtRepository.findAll();
+            this.snapshot = Snapshot.build(courts);
+            log.info("[CourtSpatialIndex] rebuilt. courts={}, cells={}",
+                    courts.size(), snapshot.cellRanges.size());
+        } catch (Exception e) {
+            // 빌드 실패 시 이전 스냅샷 유지 (없으면 호출 측에서 DB/Haversine 경로 사용)
+            log.error("[CourtSpatialIndex] rebuild failed", e);
+        }
+    }
+
+    /**
+     * 인덱스 사용 가능 여부
+     */
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 기준 좌표에서 radiusKm 이내 코트 ID와 거리 조회
+     *
+     * @return 인덱스가 아직 빌드되지 않았으면 null
+     */
+    public NearbyCourts findWithin(double lat, double lng, double radiusKm) {
+        Snapshot s = this.snapshot;
+        if (s == null) {
+            return null;
+        }
+        return s.findWithin(lat, lng, radiusKm);
+    }
+
+    /**
+     * bounding box(남서쪽 minLat,minLng → 북동쪽 maxLat,maxLng) 안 코트 ID 조회 (지도 클러스터용)
+     *
+     * @return 코트 ID 오름차순, 인덱스가 아직 빌드되지 않았으면 null
+     */
+    public long[] findInBoundingBox(double minLat, double minLng, double maxLat, double maxLng) {
+        Snapshot s = this.snapshot;
+        if (s == null) {
+            return null;
+        }
+        return s.findInBoundingBox(minLat, minLng, maxLat, maxLng);
+    }
+
+    /**
+     * 조회 결과: 반경 이내 코트 ID(오름차순) + 거리(km)
+     */
+    public static class NearbyCourts {
+
+        private final long[] courtIds;
+        private final double[] distancesKm;
+        private final Snapshot source;
+
+        private NearbyCourts(long[] courtIds, double[] distancesKm, Snapshot source) {
+            this.courtIds = courtIds;
+            this.distancesKm = distancesKm;
+            this.source = source;
+        }
+
+        public int size() {
+            return courtIds.length;
+        }
+
+        public long[] getCourtIds() {
+            return courtIds;
+        }
+
+        /**
+         * 코트까지의 거리(km)
+         *
+         * @return 반경 이내면 거리,
+         *         인덱스에 있지만 반경 밖이면 Double.POSITIVE_INFINITY,
+         *         인덱스에 없는 코트(마지막 빌드 이후 추가됨)면 Double.NaN
+         */
+        public double distanceOf(long courtId) {
+            int i = Arrays.binarySearch(courtIds, courtId);
+            if (i >= 0) {
+                return distancesKm[i];
+            }
+            return source.contains(courtId) ? Double.POSITIVE_INFINITY : Double.NaN;
+        }
+    }
+
+    /**
+     * 불변 인덱스 스냅샷 (primitive 배열 기반)
+     */
+    private static final class Snapshot {
+
+        // 셀 순서로 정렬된 코트 데이터
+        private final long[] ids;
+        private final double[] latRad;
+        private final double[] lngRad;
+        private final double[] cosLat;
+
+        // 셀 키 → {start, end}
+        private final Map<Long, int[]> cellRanges;
+
+        // 셀 하나의 최대 코트 수 (거리 계산 버퍼 크기)
+        private final int maxCellSize;
+
+        // 코트 ID 오름차순 (인덱스 포함 여부 확인용)
+        private final long[] sortedIds;
+
+        private Snapshot(long[] ids, double[] latRad, double[] lngRad, double[] cosLat,
+                         Map<Long, int[]> cellRanges, long[] sortedIds) {
+            this.ids = ids;
+            this.latRad = latRad;
+            this.lngRad = lngRad;
+            this.cosLat = cosLat;
+            this.cellRanges = cellRanges;
+            this.sortedIds = sortedIds;
+            this.maxCellSize = cellRanges.values().stream()
+                    .mapToInt(range -> range[1] - range[0])
+                    .max()
+                    .orElse(0);
+        }
+
+        private static Snapshot build(List<Court> courts) {
+            int n = courts.size();
+
+            // 셀 키 기준으로 정렬
+            Court[] sorted = courts.toArray(new Court[0]);
+            Arrays.sort(sorted, (a, b) -> Long.compare(
+                    GeoGrid.cellKey(cellOf(a.getLatitude()), cellOf(a.getLongitude())),
+                    GeoGrid.cellKey(cellOf(b.getLatitude()), cellOf(b.getLongitude()))));
+
+            long[] ids = new long[n];
+            double[] latRad = new double[n];
+            double[] lngRad = new double[n];
+            double[] cosLat = new double[n];
+            Map<Long, int[]> cellRanges = new HashMap<>();
+
+            for (int i = 0; i < n; i++) {
+                Court c = sorted[i];
+                ids[i] = c.getId();
+                latRad[i] = Math.toRadians(c.getLatitude());
+                lngRad[i] = Math.toRadians(c.getLongitude());
+                cosLat[i] = Math.cos(latRad[i]);
+
+                long key = GeoGrid.cellKey(cellOf(c.getLatitude()), cellOf(c.getLongitude()));
+                int[] range = cellRanges.get(key);
+                if (range == null) {
+                    cellRanges.put(key, new int[]{i, i + 1});
+                } else {
+                    range[1] = i + 1;
+                }
+            }
+
+            long[] sortedIds = ids.clone();
+            Arrays.sort(sortedIds);
+
+            return new Snapshot(ids, latRad, lngRad, cosLat, cellRanges, sortedIds);
+        }
+
+        private boolean contains(long courtId) {
+            return Arrays.binarySearch(sortedIds, courtId) >= 0;
+        }
+
+        private NearbyCourts findWithin(double lat, double lng, double radiusKm) {
+            double originLatRad = Math.toRadians(lat);
+            double originLngRad = Math.toRadians(lng);
+            double originCos = Math.cos(originLatRad);
+
+            // 반경을 덮는 셀 범위 계산 (극지방/날짜변경선 부근이거나 셀이 너무 많으면 전체 순회)
+            double dLat = radiusKm / GeoGrid.KM_PER_DEGREE;
+            double maxAbsLat = Math.min(Math.abs(lat) + dLat, 90.0);
+            double dLng = (maxAbsLat >= 89.0)
+                    ? 360.0
+                    : radiusKm / (GeoGrid.KM_PER_DEGREE * Math.cos(Math.toRadians(maxAbsLat)));
+
+            long minLatCell = cellOf(lat - dLat);
+            long maxLatCell = cellOf(lat + dLat);
+            long minLngCell = cellOf(lng - dLng);
+            long maxLngCell = cellOf(lng + dLng);
+            long cellCount = (maxLatCell - minLatCell + 1) * (maxLngCell - minLngCell + 1);
+
+            boolean fullScan = lng - dLng < -180.0 || lng + dLng > 180.0
+                    || cellCount > cellRanges.size();
+
+            Hits hits = new Hits();
+
+            if (fullScan) {
+                double[] distances = new double[ids.length];
+                collect(hits, originLatRad, originLngRad, originCos, 0, ids.length, radiusKm, distances);
+            } else {
+                double[] distances = new double[maxCellSize];
+                for (long latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+                    for (long lngCell = minLngCell; lngCell <= maxLngCell; lngCell++) {
+                        int[] range = cellRanges.get(GeoGrid.cellKey(latCell, lngCell));
+                        if (range == null) {
+                            continue;
+                        }
+                        collect(hits, originLatRad, originLngRad, originCos, range[0], range[1], radiusKm, distances);
+                    }
+                }
+            }
+
+            return sortById(Arrays.copyOf(hits.ids, hits.size), Arrays.copyOf(hits.distances, hits.size));
+        }
+
+        private long[] findInBoundingBox(double minLat, double minLng, double maxLat, double maxLng) {
+            // 라디안 변환은 단조 증가이므로 저장된 라디안 값과 그대로 비교
+            double minLatRad = Math.toRadians(minLat);
+            double maxLatRad = Math.toRadians(maxLat);
+            double minLngRad = Math.toRadians(minLng);
+            double maxLngRad = Math.toRadians(maxLng);
+
+            long minLatCell = cellOf(minLat);
+            long maxLatCell = cellOf(maxLat);
+            long minLngCell = cellOf(minLng);
+            long maxLngCell = cellOf(maxLng);
+            long cellCount = (maxLatCell - minLatCell + 1) * (maxLngCell - minLngCell + 1);
+
+            // 확인할 배열 구간 (덮는 셀이 인덱스의 셀 수보다 많으면 전체 구간 하나)
+            List<int[]> ranges = new ArrayList<>();
+            if (cellCount > cellRanges.size()) {
+                ranges.add(new int[]{0, ids.length});
+            } else {
+                for (long latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+                    for (long lngCell = minLngCell; lngCell <= maxLngCell; lngCell++) {
+                        int[] range = cellRanges.get(GeoGrid.cellKey(latCell, lngCell));
+                        if (range != null) {
+                            ranges.add(range);
+                        }
+                    }
+                }
+            }
+
+            long[] found = new long[16];
+            int size = 0;
+            for (int[] range : ranges) {
+                for (int i = range[0]; i < range[1]; i++) {
+                    if (latRad[i] >= minLatRad && latRad[i] <= maxLatRad
+                            && lngRad[i] >= minLngRad && lngRad[i] <= maxLngRad) {
+                        if (size == found.length) {
+                            found = Arrays.copyOf(found, size * 2);
+                        }
+                        found[size++] = ids[i];
+                    }
+                }
+            }
+
+            long[] result = Arrays.copyOf(found, size);
+            Arrays.sort(result);
+            return result;
+        }
+
+        /**
+         * 구간 [from, to) 코트 거리를 일괄 계산(GeoDistanceKernel)하여 반경 이내 코트만 결과에 추가
+         */
+        private void collect(Hits hits, double originLatRad, double originLngRad, double originCos,
+                             int from, int to, double radiusKm, double[] distances) {
+            int within = GeoDistanceKernel.distancesWithin(
+                    originLatRad, originLngRad, originCos, latRad, lngRad, cosLat, from, to, radiusKm, distances);
+            if (within == 0) {
+                return;
+            }
+            for (int k = 0; k < to - from; k++) {
+                if (distances[k] <= radiusKm) {
+                    hits.add(ids[from + k], distances[k]);
+                }
+            }
+        }
+
+        /**
+         * 결과를 코트 ID 오름차순으로 정렬 (distanceOf()의 이진 탐색용)
+         */
+        private NearbyCourts sortById(long[] hitIds, double[] hitDistances) {
+            Integer[] order = new Integer[hitIds.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Long.compare(hitIds[a], hitIds[b]));
+
+            long[] sortedHitIds = new long[hitIds.length];
+            double[] sortedDistances = new double[hitIds.length];
+            for (int i = 0; i < order.length; i++) {
+                sortedHitIds[i] = hitIds[order[i]];
+                sortedDistances[i] = hitDistances[order[i]];
+            }
+            return new NearbyCourts(sortedHitIds, sortedDistances, this);
+        }
+
+        /**
+         * 반경 이내 코트 ID + 거리 누적 버퍼
+         */
+        private static final class Hits {
+            private long[] ids = new long[16];
+            private double[] distances = new double[16];
+            private int size;
+
+            private void add(long id, double distance) {
+                if (size == ids.length) {
+                    ids = Arrays.copyOf(ids, size * 2);
+                    distances = Arrays.copyOf(distances, size * 2);
+                }
+                ids[size] = id;
+                distances[size] = distance;
+                size++;
+            }
+        }
+
+        private static long cellOf(double degree) {
+            return GeoGrid.cellIndex(degree, CELL_SIZE_DEGREE);
+        }
+    }
+}
@@ -0,0 +1,788 @@
+package com.example.scsa.service.match;
+
+import com.example.scsa.domain.event.MatchChangedEvent;
+import com.example.scsa.domain.vo.MatchStatus;
+import com.example.scsa.dto.match.MatchRow;
+import com.example.scsa.dto.match.MatchSearchCondition;
+import com.example.scsa.repository.MatchKeysetOrder;
+import com.example.scsa.repository.MatchSearchRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 시작 전 RECRUITING 매치 인메모리 컬럼형(columnar) 인덱스
+ *
+ * 목록 조회의 대부분은 기본값(status=RECRUITING, 현재 시각 이후)이고 그 대상은 메모리에 올릴 만큼 작으므로,
+ * 해당 매치를 primitive 배열로 들고 있다가 필터/정렬/페이지 처리를 DB 왕복 없이 수행한다.
+ *
+ * 구조:
+ *  - 매치 하나 = 배열 인덱스 하나, 컬럼별 primitive 배열 (matchId 오름차순으로 배치)
+ *    (matchId, 시작/종료/생성 시각(epoch 마이크로초), 코트 ID, gameType ordinal, 시작/종료 minute of day, 모집 조건 비트마스크)
+ *  - 응답 변환용 MatchRow 배열 (DB 경로와 같은 projection)
+ *  - (생성 시각, matchId) / (시작 시각, matchId) 순서의 정렬 순열 → keyset 커서 위치를 이진 탐색
+ *
+ * 갱신:
+ *  - 애플리케이션 시작 시 + 주기적으로(match.hot-index.refresh-interval-ms) 전체 재적재 (다른 서버의 변경, 재빌드 배치 반영)
+ *  - 매치 생성/삭제/상태 변경 커밋 후(MatchChangedEvent) 해당 행만 다시 읽어 반영, 만료 배치 후에는 시작된 매치 제거
+ *    → 전체 재정렬 없이 해당 행만 삽입/삭제한 새 스냅샷을 만듦 (matchId / 정렬 순열 이진 탐색 + 배열 복사, O(N))
+ *  - 같은 변경을 Redis pub/sub(match:hot-index:changed)으로 전파 → 다른 서버도 주기 재적재를 기다리지 않고 바로 반영
+ *  - 스냅샷은 불변(copy-on-write)이고 참조만 교체하므로 조회 쪽은 락 없이 안전하게 읽음
+ *  - 첫 적재 / 재적재 중에 들어온 변경은 matchId 를 기록해 두었다가 적재 완료 후 다시 읽어 반영
+ *
+ * 적용 범위 (그 외 조건이면 null 반환 → 호출 측에서 DB 경로 사용):
+ *  - status 조건이 RECRUITING 뿐
+ *  - 설명 검색어(q) 없음 (FULLTEXT 인덱스 필요)
+ *  - 위치 조건은 없거나 반경 이내 코트 ID 목록 (bounding box 는 court 테이블 SPATIAL 조회가 필요)
+ *
+ * 인덱스 결과는 서버마다 반영 시점이 다를 수 있으므로 공유 결과 캐시(MatchListCache)에는 저장하지 않는다
+ * (변경 직후 아직 반영 전인 서버가 새 버전 키로 이전 결과를 저장하는 것을 막기 위함, MatchListService 참고).
+ *
+ * 정합성 확인:
+ *  - match.hot-index.verify-sample-rate 비율의 요청은 DB 경로도 함께 조회해 결과 matchId 를 비교 (verify)
+ *  - 다르면 match.hot-index.verify{result=mismatch} 증가 + 경고 로그 + 재적재 예약
+ *    (전용 스레드에서 비동기로 수행, 대기 중인 재적재가 있으면 합침 → 요청 스레드는 기다리지 않음)
+ */
+@Slf4j
+@Component
+public class HotMatchIndex implements MessageListener {
+
+    static final String CHANGE_CHANNEL = "match:hot-index:changed";
+
+    private final MatchSearchRepository matchSearchRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final boolean enabled;
+    private final double verifySampleRate;
+
+    private final Counter verifyMatchCounter;
+    private final Counter verifyMismatchCounter;
+
+    // 현재 인덱스 스냅샷 (변경 시 새 스냅샷으로 교체, 적재 전이면 null), 교체는 this 로 동기화
+    private volatile Snapshot snapshot;
+
+    // 전체 재적재(첫 적재 포함) 중 이벤트로 바뀐 matchId (적재 완료 후 다시 읽어 반영), this 로 동기화
+    private boolean reloading;
+    private final Set<Long> changedDuringReload = new HashSet<>();
+
+    private final Object rebuildLock = new Object();
+
+    // 불일치 재적재용 단일 스레드 (요청 스레드에서 재적재하지 않도록)
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "hot-match-index-rebuild");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // 아직 시작하지 않은 재적재가 예약되어 있는지 (중복 요청은 하나로 합침)
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+
+    // 이 서버가 발행한 변경 메시지 구분용 (자기 메시지는 이미 반영했으므로 무시)
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public HotMatchIndex(MatchSearchRepository matchSearchRepository,
+                         RedisTemplate<String, String> redisTemplate,
+                         RedisMessageListenerContainer listenerContainer,
+                         MeterRegistry meterRegistry,
+                         @Value("${match.hot-index.enabled:true}") boolean enabled,
+                         @Value("${match.hot-index.verify-sample-rate:0.01}") double verifySampleRate) {
+        this.matchSearchRepository = matchSearchRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.enabled = enabled;
+        this.verifySampleRate = verifySampleRate;
+        this.verifyMatchCounter = meterRegistry.counter("match.hot-index.verify", "result", "match");
+        this.verifyMismatchCounter = meterRegistry.counter("match.hot-index.verify", "result", "mismatch");
+        meterRegistry.gauge("match.hot-index.size", this, HotMatchIndex::size);
+    }
+
+    /**
+     * 다른 서버의 매치 변경 메시지 구독
+     */
+    @PostConstruct
+    public void subscribe() {
+        if (enabled) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(CHANGE_CHANNEL));
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 시 인덱스 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * 주기적으로 인덱스 재적재 (다른 서버에서 커밋된 변경 / match_search 재빌드 배치 반영)
+     */
+    @Scheduled(
+            fixedDelayString = "${match.hot-index.refresh-interval-ms:60000}",
+            initialDelayString = "${match.hot-index.refresh-interval-ms:60000}"
+    )
+    public void refresh() {
+        rebuild();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * 재적재 예약 (비동기)
+     *
+     * - 이미 예약되어 아직 시작하지 않은 재적재가 있으면 그 재적재로 합침
+     * - 재적재 실행 중에 들어온 요청은 끝난 뒤 한 번 더 수행 (실행 중인 적재 쿼리보다 뒤의 변경일 수 있음)
+     */
+    public void requestRebuild() {
+        if (!enabled || !rebuildPending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            rebuildExecutor.execute(() -> {
+                rebuildPending.set(false);
+                rebuild();
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            rebuildPending.set(false);
+        }
+    }
+
+    /**
+     * 시작 전 RECRUITING 매치를 모두 읽어 인덱스 재적재
+     */
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        // 주기 재적재와 불일치 재적재가 겹치지 않도록 한 번에 하나만 수행
+        synchronized (rebuildLock) {
+            doRebuild();
+        }
+    }
+
+    private void doRebuild() {
+        synchronized (this) {
+            reloading = true;
+            changedDuringReload.clear();
+        }
+
+        try {
+            List<MatchRow> rows = matchSearchRepository.findRowsByStatusStartingAfter(
+                    MatchStatus.RECRUITING, LocalDateTime.now());
+
+            Snapshot next = Snapshot.build(rows);
+
+            synchronized (this) {
+                // 적재 쿼리 이후 커밋된 변경은 다시 읽어 반영 (적재 결과에 빠졌을 수 있음)
+                for (Long matchId : changedDuringReload) {
+                    next = next.apply(matchId, loadRecruitingRow(matchId));
+                }
+                this.snapshot = next;
+            }
+            log.info("[HotMatchIndex] rebuilt. matches={}", rows.size());
+        } catch (Exception e) {
+            // 적재 실패 시 이전 스냅샷 유지 (없으면 호출 측에서 DB 경로 사용)
+            log.error("[HotMatchIndex] rebuild failed", e);
+        } finally {
+            synchronized (this) {
+                reloading = false;
+                changedDuringReload.clear();
+            }
+        }
+    }
+
+    /**
+     * 매치 변경 커밋 후 이 서버 인덱스 반영 + 다른 서버에 변경 메시지 발행
+     *
+     * fallbackExecution: 트랜잭션 밖에서 발행된 이벤트도 즉시 처리
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMatchChanged(MatchChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        applyChange(event.getType(), event.getMatchId());
+
+        // 메시지: {instanceId}|{type}|{matchId} (EXPIRED 면 matchId 빈 값)
+        String message = instanceId + "|" + event.getType().name() + "|"
+                + (event.getMatchId() != null ? event.getMatchId() : "");
+        try {
+            redisTemplate.convertAndSend(CHANGE_CHANNEL, message);
+        } catch (Exception e) {
+            // 발행 실패 시 다른 서버는 다음 주기 재적재에서 반영
+            log.warn("[HotMatchIndex] 변경 메시지 발행 실패 - type: {}, matchId: {}, error: {}",
+                    event.getType(), event.getMatchId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 서버의 매치 변경 메시지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", -1);
+        if (parts.length != 3 || instanceId.equals(parts[0])) {
+            return;
+        }
+
+        MatchChangedEvent.Type type;
+        Long matchId;
+        try {
+            type = MatchChangedEvent.Type.valueOf(parts[1]);
+            matchId = parts[2].isEmpty() ? null : Long.valueOf(parts[2]);
+        } catch (IllegalArgumentException e) {
+            log.warn("[HotMatchIndex] 잘못된 변경 메시지 - {}", String.join("|", parts));
+            return;
+        }
+        applyChange(type, matchId);
+    }
+
+    /**
+     * 매치 변경 반영
+     *
+     * - CREATED / STATUS_CHANGED : match_search 행을 다시 읽어 RECRUITING 이고 시작 전이면 추가/갱신, 아니면 제거
+     * - DELETED                  : 제거
+     * - EXPIRED                  : 이미 시작한 매치 일괄 제거 (만료 배치는 시작 시각이 지난 매치를 COMPLETED 로 변경)
+     *
+     * 첫 적재 전(스냅샷 없음)이어도 적재 중이면 matchId 를 기록해 적재 완료 후 반영한다.
+     */
+    private void applyChange(MatchChangedEvent.Type type, Long matchId) {
+        try {
+            switch (type) {
+                case CREATED, STATUS_CHANGED -> apply(matchId, loadRecruitingRow(matchId));
+                case DELETED -> apply(matchId, null);
+                case EXPIRED -> removeStarted(LocalDateTime.now());
+            }
+        } catch (Exception e) {
+            // 반영 실패 시 다음 주기 재적재에서 보정
+            log.warn("[HotMatchIndex] 변경 반영 실패 - type: {}, matchId: {}, error: {}",
+                    type, matchId, e.getMessage());
+        }
+    }
+
+    /**
+     * keyset 페이지 조회 (MatchSearchRepositoryCustom.findMatchesAfterCursor 와 같은 필터/정렬/LIMIT)
+     *
+     * @return 인덱스가 적재 전이거나 조건을 처리할 수 없으면 null (DB 경로 사용)
+     */
+    public List<MatchRow> findMatchesAfterCursor(MatchSearchCondition condition,
+                                                 MatchKeysetOrder order,
+                                                 LocalDateTime cursorKey,
+                                                 Long cursorId,
+                                                 int limit) {
+        Snapshot s = this.snapshot;
+        if (s == null || !covers(condition)) {
+            return null;
+        }
+        return s.findAfterCursor(new Filter(condition), order, cursorKey, cursorId, limit);
+    }
+
+    /**
+     * 조건에 맞는 매치 전체 조회 (MatchSearchRepositoryCustom.findMatchesForSearch 와 같은 필터, 순서 없음)
+     *
+     * @return 인덱스가 적재 전이거나 조건을 처리할 수 없으면 null (DB 경로 사용)
+     */
+    public List<MatchRow> findMatchesForSearch(MatchSearchCondition condition) {
+        Snapshot s = this.snapshot;
+        if (s == null || !covers(condition)) {
+            return null;
+        }
+        return s.findAll(new Filter(condition));
+    }
+
+    /**
+     * 이번 조회를 DB 경로와 비교할지 여부 (match.hot-index.verify-sample-rate 비율)
+     */
+    public boolean shouldVerify() {
+        return verifySampleRate > 0 && ThreadLocalRandom.current().nextDouble() < verifySampleRate;
+    }
+
+    /**
+     * 인덱스 조회 결과와 DB 조회 결과 비교
+     *
+     * @param ordered true 면 순서까지 비교 (keyset 페이지), false 면 matchId 집합만 비교
+     * @return 같으면 true (다르면 메트릭/로그 후 비동기 재적재 예약)
+     */
+    public boolean verify(List<MatchRow> indexRows, List<MatchRow> dbRows, boolean ordered) {
+        long[] indexIds = indexRows.stream().mapToLong(MatchRow::matchId).toArray();
+        long[] dbIds = dbRows.stream().mapToLong(MatchRow::matchId).toArray();
+        if (!ordered) {
+            Arrays.sort(indexIds);
+            Arrays.sort(dbIds);
+        }
+
+        if (Arrays.equals(indexIds, dbIds)) {
+            verifyMatchCounter.increment();
+            return true;
+        }
+
+        verifyMismatchCounter.increment();
+        log.warn("[HotMatchIndex] DB 조회 결과와 불일치 - index: {}건, db: {}건, 재적재 예약",
+                indexIds.length, dbIds.length);
+        requestRebuild();
+        return false;
+    }
+
+    /**
+     * 인덱스에 올라간 매치 수 (적재 전이면 0)
+     */
+    public int size() {
+        Snapshot s = this.snapshot;
+        return s != null ? s.size : 0;
+    }
+
+    /**
+     * 인덱스로 처리할 수 있는 조건인지 (클래스 주석의 적용 범위)
+     */
+    private boolean covers(MatchSearchCondition condition) {
+        List<MatchStatus> statuses = condition.getStatuses();
+        if (statuses == null || statuses.isEmpty()) {
+            return false;
+        }
+        for (MatchStatus status : statuses) {
+            if (status != MatchStatus.RECRUITING) {
+                return false;
+            }
+        }
+        if (condition.getFullTextQuery() != null) {
+            return false;
+        }
+        return condition.getCourtIds() != null || !condition.hasBoundingBox();
+    }
+
+    /**
+     * match_search 행을 다시 읽어 인덱스 대상(RECRUITING, 시작 전)이면 반환
+     */
+    private MatchRow loadRecruitingRow(Long matchId) {
+        LocalDateTime now = LocalDateTime.now();
+        return matchSearchRepository.findRowByMatchId(matchId)
+                .filter(row -> row.matchStatus() == MatchStatus.RECRUITING)
+                .filter(row -> row.matchStartDateTime().isAfter(now))
+                .orElse(null);
+    }
+
+    private synchronized void apply(Long matchId, MatchRow row) {
+        if (matchId == null) {
+            return;
+        }
+        if (reloading) {
+            changedDuringReload.add(matchId);
+        }
+        Snapshot s = this.snapshot;
+        if (s != null) {
+            this.snapshot = s.apply(matchId, row);
+        }
+    }
+
+    private synchronized void removeStarted(LocalDateTime now) {
+        Snapshot s = this.snapshot;
+        if (s != null) {
+            this.snapshot = s.retainStartingAfter(timeKey(now));
+        }
+    }
+
+    /**
+     * LocalDateTime → 정렬/비교용 long 키 (epoch 마이크로초, DATETIME(6) 정밀도와 같음)
+     */
+    private static long timeKey(LocalDateTime t) {
+        return t.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + t.getNano() / 1_000;
+    }
+
+    private static int minuteOfDay(LocalDateTime t) {
+        return t.getHour() * 60 + t.getMinute();
+    }
+
+    /**
+     * 한 번 조회에 쓰는 필터 값 (MatchSearchRepositoryImpl.appendSearchPredicates 와 같은 의미)
+     */
+    private static final class Filter {
+
+        // 시작/종료 시각 모두 [from, to] (양 끝 포함)
+        private final long from;
+        private final long to;
+
+        // 하루 중 시간대 (시작/종료 minute of day 모두 [min, max])
+        private final int minMinuteOfDay;
+        private final int maxMinuteOfDay;
+
+        // gameType ordinal (-1 이면 필터링 하지 않음)
+        private final int gameType;
+
+        // 모집 조건 비트마스크 (0 이면 필터링 하지 않음)
+        private final int agesMask;
+        private final int gendersMask;
+        private final int periodsMask;
+
+        // 반경 이내 코트 ID (오름차순, null 이면 필터링 하지 않음)
+        private final long[] courtIds;
+
+        private Filter(MatchSearchCondition c) {
+            this.from = timeKey(c.getFrom());
+            this.to = timeKey(c.getTo());
+            this.minMinuteOfDay = c.getMinMinuteOfDay() != null ? c.getMinMinuteOfDay() : Integer.MIN_VALUE;
+            this.maxMinuteOfDay = c.getMaxMinuteOfDay() != null ? c.getMaxMinuteOfDay() : Integer.MAX_VALUE;
+            this.gameType = c.getGameType() != null ? c.getGameType().ordinal() : -1;
+            this.agesMask = c.getAgesMask() != null ? c.getAgesMask() : 0;
+            this.gendersMask = c.getGendersMask() != null ? c.getGendersMask() : 0;
+            this.periodsMask = c.getPeriodsMask() != null ? c.getPeriodsMask() : 0;
+
+            if (c.getCourtIds() != null) {
+                long[] ids = c.getCourtIds().stream().mapToLong(Long::longValue).toArray();
+                Arrays.sort(ids);
+                this.courtIds = ids;
+            } else {
+                this.courtIds = null;
+            }
+        }
+    }
+
+    /**
+     * 인덱스 스냅샷 (불변, 컬럼별 primitive 배열)
+     *
+     * - 컬럼은 matchId 오름차순 → 같은 정렬키 안에서는 인덱스 순서 = matchId 순서
+     * - 한 행 변경은 apply() 로 해당 위치만 삽입/삭제한 새 스냅샷을 만듦 (정렬 없이 배열 복사)
+     */
+    private static final class Snapshot {
+
+        private final int size;
+        private final MatchRow[] rows;
+
+        private final long[] matchIds;
+        private final long[] startKeys;
+        private final long[] endKeys;
+        private final long[] createdKeys;
+        private final long[] courtIds;
+        private final byte[] gameTypes;
+        private final short[] startMinutes;
+        private final short[] endMinutes;
+        private final int[] agesMasks;
+        private final int[] gendersMasks;
+        private final int[] periodsMasks;
+
+        // (정렬키, matchId) 오름차순 순열
+        private int[] byCreatedAt;
+        private int[] byStartAt;
+
+        private Snapshot(int n) {
+            this.size = n;
+            this.rows = new MatchRow[n];
+            this.matchIds = new long[n];
+            this.startKeys = new long[n];
+            this.endKeys = new long[n];
+            this.createdKeys = new long[n];
+            this.courtIds = new long[n];
+            this.gameTypes = new byte[n];
+            this.startMinutes = new short[n];
+            this.endMinutes = new short[n];
+            this.agesMasks = new int[n];
+            this.gendersMasks = new int[n];
+            this.periodsMasks = new int[n];
+        }
+
+        /**
+         * 전체 행으로 스냅샷 생성 (matchId 정렬 + 정렬키별 순열은 int 인덱스 병합 정렬)
+         */
+        private static Snapshot build(List<MatchRow> rows) {
+            MatchRow[] sorted = rows.toArray(new MatchRow[0]);
+            Arrays.sort(sorted, Comparator.comparingLong(MatchRow::matchId));
+
+            Snapshot s = new Snapshot(sorted.length);
+            for (int i = 0; i < sorted.length; i++) {
+                s.set(i, sorted[i]);
+            }
+            s.byCreatedAt = sortedBy(s.createdKeys);
+            s.byStartAt = sortedBy(s.startKeys);
+            return s;
+        }
+
+        /**
+         * 한 매치 반영: 기존 행 제거 후 row 가 있으면 matchId 위치에 삽입
+         *
+         * @param row 인덱스 대상 행 (null 이면 제거만)
+         * @return 바뀐 것이 없으면 this
+         */
+        private Snapshot apply(long matchId, MatchRow row) {
+            Snapshot s = this;
+            int p = Arrays.binarySearch(matchIds, matchId);
+            if (p >= 0) {
+                s = s.removed(p);
+            }
+            if (row != null) {
+                s = s.inserted(-Arrays.binarySearch(s.matchIds, matchId) - 1, row);
+            }
+            return s;
+        }
+
+        /**
+         * 시작 시각이 startKey 이후인 행만 남긴 스냅샷 (만료 배치 반영)
+         */
+        private Snapshot retainStartingAfter(long startKey) {
+            int[] newIndex = new int[size];
+            int n = 0;
+            for (int i = 0; i < size; i++) {
+                newIndex[i] = startKeys[i] > startKey ? n++ : -1;
+            }
+            if (n == size) {
+                return this;
+            }
+
+            Snapshot s = new Snapshot(n);
+            for (int i = 0; i < size; i++) {
+                if (newIndex[i] >= 0) {
+                    s.copyFrom(this, i, newIndex[i], 1);
+                }
+            }
+            s.byCreatedAt = remap(byCreatedAt, newIndex, n);
+            s.byStartAt = remap(byStartAt, newIndex, n);
+            return s;
+        }
+
+        /**
+         * 인덱스 p 에 행 삽입 (p 이후 행은 한 칸씩 뒤로)
+         */
+        private Snapshot inserted(int p, MatchRow m) {
+            Snapshot s = new Snapshot(size + 1);
+            s.copyFrom(this, 0, 0, p);
+            s.copyFrom(this, p, p + 1, size - p);
+            s.set(p, m);
+
+            s.byCreatedAt = insertIndex(byCreatedAt, firstAfter(byCreatedAt, createdKeys, s.createdKeys[p], m.matchId()), p);
+            s.byStartAt = insertIndex(byStartAt, firstAfter(byStartAt, startKeys, s.startKeys[p], m.matchId()), p);
+            return s;
+        }
+
+        /**
+         * 인덱스 p 의 행 제거 (p 이후 행은 한 칸씩 앞으로)
+         */
+        private Snapshot removed(int p) {
+            Snapshot s = new Snapshot(size - 1);
+            s.copyFrom(this, 0, 0, p);
+            s.copyFrom(this, p + 1, p, size - p - 1);
+
+            s.byCreatedAt = removeIndex(byCreatedAt, p);
+            s.byStartAt = removeIndex(byStartAt, p);
+            return s;
+        }
+
+        private void set(int i, MatchRow m) {
+            rows[i] = m;
+            matchIds[i] = m.matchId();
+            startKeys[i] = timeKey(m.matchStartDateTime());
+            endKeys[i] = timeKey(m.matchEndDateTime());
+            createdKeys[i] = timeKey(m.createdAt());
+            courtIds[i] = m.courtId();
+            gameTypes[i] = (byte) m.gameType().ordinal();
+            startMinutes[i] = (short) minuteOfDay(m.matchStartDateTime());
+            endMinutes[i] = (short) minuteOfDay(m.matchEndDateTime());
+            agesMasks[i] = m.agesMask();
+            gendersMasks[i] = m.gendersMask();
+            periodsMasks[i] = m.periodsMask();
+        }
+
+        private void copyFrom(Snapshot src, int srcPos, int destPos, int length) {
+            System.arraycopy(src.rows, srcPos, rows, destPos, length);
+            System.arraycopy(src.matchIds, srcPos, matchIds, destPos, length);
+            System.arraycopy(src.startKeys, srcPos, startKeys, destPos, length);
+            System.arraycopy(src.endKeys, srcPos, endKeys, destPos, length);
+            System.arraycopy(src.createdKeys, srcPos, createdKeys, destPos, length);
+            System.arraycopy(src.courtIds, srcPos, courtIds, destPos, length);
+            System.arraycopy(src.gameTypes, srcPos, gameTypes, destPos, length);
+            System.arraycopy(src.startMinutes, srcPos, startMinutes, destPos, length);
+            System.arraycopy(src.endMinutes, srcPos, endMinutes, destPos, length);
+            System.arraycopy(src.agesMasks, srcPos, agesMasks, destPos, length);
+            System.arraycopy(src.gendersMasks, srcPos, gendersMasks, destPos, length);
+            System.arraycopy(src.periodsMasks, srcPos, periodsMasks, destPos, length);
+        }
+
+        /**
+         * 인덱스 순열을 keys 오름차순으로 안정 정렬 (bottom-up 병합 정렬, boxing 없음)
+         * → 같은 키는 인덱스(= matchId) 오름차순 유지
+         */
+        private static int[] sortedBy(long[] keys) {
+            int n = keys.length;
+            int[] src = new int[n];
+            for (int i = 0; i < n; i++) {
+                src[i] = i;
+            }
+            int[] dst = new int[n];
+
+            for (int width = 1; width < n; width <<= 1) {
+                for (int lo = 0; lo < n; lo += width << 1) {
+                    int mid = Math.min(lo + width, n);
+                    int hi = Math.min(lo + (width << 1), n);
+                    int a = lo;
+                    int b = mid;
+                    int k = lo;
+                    while (a < mid && b < hi) {
+                        dst[k++] = keys[src[b]] < keys[src[a]] ? src[b++] : src[a++];
+                    }
+                    while (a < mid) {
+                        dst[k++] = src[a++];
+                    }
+                    while (b < hi) {
+                        dst[k++] = src[b++];
+                    }
+                }
+                int[] tmp = src;
+                src = dst;
+                dst = tmp;
+            }
+            return src;
+        }
+
+        /**
+         * 순열의 위치 q 에 새 인덱스 p 삽입 (기존 인덱스 중 p 이상은 +1)
+         */
+        private static int[] insertIndex(int[] perm, int q, int p) {
+            int[] result = new int[perm.length + 1];
+            int j = 0;
+            for (int k = 0; k < result.length; k++) {
+                if (k == q) {
+                    result[k] = p;
+                    continue;
+                }
+                int i = perm[j++];
+                result[k] = i >= p ? i + 1 : i;
+            }
+            return result;
+        }
+
+        /**
+         * 순열에서 인덱스 p 제거 (p 보다 큰 인덱스는 -1)
+         */
+        private static int[] removeIndex(int[] perm, int p) {
+            int[] result = new int[perm.length - 1];
+            int k = 0;
+            for (int i : perm) {
+                if (i != p) {
+                    result[k++] = i > p ? i - 1 : i;
+                }
+            }
+            return result;
+        }
+
+        /**
+         * 순열에서 남는 인덱스만 새 인덱스로 바꿔 유지 (newIndex -1 = 제거)
+         */
+        private static int[] remap(int[] perm, int[] newIndex, int n) {
+            int[] result = new int[n];
+            int k = 0;
+            for (int i : perm) {
+                if (newIndex[i] >= 0) {
+                    result[k++] = newIndex[i];
+                }
+            }
+            return result;
+        }
+
+        private List<MatchRow> findAll(Filter f) {
+            List<MatchRow> result = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                if (matches(i, f)) {
+                    result.add(rows[i]);
+                }
+            }
+            return result;
+        }
+
+        private List<MatchRow> findAfterCursor(Filter f, MatchKeysetOrder order,
+                                               LocalDateTime cursorKey, Long cursorId, int limit) {
+            boolean byStart = (order == MatchKeysetOrder.START_DATE_TIME);
+            int[] perm = byStart ? byStartAt : byCreatedAt;
+            long[] keys = byStart ? startKeys : createdKeys;
+
+            int pos = (cursorKey != null && cursorId != null)
+                    ? firstAfter(perm, keys, timeKey(cursorKey), cursorId)
+                    : 0;
+
+            List<MatchRow> result = new ArrayList<>(Math.min(limit, size));
+            for (int p = pos; p < perm.length && result.size() < limit; p++) {
+                int i = perm[p];
+                if (matches(i, f)) {
+                    result.add(rows[i]);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * 순열에서 (정렬키, matchId) > (key, id) 인 첫 위치 (이진 탐색)
+         */
+        private int firstAfter(int[] perm, long[] keys, long key, long id) {
+            int lo = 0;
+            int hi = perm.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                int i = perm[mid];
+                boolean after = keys[i] > key || (keys[i] == key && matchIds[i] > id);
+                if (after) {
+                    hi = mid;
+                } else {
+                    lo = mid + 1;
+                }
+            }
+            return lo;
+        }
+
+        private boolean matches(int i, Filter f) {
+            if (startKeys[i] < f.from || startKeys[i] > f.to || endKeys[i] < f.from || endKeys[i] > f.to) {
+                return false;
+            }
+            if (startMinutes[i] < f.minMinuteOfDay || endMinutes[i] < f.minMinuteOfDay
+                    || startMinutes[i] > f.maxMinuteOfDay || endMinutes[i] > f.maxMinuteOfDay) {
+                return false;
+            }
+            if (f.gameType >= 0 && gameTypes[i] != f.gameType) {
+                return false;
+            }
+            if (!fits(agesMasks[i], f.agesMask)
+                    || !fits(gendersMasks[i], f.gendersMask)
+                    || !fits(periodsMasks[i], f.periodsMask)) {
+                return false;
+            }
+            return f.courtIds == null || Arrays.binarySearch(f.courtIds, courtIds[i]) >= 0;
+        }
+
+        /**
+         * 모집 조건 비트마스크 비교 (요청 0 = 필터링 하지 않음, 매치 0 = 제한 없음)
+         */
+        private static boolean fits(int rowMask, int filterMask) {
+            return filterMask == 0 || rowMask == 0 || (rowMask & filterMask) != 0;
+        }
+    }
+}
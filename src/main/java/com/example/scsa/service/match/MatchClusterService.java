@@ -0,0 +1,188 @@
+package com.example.scsa.service.match;
+
+import com.example.scsa.domain.vo.MatchStatus;
+import com.example.scsa.dto.match.MatchClusterDTO;
+import com.example.scsa.dto.match.MatchClusterResponseDTO;
+import com.example.scsa.dto.match.MatchCourtCountRow;
+import com.example.scsa.exception.match.InvalidMatchSearchParameterException;
+import com.example.scsa.repository.MatchSearchRepository;
+import com.example.scsa.service.court.CourtSpatialIndex;
+import com.example.scsa.util.GeoGrid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class MatchClusterService {
+
+    private static final DateTimeFormatter ISO_DATETIME = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    // 지원 zoom 범위 (웹 지도 타일 zoom 기준, 클수록 확대)
+    private static final int MIN_ZOOM = 0;
+    private static final int MAX_ZOOM = 21;
+
+    // 지도 타일(256px) 한 변을 나누는 격자 셀 수 → 셀 하나가 약 64px
+    private static final int CELLS_PER_TILE = 4;
+
+    // 집계 쿼리 하나에 IN 조건으로 넘길 코트 ID 최대 개수 (넘으면 나눠서 조회, 코트별 결과라 그대로 합침)
+    private static final int MAX_COURT_IDS_PER_QUERY = 1000;
+
+    private final MatchSearchRepository matchSearchRepository;
+    private final CourtSpatialIndex courtSpatialIndex;
+
+    /**
+     * 지도용 매치 클러스터 조회
+     *
+     * 실행 흐름:
+     *  1) bbox(minLat,minLng,maxLat,maxLng) / zoom 파싱 + 유효성 검사
+     *  2) zoom → 격자 셀 크기(도) 계산: 360 / 2^zoom / CELLS_PER_TILE
+     *  3) bbox 안 코트 ID 조회(CourtSpatialIndex) 후, 그 코트들의 모집 중(RECRUITING) + 현재 이후 시작 매치를
+     *     코트별로 집계 (court_id IN (...) GROUP BY 쿼리, 코트 MAX_COURT_IDS_PER_QUERY 개마다 한 번, 코트가 없으면 쿼리 생략)
+     *     - 인덱스가 아직 빌드되지 않았으면 좌표 범위 쿼리로 대체
+     *  4) 코트 좌표가 속한 격자 셀별로 매치 수 합계 / 매치 수 가중 중심 좌표 / 가장 빠른 시작 시각 계산
+     *  5) 매치 수 내림차순으로 응답 생성
+     *
+     * DB에서 읽는 매치 행은 bbox 안 코트들의 모집 중 매치뿐이고(코트 + 상태 + 시작 시각 인덱스),
+     * 코트 단위로 먼저 집계하므로 메모리에 올라오는 집계 행 수는 bbox 안 코트 수를 넘지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public MatchClusterResponseDTO getClusters(String bbox, Integer zoom) {
+
+        // 1) 파라미터 검증
+        double[] box = parseBoundingBox(bbox);
+        if (zoom == null || zoom < MIN_ZOOM || zoom > MAX_ZOOM) {
+            throw new InvalidMatchSearchParameterException(
+                    "zoom은 " + MIN_ZOOM + " ~ " + MAX_ZOOM + " 사이여야 합니다.");
+        }
+
+        // 2) 격자 셀 크기(도)
+        double cellSize = 360.0 / (1L << zoom) / CELLS_PER_TILE;
+
+        // 3) 코트별 집계
+        List<MatchCourtCountRow> rows = countByCourt(box, LocalDateTime.now());
+
+        // 4) 격자 셀별 집계
+        Map<Long, Cell> cells = new HashMap<>();
+        for (MatchCourtCountRow row : rows) {
+            long key = GeoGrid.cellKey(
+                    GeoGrid.cellIndex(row.courtLatitude(), cellSize),
+                    GeoGrid.cellIndex(row.courtLongitude(), cellSize));
+
+            cells.computeIfAbsent(key, k -> new Cell()).add(row);
+        }
+
+        // 5) 응답 생성
+        long total = 0;
+        List<MatchClusterDTO> clusters = new ArrayList<>(cells.size());
+        for (Cell cell : cells.values()) {
+            total += cell.count;
+            clusters.add(cell.toDTO());
+        }
+        clusters.sort(Comparator.comparing(MatchClusterDTO::getCount).reversed()
+                .thenComparing(MatchClusterDTO::getLatitude)
+                .thenComparing(MatchClusterDTO::getLongitude));
+
+        return MatchClusterResponseDTO.builder()
+                .clusters(clusters)
+                .zoom(zoom)
+                .cellSize(cellSize)
+                .total(total)
+                .build();
+    }
+
+    /**
+     * bbox 안 코트별 모집 중 매치 집계
+     */
+    private List<MatchCourtCountRow> countByCourt(double[] box, LocalDateTime now) {
+        long[] courtIds = courtSpatialIndex.findInBoundingBox(box[0], box[1], box[2], box[3]);
+        if (courtIds == null) {
+            return matchSearchRepository.countByCourtInBoundingBox(
+                    MatchStatus.RECRUITING, now, box[0], box[2], box[1], box[3]);
+        }
+        List<MatchCourtCountRow> rows = new ArrayList<>();
+        for (int from = 0; from < courtIds.length; from += MAX_COURT_IDS_PER_QUERY) {
+            int to = Math.min(from + MAX_COURT_IDS_PER_QUERY, courtIds.length);
+            rows.addAll(matchSearchRepository.countByCourtIdIn(
+                    Arrays.stream(courtIds, from, to).boxed().toList(), MatchStatus.RECRUITING, now));
+        }
+        return rows;
+    }
+
+    /**
+     * bbox 쿼리 파라미터 파싱
+     * - 형식: "minLat,minLng,maxLat,maxLng" (남서쪽 → 북동쪽)
+     *
+     * @return {minLat, minLng, maxLat, maxLng}
+     */
+    private double[] parseBoundingBox(String bbox) {
+        if (bbox == null || bbox.isBlank()) {
+            throw new InvalidMatchSearchParameterException("bbox는 필수입니다.");
+        }
+
+        String[] tokens = bbox.split(",");
+        if (tokens.length != 4) {
+            throw new InvalidMatchSearchParameterException("bbox 형식이 잘못되었습니다: " + bbox);
+        }
+
+        double[] box = new double[4];
+        try {
+            for (int i = 0; i < 4; i++) {
+                box[i] = Double.parseDouble(tokens[i].trim());
+            }
+        } catch (NumberFormatException e) {
+            throw new InvalidMatchSearchParameterException("bbox 형식이 잘못되었습니다: " + bbox, e);
+        }
+
+        double minLat = box[0], minLng = box[1], maxLat = box[2], maxLng = box[3];
+        if (minLat < -90.0 || maxLat > 90.0 || minLat > maxLat
+                || minLng < -180.0 || maxLng > 180.0 || minLng > maxLng) {
+            throw new InvalidMatchSearchParameterException("bbox 범위가 잘못되었습니다: " + bbox);
+        }
+        return box;
+    }
+
+    /**
+     * 격자 셀 하나의 누적 집계값
+     */
+    private static class Cell {
+        private long count;
+        private double latSum;
+        private double lngSum;
+        private int courtCount;
+        private Long courtId;
+        private LocalDateTime earliestStart;
+
+        private void add(MatchCourtCountRow row) {
+            long n = row.matchCount();
+            count += n;
+            latSum += row.courtLatitude() * n;
+            lngSum += row.courtLongitude() * n;
+            courtCount++;
+            courtId = row.courtId();
+            if (earliestStart == null || row.earliestStartTime().isBefore(earliestStart)) {
+                earliestStart = row.earliestStartTime();
+            }
+        }
+
+        private MatchClusterDTO toDTO() {
+            return MatchClusterDTO.builder()
+                    .latitude(latSum / count)
+                    .longitude(lngSum / count)
+                    .count(count)
+                    .courtCount(courtCount)
+                    .courtId(courtCount == 1 ? courtId : null)
+                    .earliestStartDateTime(earliestStart.format(ISO_DATETIME))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.scsa.service.match;
+
+import com.example.scsa.domain.event.MatchChangedEvent;
+import com.example.scsa.dto.match.MatchListRequestDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 매치 데이터 버전 카운터 (Redis) 및 ETag 생성
+ *
+ * 버전:
+ *  - 전역 버전(match:list:version): 매치 생성/삭제/상태 변경, 만료 배치 처리 커밋 후 INCR
+ *    → 목록 결과 캐시(MatchListCache) 키와 목록 ETag에 사용
+ *  - 매치별 버전(match:version:{matchId}): 해당 매치 생성/삭제/상태 변경 커밋 후 INCR
+ *  - 만료 버전(match:version:expired): 만료 배치가 매치를 COMPLETED로 바꾼 경우 INCR
+ *    (배치는 어떤 매치가 바뀌었는지 알 수 없으므로 상세 ETag는 매치별 버전 + 만료 버전)
+ *
+ * ETag (weak):
+ *  - 목록: W/"l{전역 버전}.{시간 구간}[.u{userId}]"
+ *    목록은 시작 전 매치만 보여주므로 쓰기가 없어도 시간이 지나면 결과가 달라짐
+ *    → match.etag.list-time-bucket-seconds 단위 구간을 포함 (목록 결과 캐시 TTL과 같은 수준의 지연)
+ *    → 추천 정렬은 로그인 사용자별로 결과가 달라지므로 userId 포함
+ *  - 상세: W/"d{매치별 버전}.{만료 버전}" (같은 상세 버전을 상세 캐시(MatchDetailCache) 키에도 사용)
+ *
+ * 요청 처리 전에 버전을 읽으므로, 응답을 만드는 사이 변경이 커밋되면 ETag가 실제 본문보다 오래된 값이 된다.
+ * 이 경우 다음 요청에서 불일치로 다시 조회하게 될 뿐 잘못된 304는 발생하지 않는다.
+ * Redis 장애 시에는 ETag를 만들지 않는다 (항상 200).
+ *
+ * 메트릭: match.etag{endpoint=list|detail, result=not_modified|modified}
+ */
+@Slf4j
+@Component
+public class MatchDataVersion {
+
+    private static final String LIST_VERSION_KEY = "match:list:version";
+    private static final String EXPIRED_VERSION_KEY = "match:version:expired";
+    private static final String MATCH_VERSION_KEY_PREFIX = "match:version:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final boolean etagEnabled;
+    private final long listTimeBucketMillis;
+
+    private final Counter listNotModifiedCounter;
+    private final Counter listModifiedCounter;
+    private final Counter detailNotModifiedCounter;
+    private final Counter detailModifiedCounter;
+
+    public MatchDataVersion(RedisTemplate<String, String> redisTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${match.etag.enabled:true}") boolean etagEnabled,
+                            @Value("${match.etag.list-time-bucket-seconds:30}") long listTimeBucketSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.etagEnabled = etagEnabled;
+        this.listTimeBucketMillis = Math.max(1, listTimeBucketSeconds) * 1000L;
+        this.listNotModifiedCounter = meterRegistry.counter("match.etag", "endpoint", "list", "result", "not_modified");
+        this.listModifiedCounter = meterRegistry.counter("match.etag", "endpoint", "list", "result", "modified");
+        this.detailNotModifiedCounter = meterRegistry.counter("match.etag", "endpoint", "detail", "result", "not_modified");
+        this.detailModifiedCounter = meterRegistry.counter("match.etag", "endpoint", "detail", "result", "modified");
+    }
+
+    /**
+     * 전역 버전 조회
+     *
+     * @return 없으면 "0", Redis 실패 시 예외 전파
+     */
+    public String listVersion() {
+        String version = redisTemplate.opsForValue().get(LIST_VERSION_KEY);
+        return version != null ? version : "0";
+    }
+
+    /**
+     * 매치 목록 ETag
+     *
+     * @param request 목록 조회 요청 (sort=recommend면 로그인 사용자별 ETag)
+     * @return ETag를 사용할 수 없으면 null
+     */
+    public String listETag(MatchListRequestDTO request) {
+        if (!etagEnabled) {
+            return null;
+        }
+        try {
+            StringBuilder tag = new StringBuilder("W/\"l")
+                    .append(listVersion())
+                    .append('.')
+                    .append(System.currentTimeMillis() / listTimeBucketMillis);
+
+            if ("recommend".equals(request.getSort())) {
+                String userId = currentUserId();
+                if (userId != null) {
+                    tag.append(".u").append(userId);
+                }
+            }
+            return tag.append('"').toString();
+        } catch (Exception e) {
+            log.warn("[MatchDataVersion] 목록 버전 조회 실패 - ETag 미사용: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 매치 상세 버전 ("{매치별 버전}.{만료 버전}", 상세 ETag / 상세 캐시 키에 사용)
+     *
+     * @return 버전을 읽을 수 없으면 null
+     */
+    public String detailVersion(Long matchId) {
+        if (matchId == null) {
+            return null;
+        }
+        try {
+            List<String> versions = redisTemplate.opsForValue()
+                    .multiGet(Arrays.asList(MATCH_VERSION_KEY_PREFIX + matchId, EXPIRED_VERSION_KEY));
+            if (versions == null) {
+                return null;
+            }
+            String matchVersion = versions.get(0) != null ? versions.get(0) : "0";
+            String expiredVersion = versions.get(1) != null ? versions.get(1) : "0";
+            return matchVersion + "." + expiredVersion;
+        } catch (Exception e) {
+            log.warn("[MatchDataVersion] 상세 버전 조회 실패 - matchId: {}, error: {}", matchId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 매치 상세 ETag
+     *
+     * @param detailVersion detailVersion()으로 읽은 버전
+     * @return ETag를 사용할 수 없으면 null
+     */
+    public String detailETag(String detailVersion) {
+        if (!etagEnabled || detailVersion == null) {
+            return null;
+        }
+        return "W/\"d" + detailVersion + "\"";
+    }
+
+    /**
+     * 목록 If-None-Match 비교 (결과 메트릭 기록)
+     */
+    public boolean listNotModified(String ifNoneMatch, String etag) {
+        boolean notModified = matches(ifNoneMatch, etag);
+        (notModified ? listNotModifiedCounter : listModifiedCounter).increment();
+        return notModified;
+    }
+
+    /**
+     * 상세 If-None-Match 비교 (결과 메트릭 기록)
+     */
+    public boolean detailNotModified(String ifNoneMatch, String etag) {
+        boolean notModified = matches(ifNoneMatch, etag);
+        (notModified ? detailNotModifiedCounter : detailModifiedCounter).increment();
+        return notModified;
+    }
+
+    /**
+     * 매치 변경 커밋 후 버전 증가
+     *
+     * fallbackExecution: 트랜잭션 밖에서 발행된 이벤트도 즉시 처리
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMatchChanged(MatchChangedEvent event) {
+        try {
+            Long version = redisTemplate.opsForValue().increment(LIST_VERSION_KEY);
+            if (event.getMatchId() != null) {
+                redisTemplate.opsForValue().increment(MATCH_VERSION_KEY_PREFIX + event.getMatchId());
+            }
+            if (event.getType() == MatchChangedEvent.Type.EXPIRED) {
+                redisTemplate.opsForValue().increment(EXPIRED_VERSION_KEY);
+            }
+            log.debug("[MatchDataVersion] version 증가 - type: {}, matchId: {}, version: {}",
+                    event.getType(), event.getMatchId(), version);
+        } catch (Exception e) {
+            log.warn("[MatchDataVersion] version 증가 실패 - type: {}, matchId: {}, error: {}",
+                    event.getType(), event.getMatchId(), e.getMessage());
+        }
+    }
+
+    /**
+     * If-None-Match 헤더(쉼표로 구분된 목록 / "*")와 ETag weak 비교
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        String expected = opaqueTag(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || opaqueTag(trimmed).equals(expected)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaqueTag(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    private static String currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.scsa.service.match;
+
+import com.example.scsa.domain.event.MatchChangedEvent;
+import com.example.scsa.dto.match.MatchSearchDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매치 상세 조회 결과 2단계 캐시 (L1: 서버별 Caffeine, L2: Redis)
+ *
+ * 단체 채팅방에 공유된 매치처럼 같은 상세 화면이 짧은 시간에 몰리는 경우를 위해
+ * 완성된 MatchSearchDTO를 (matchId, 상세 버전) 기준으로 저장한다.
+ *  - 상세 버전: MatchDataVersion.detailVersion (매치별 버전 + 만료 버전, 상세 ETag와 같은 값)
+ *  - L1: matchId → (버전, DTO), 버전이 같을 때만 사용 (최대 개수 / 쓰기 후 TTL)
+ *  - L2: match:detail:{matchId}:{버전} (TTL), L1 미스일 때 조회 후 L1에 채움
+ *
+ * 무효화:
+ *  - 버전이 키에 포함되므로 변경 이후 요청은 항상 새 버전으로 조회 (이전 버전 L2 키는 TTL로 소멸)
+ *  - 매치 생성/삭제/상태 변경, 만료 배치 커밋 후 Redis pub/sub(match:detail:invalidate)으로 matchId("*": 전체)를 전파
+ *    → 모든 서버가 L1에서 해당 항목을 즉시 제거 (메시지가 유실되어도 버전 비교로 오래된 값은 사용되지 않음)
+ *
+ * 버전을 알 수 없거나(Redis 장애) 캐시가 꺼져 있으면 캐시를 건너뛰고 DB 조회 결과를 그대로 사용한다.
+ *
+ * 메트릭: match.detail.cache{level=l1|l2, result=hit|miss}, match.detail.cache.error
+ */
+@Slf4j
+@Component
+public class MatchDetailCache implements MessageListener {
+
+    static final String INVALIDATION_CHANNEL = "match:detail:invalidate";
+
+    private static final String DETAIL_KEY_PREFIX = "match:detail:";
+    private static final String ALL = "*";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final boolean enabled;
+    private final long l2TtlSeconds;
+
+    private final Cache<Long, Entry> local;
+
+    private final Counter l1HitCounter;
+    private final Counter l1MissCounter;
+    private final Counter l2HitCounter;
+    private final Counter l2MissCounter;
+    private final Counter errorCounter;
+
+    public MatchDetailCache(RedisTemplate<String, String> redisTemplate,
+                            ObjectMapper objectMapper,
+                            RedisMessageListenerContainer listenerContainer,
+                            MeterRegistry meterRegistry,
+                            @Value("${match.detail-cache.enabled:true}") boolean enabled,
+                            @Value("${match.detail-cache.l1-max-size:10000}") long l1MaxSize,
+                            @Value("${match.detail-cache.l1-ttl-seconds:60}") long l1TtlSeconds,
+                            @Value("${match.detail-cache.l2-ttl-seconds:600}") long l2TtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.listenerContainer = listenerContainer;
+        this.enabled = enabled;
+        this.l2TtlSeconds = l2TtlSeconds;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(l1MaxSize)
+                .expireAfterWrite(Duration.ofSeconds(l1TtlSeconds))
+                .build();
+        this.l1HitCounter = meterRegistry.counter("match.detail.cache", "level", "l1", "result", "hit");
+        this.l1MissCounter = meterRegistry.counter("match.detail.cache", "level", "l1", "result", "miss");
+        this.l2HitCounter = meterRegistry.counter("match.detail.cache", "level", "l2", "result", "hit");
+        this.l2MissCounter = meterRegistry.counter("match.detail.cache", "level", "l2", "result", "miss");
+        this.errorCounter = meterRegistry.counter("match.detail.cache.error");
+    }
+
+    /**
+     * 다른 서버의 무효화 메시지 구독
+     */
+    @PostConstruct
+    public void subscribe() {
+        if (enabled) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+        }
+    }
+
+    /**
+     * 캐시 조회 (L1 → L2)
+     *
+     * @param version 상세 버전 (null이면 조회하지 않음)
+     * @return 캐시된 상세 (없거나 실패하면 null)
+     */
+    public MatchSearchDTO get(Long matchId, String version) {
+        if (!enabled || version == null) {
+            return null;
+        }
+
+        Entry entry = local.getIfPresent(matchId);
+        if (entry != null && entry.version().equals(version)) {
+            l1HitCounter.increment();
+            return entry.dto();
+        }
+        l1MissCounter.increment();
+
+        try {
+            String json = redisTemplate.opsForValue().get(keyOf(matchId, version));
+            if (json == null) {
+                l2MissCounter.increment();
+                return null;
+            }
+            MatchSearchDTO dto = objectMapper.readValue(json, MatchSearchDTO.class);
+            local.put(matchId, new Entry(version, dto));
+            l2HitCounter.increment();
+            return dto;
+        } catch (Exception e) {
+            errorCounter.increment();
+            log.warn("[MatchDetailCache] 캐시 조회 실패 - matchId: {}, error: {}", matchId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 캐시 저장 (L1 + L2, L2 TTL: match.detail-cache.l2-ttl-seconds)
+     *
+     * @param version 상세 버전 (null이면 저장하지 않음)
+     */
+    public void put(Long matchId, String version, MatchSearchDTO dto) {
+        if (!enabled || version == null) {
+            return;
+        }
+
+        local.put(matchId, new Entry(version, dto));
+        try {
+            String json = objectMapper.writeValueAsString(dto);
+            redisTemplate.opsForValue().set(keyOf(matchId, version), json, l2TtlSeconds, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            errorCounter.increment();
+            log.warn("[MatchDetailCache] 캐시 저장 실패 - matchId: {}, error: {}", matchId, e.getMessage());
+        }
+    }
+
+    /**
+     * 매치 변경 커밋 후 이 서버 L1 제거 + 다른 서버에 무효화 메시지 발행
+     *
+     * fallbackExecution: 트랜잭션 밖에서 발행된 이벤트도 즉시 처리
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMatchChanged(MatchChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        String target = (event.getMatchId() != null) ? event.getMatchId().toString() : ALL;
+        evictLocal(target);
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, target);
+        } catch (Exception e) {
+            errorCounter.increment();
+            log.warn("[MatchDetailCache] 무효화 메시지 발행 실패 - type: {}, matchId: {}, error: {}",
+                    event.getType(), event.getMatchId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 무효화 메시지 수신 (자기 자신이 발행한 메시지도 수신하지만 제거는 멱등)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        evictLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void evictLocal(String target) {
+        if (ALL.equals(target)) {
+            local.invalidateAll();
+            return;
+        }
+        try {
+            local.invalidate(Long.parseLong(target));
+        } catch (NumberFormatException e) {
+            log.warn("[MatchDetailCache] 잘못된 무효화 메시지 - {}", target);
+        }
+    }
+
+    private String keyOf(Long matchId, String version) {
+        return DETAIL_KEY_PREFIX + matchId + ":" + version;
+    }
+
+    private record Entry(String version, MatchSearchDTO dto) {
+    }
+}
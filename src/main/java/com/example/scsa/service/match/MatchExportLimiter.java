@@ -0,0 +1,65 @@
+package com.example.scsa.service.match;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * 매치 NDJSON 내보내기 동시 실행 제한 (서버별)
+ *
+ * 내보내기 하나가 스트리밍이 끝날 때까지 DB 커넥션 + 읽기 전용 트랜잭션(MySQL 스트리밍 결과)을 잡고 있으므로
+ *  - 동시에 match.export.max-concurrent 개까지만 허용 (넘으면 즉시 거절 → 429)
+ *  - 하나의 내보내기는 match.export.timeout-seconds 안에 끝나야 함 (트랜잭션/쿼리 타임아웃)
+ * 으로 느린 클라이언트가 커넥션 풀을 고갈시키지 않게 한다.
+ *
+ * 메트릭: match.export.active (진행 중), match.export.rejected (거절 건수)
+ */
+@Slf4j
+@Component
+public class MatchExportLimiter {
+
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final int timeoutSeconds;
+
+    private final Counter rejectedCounter;
+
+    public MatchExportLimiter(MeterRegistry meterRegistry,
+                              @Value("${match.export.max-concurrent:4}") int maxConcurrent,
+                              @Value("${match.export.timeout-seconds:300}") int timeoutSeconds) {
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.permits = new Semaphore(this.maxConcurrent);
+        this.timeoutSeconds = Math.max(1, timeoutSeconds);
+        this.rejectedCounter = meterRegistry.counter("match.export.rejected");
+        meterRegistry.gauge("match.export.active", this, l -> l.maxConcurrent - l.permits.availablePermits());
+    }
+
+    /**
+     * 내보내기 시작 허가 (대기하지 않음)
+     *
+     * @return 허가를 받았으면 true (끝나면 반드시 release())
+     */
+    public boolean tryAcquire() {
+        if (permits.tryAcquire()) {
+            return true;
+        }
+        rejectedCounter.increment();
+        log.warn("[MatchExport] 동시 내보내기 제한 초과 - maxConcurrent: {}", maxConcurrent);
+        return false;
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    /**
+     * 내보내기 하나의 최대 실행 시간(초)
+     */
+    public int timeoutSeconds() {
+        return timeoutSeconds;
+    }
+}
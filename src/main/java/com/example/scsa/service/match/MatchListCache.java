@@ -0,0 +1,132 @@
+package com.example.scsa.service.match;
+
+import com.example.scsa.dto.match.MatchListResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매치 목록 조회 결과 캐시 (Redis)
+ *
+ * GET /api/v1/matches 는 비로그인 사용자도 호출하는 가장 빈번한 API이므로,
+ * 정규화된 검색 조건(캐시 키)별 응답 페이지를 짧은 TTL로 Redis에 저장한다.
+ * (같은 조건의 facet 개수 응답도 같은 방식으로 저장)
+ *
+ * 무효화:
+ *  - 키에 전역 버전(MatchDataVersion, match:list:version)을 포함
+ *  - 매치 생성/삭제/상태 변경, 만료 배치 처리 커밋 후 버전이 INCR 됨 → 이전 버전 키는 더 이상 조회되지 않고 TTL로 소멸
+ *
+ * Redis 장애 시에는 캐시를 건너뛰고 DB 조회 결과를 그대로 사용한다.
+ *
+ * 메트릭: match.list.cache{result=hit|miss|error}
+ */
+@Slf4j
+@Component
+public class MatchListCache {
+
+    private static final String PAGE_KEY_PREFIX = "match:list:page:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MatchDataVersion matchDataVersion;
+
+    private final boolean enabled;
+    private final long ttlSeconds;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter errorCounter;
+
+    public MatchListCache(RedisTemplate<String, String> redisTemplate,
+                          ObjectMapper objectMapper,
+                          MatchDataVersion matchDataVersion,
+                          MeterRegistry meterRegistry,
+                          @Value("${match.list-cache.enabled:true}") boolean enabled,
+                          @Value("${match.list-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.matchDataVersion = matchDataVersion;
+        this.enabled = enabled;
+        this.ttlSeconds = ttlSeconds;
+        this.hitCounter = meterRegistry.counter("match.list.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("match.list.cache", "result", "miss");
+        this.errorCounter = meterRegistry.counter("match.list.cache", "result", "error");
+    }
+
+    /**
+     * 현재 버전 기준 캐시 키 생성
+     *
+     * @param filterKey MatchListService에서 정규화한 검색 조건 문자열
+     * @return 캐시를 사용할 수 없으면 null
+     */
+    public String keyOf(String filterKey) {
+        if (!enabled) {
+            return null;
+        }
+        try {
+            return PAGE_KEY_PREFIX + matchDataVersion.listVersion() + ":" + filterKey;
+        } catch (Exception e) {
+            errorCounter.increment();
+            log.warn("[MatchListCache] version 조회 실패 - 캐시 미사용: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 캐시 조회
+     *
+     * @param key keyOf()로 만든 키 (null이면 조회하지 않음)
+     * @return 캐시된 응답 (없거나 실패하면 null)
+     */
+    public MatchListResponseDTO get(String key) {
+        return get(key, MatchListResponseDTO.class);
+    }
+
+    /**
+     * 캐시 조회 (목록 페이지 외 응답 타입, 예: facet 개수)
+     *
+     * @param key  keyOf()로 만든 키 (null이면 조회하지 않음)
+     * @param type 캐시된 응답 타입
+     * @return 캐시된 응답 (없거나 실패하면 null)
+     */
+    public <T> T get(String key, Class<T> type) {
+        if (key == null) {
+            return null;
+        }
+        try {
+            String json = redisTemplate.opsForValue().get(key);
+            if (json == null) {
+                missCounter.increment();
+                return null;
+            }
+            hitCounter.increment();
+            return objectMapper.readValue(json, type);
+        } catch (Exception e) {
+            errorCounter.increment();
+            log.warn("[MatchListCache] 캐시 조회 실패 - key: {}, error: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 캐시 저장 (TTL: match.list-cache.ttl-seconds)
+     */
+    public void put(String key, Object response) {
+        if (key == null) {
+            return;
+        }
+        try {
+            String json = objectMapper.writeValueAsString(response);
+            redisTemplate.opsForValue().set(key, json, ttlSeconds, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            errorCounter.increment();
+            log.warn("[MatchListCache] 캐시 저장 실패 - key: {}, error: {}", key, e.getMessage());
+        }
+    }
+}
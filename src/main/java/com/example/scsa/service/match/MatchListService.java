@@ -1,25 +1,50 @@
 package com.example.scsa.service.match;
 
-import com.example.scsa.domain.entity.Match;
+import com.example.scsa.domain.vo.Age;
 import com.example.scsa.domain.vo.GameType;
+import com.example.scsa.domain.vo.Gender;
 import com.example.scsa.domain.vo.MatchStatus;
+import com.example.scsa.domain.vo.Period;
+import com.example.scsa.dto.match.MatchFacetResponseDTO;
+import com.example.scsa.dto.match.MatchFacetRow;
 import com.example.scsa.dto.match.MatchListRequestDTO;
 import com.example.scsa.dto.match.MatchListResponseDTO;
+import com.example.scsa.dto.match.MatchRow;
+import com.example.scsa.dto.match.MatchSearchCondition;
 import com.example.scsa.dto.match.MatchSearchDTO;
 import com.example.scsa.exception.match.InvalidMatchSearchParameterException;
-import com.example.scsa.repository.MatchRepository;
+import com.example.scsa.exception.match.MatchExportLimitExceededException;
+import com.example.scsa.repository.MatchKeysetOrder;
+import com.example.scsa.repository.MatchSearchRepository;
+import com.example.scsa.service.court.CourtSpatialIndex;
+import com.example.scsa.service.match.ranking.CallerProfile;
+import com.example.scsa.service.match.ranking.CallerProfileCache;
+import com.example.scsa.service.match.ranking.MatchFeatures;
+import com.example.scsa.service.match.ranking.MatchRankingResolver;
+import com.example.scsa.util.CursorCodec;
+import com.example.scsa.util.EnumBitMask;
+import com.example.scsa.util.GeoDistanceKernel;
+import com.example.scsa.util.GeoGrid;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Builder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
-import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -34,29 +59,290 @@ public class MatchListService {
     // Z 없이 응답 (프론트엔드 규약 변경: 2025-11-17T19:00:00)
     private static final DateTimeFormatter ISO_DATETIME = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
-    private final MatchRepository matchRepository;
+    // bounding box 경계 오차 보정(km)
+    private static final double BOUNDING_BOX_MARGIN_KM = 0.1;
+
+    // DB에 IN 조건으로 넘길 반경 이내 코트 ID 최대 개수 (초과 시 bounding box 사용)
+    private static final int MAX_COURT_ID_FILTER_SIZE = 1000;
+
+    // keyset 조회 시 필터로 행이 걸러질 때 한 번에 이어서 읽을 최대 행 수
+    private static final int MAX_KEYSET_BATCH_SIZE = 500;
+
+    // export 시 클라이언트로 flush 하는 행 간격
+    private static final int EXPORT_FLUSH_INTERVAL = 500;
+
+    // 설명 검색어(q) 최대 길이 / 최대 단어 수
+    private static final int MAX_QUERY_LENGTH = 100;
+    private static final int MAX_QUERY_TERMS = 10;
+
+    // FULLTEXT ngram 토큰 크기 (MySQL ngram_token_size 기본값), 이보다 짧은 단어는 접두어(*) 검색
+    private static final int NGRAM_TOKEN_SIZE = 2;
+
+    // 캐시 키용 조회 좌표 격자 크기(도), 약 110m 단위로 반올림하여 캐시 키를 공유
+    private static final double COORDINATE_CELL_DEGREE = 0.001;
+
+    private final MatchSearchRepository matchSearchRepository;
+    private final HotMatchIndex hotMatchIndex;
     private final ObjectMapper objectMapper;
+    private final CourtSpatialIndex courtSpatialIndex;
+    private final MatchListCache matchListCache;
+    private final MatchSearchSessionStore matchSearchSessionStore;
+    private final CursorCodec cursorCodec;
+    private final MatchScoringExecutor matchScoringExecutor;
+    private final MatchRankingResolver matchRankingResolver;
+    private final CallerProfileCache callerProfileCache;
+    private final PlatformTransactionManager transactionManager;
+    private final MatchExportLimiter matchExportLimiter;
 
     /**
      * 매치 목록 조회 메인 서비스
      *
      * 전체 흐름:
      *  1) 요청 파라미터 기본값 세팅 + 유효성 검사 (날짜/시간/정렬/size 등)
-     *  2) gameType, status 파싱
+     *  2) gameType, status, 모집 조건(ageRange/gender/period → 비트마스크), 설명 검색어(q) 파싱
      *  3) 위치/반경 정보 처리 (sort=distance일 때 좌표 필수)
-     *  4) 기본 조건(from~to, gameType, status)에 맞는 매치 목록 DB 조회
+     *  4) 기본 조건(from~to, 하루 중 시간대, gameType, status, 설명 검색어)에 맞는 매치 목록 DB 조회 (match_search 읽기 모델만 사용)
+     *     - createdAt / latest  : cursor 이후 size+1개만 DB에서 정렬/조회 (keyset)
+     *     - distance / recommend : 후보 전체 조회 후 5) ~ 8) 메모리 처리 (상위 size+1개만 선택)
+     *     - status=RECRUITING 기본 조회는 DB 대신 인메모리 인덱스(HotMatchIndex)에서 같은 조건으로 처리
      *  5) 각 매치에 대해 거리(distanceKm), 추천 점수(score) 계산
      *  6) 반경(radius) 필터 적용
+     *     - 코트 격자 인덱스(CourtSpatialIndex)로 반경 이내 코트 ID + 거리를 한 번에 계산
+     *     - DB: 반경 이내 코트 ID(IN) 또는 bounding box 안의 코트만 조회 (SPATIAL 인덱스)
+     *     - 메모리: 코트 ID로 거리 조회, 인덱스에 없는 코트만 Haversine으로 정확한 반경 판정
      *  7) 정렬 기준(sort)에 맞게 정렬
      *  8) cursor가 있다면 메모리 상에서 cursor 이후 데이터만 남김
      *  9) size 기준으로 페이징 + hasNext 판단
-     * 10) 마지막 요소 기준 nextCursor 생성(Base64 인코딩)
-     * 11) Match 엔티티 + 계산값 → MatchSearchDTO로 매핑 후 응답 생성
+     * 10) 마지막 요소 기준 nextCursor 생성(CursorCodec: 바이너리 + HMAC 서명, URL-safe Base64)
+     *     - distance / recommend 는 첫 페이지에서 정렬 결과 스냅샷을 검색 세션(MatchSearchSessionStore)에 저장하고
+     *       세션 ID + 다음 위치를 cursor에 기록 → 다음 페이지는 스냅샷을 잘라 해당 행만 조회
+     * 11) MatchRow(projection) + 계산값 → MatchSearchDTO로 매핑 후 응답 생성
+     *
+     * 3) 이후 정규화된 검색 조건으로 결과 캐시(MatchListCache)를 먼저 조회하고,
+     * 없으면 4) ~ 11)을 수행한 뒤 응답을 캐시에 저장한다.
+     * 단, 인메모리 인덱스(HotMatchIndex) 결과는 저장하지 않는다.
+     * (서버마다 변경 반영 시점이 달라, 아직 반영 전인 서버가 새 버전 키로 이전 결과를 저장할 수 있음)
      */
     public MatchListResponseDTO getMatchList(MatchListRequestDTO request) {
 
+        // 1) ~ 3) 요청 파라미터 정규화 + 검색 조건 생성
+        SearchContext ctx = resolveSearchContext(request, LocalDateTime.now());
+
+        // 결과 캐시 조회 (정규화된 검색 조건 기준)
+        String cacheKey = matchListCache.keyOf(ctx.filterKey);
+        MatchListResponseDTO cached = matchListCache.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 4) ~ 8) 정렬 기준에 따라 조회 경로 분기
+        //    - createdAt / latest : DB keyset 페이지네이션 (커서 이후 size+1개만 조회)
+        //    - distance / recommend : 계산값 기준이라 후보 전체 조회 후 메모리 정렬
+        MatchKeysetOrder keysetOrder = resolveKeysetOrder(ctx.sort);
+        List<MatchWithMetrics> withMetrics = (keysetOrder != null)
+                ? fetchKeysetPage(ctx, keysetOrder)
+                : fetchSortedByMetrics(ctx);
+
+        // 9) 페이징 처리: size + hasNext
+        int size = ctx.size;
+        boolean hasNext = withMetrics.size() > size;
+
+        List<MatchWithMetrics> page = withMetrics.stream()
+                .limit(size)
+                .collect(Collectors.toList());
+
+        // 10) nextCursor 생성: 페이지의 마지막 요소 기준으로 생성
+        String nextCursor = null;
+        if (hasNext && !page.isEmpty()) {
+            MatchWithMetrics last = page.get(page.size() - 1);
+            nextCursor = encodeCursor(ctx.sort, last);
+        }
+
+        // 11) 응답 DTO 매핑
+        List<MatchSearchDTO> content = page.stream()
+                .map(this::toSearchDTO)
+                .collect(Collectors.toList());
+
+        MatchListResponseDTO response = MatchListResponseDTO.builder()
+                .matches(content)
+                .size(Long.valueOf(content.size()))
+                .hasNext(hasNext)
+                .cursor(nextCursor)
+                .build();
+
+        if (!ctx.fromHotIndex) {
+            matchListCache.put(cacheKey, response);
+        }
+
+        return response;
+    }
+
+    /**
+     * 매치 필터 facet 개수 조회 (GET /api/v1/matches/facets)
+     *
+     * - getMatchList와 같은 필터(날짜/시간대/gameType/status/모집 조건/검색어/위치)를 사용
+     * - gameType / status 필터를 뺀 조건으로 (gameType, status, 시작 날짜)별 개수를 GROUP BY 쿼리 한 번으로 조회한 뒤
+     *   메모리에서 facet별로 합산 (ROLLUP)
+     *    • gameTypes : status 필터만 적용한 합계 (선택한 gameType 외 다른 gameType 개수도 표시)
+     *    • statuses  : gameType 필터만 적용한 합계
+     *    • days/total: 모든 필터 적용
+     * - 위치 필터는 DB 조건(반경 이내 코트 ID 또는 bounding box)까지만 적용
+     * - 정규화된 검색 조건별로 결과 캐시(MatchListCache)에 저장
+     */
+    public MatchFacetResponseDTO getMatchFacets(MatchListRequestDTO request) {
+
+        SearchContext ctx = resolveSearchContext(request, LocalDateTime.now());
+
+        String cacheKey = matchListCache.keyOf(ctx.facetKey);
+        MatchFacetResponseDTO cached = matchListCache.get(cacheKey, MatchFacetResponseDTO.class);
+        if (cached != null) {
+            return cached;
+        }
+
+        GameType gameType = ctx.condition.getGameType();
+        List<MatchStatus> statuses = ctx.condition.getStatuses();
+
+        // gameType / status 필터를 뺀 조건으로 한 번에 집계
+        MatchSearchCondition facetCondition = ctx.condition.toBuilder()
+                .gameType(null)
+                .statuses(null)
+                .build();
+        List<MatchFacetRow> rows = matchSearchRepository.countFacets(facetCondition);
+
+        // facet별 합산 (gameType / status 는 0건도 표시)
+        Map<String, Long> gameTypeCounts = new LinkedHashMap<>();
+        for (GameType g : GameType.values()) {
+            gameTypeCounts.put(g.name(), 0L);
+        }
+        Map<String, Long> statusCounts = new LinkedHashMap<>();
+        for (MatchStatus s : MatchStatus.values()) {
+            statusCounts.put(s.name(), 0L);
+        }
+        Map<String, Long> dayCounts = new TreeMap<>();
+        long total = 0;
+
+        for (MatchFacetRow row : rows) {
+            boolean gameTypeMatches = gameType == null || gameType == row.gameType();
+            boolean statusMatches = statuses.isEmpty() || statuses.contains(row.matchStatus());
+            long count = row.matchCount();
+
+            if (statusMatches) {
+                gameTypeCounts.merge(row.gameType().name(), count, Long::sum);
+            }
+            if (gameTypeMatches) {
+                statusCounts.merge(row.matchStatus().name(), count, Long::sum);
+            }
+            if (gameTypeMatches && statusMatches) {
+                dayCounts.merge(row.startDate().toString(), count, Long::sum);
+                total += count;
+            }
+        }
+
+        MatchFacetResponseDTO response = MatchFacetResponseDTO.builder()
+                .gameTypes(gameTypeCounts)
+                .statuses(statusCounts)
+                .days(dayCounts)
+                .total(total)
+                .build();
+
+        matchListCache.put(cacheKey, response);
+
+        return response;
+    }
+
+    /**
+     * 매치 목록 NDJSON 내보내기 (GET /api/v1/matches/export)
+     *
+     * - getMatchList와 같은 필터(날짜/시간대/gameType/status/모집 조건/반경)를 사용
+     * - size / cursor 없이 조건에 맞는 전체 매치를 한 줄에 MatchSearchDTO JSON 하나씩 출력
+     * - DB 결과를 스트리밍(Stream<MatchRow>)으로 읽으며 바로 쓰므로 결과 크기와 상관없이 메모리 사용량이 일정
+     * - 정렬은 DB에서 처리 가능한 createdAt / latest 만 지원 (distance / recommend 는 전체 정렬이 필요해 400)
+     *
+     * 파라미터 검증은 호출 시점(응답 시작 전)에 수행하고,
+     * 실제 조회/쓰기는 반환된 StreamingResponseBody 안에서 별도 읽기 전용 트랜잭션으로 수행한다.
+     *
+     * 스트리밍 동안 DB 커넥션을 잡고 있으므로 MatchExportLimiter로 제한한다.
+     * - 동시 실행 수 초과 시 응답 시작 전에 MatchExportLimitExceededException (429)
+     * - 트랜잭션 타임아웃(match.export.timeout-seconds): 쿼리 타임아웃으로 적용되고,
+     *   행을 쓰는 중에도 시간을 넘기면 중단 (느린 클라이언트가 커넥션을 계속 잡지 못하게 함)
+     */
+    public StreamingResponseBody exportMatches(MatchListRequestDTO request) {
+
+        SearchContext ctx = resolveSearchContext(request, LocalDateTime.now());
+
+        MatchKeysetOrder order = resolveKeysetOrder(ctx.sort);
+        if (order == null) {
+            throw new InvalidMatchSearchParameterException("export는 sort=createdAt 또는 sort=latest만 지원합니다.");
+        }
+
+        int timeoutSeconds = matchExportLimiter.timeoutSeconds();
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        readOnlyTransaction.setTimeout(timeoutSeconds);
+
+        if (!matchExportLimiter.tryAcquire()) {
+            throw new MatchExportLimitExceededException();
+        }
+
+        return out -> {
+            try {
+                readOnlyTransaction.executeWithoutResult(status -> writeExport(ctx, order, out, timeoutSeconds));
+            } finally {
+                matchExportLimiter.release();
+            }
+        };
+    }
+
+    /**
+     * 내보내기 본문 쓰기 (읽기 전용 트랜잭션 안에서 호출)
+     */
+    private void writeExport(SearchContext ctx, MatchKeysetOrder order, OutputStream out, int timeoutSeconds) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+
+        try (Stream<MatchRow> rows = matchSearchRepository.streamMatches(ctx.condition, order)) {
+            int written = 0;
+            Iterator<MatchRow> it = rows.iterator();
+            while (it.hasNext()) {
+                if (System.nanoTime() > deadline) {
+                    throw new TransactionTimedOutException(
+                            "export가 " + timeoutSeconds + "초 안에 끝나지 않았습니다. rows=" + written);
+                }
+                MatchRow m = it.next();
+
+                double distanceKm = distanceTo(ctx, m);
+                if (distanceKm > ctx.radius) {
+                    continue;
+                }
+
+                out.write(objectMapper.writeValueAsBytes(toSearchDTO(new MatchWithMetrics(m, distanceKm, 0.0))));
+                out.write('\n');
+
+                // 주기적으로 flush 하여 클라이언트가 바로 받을 수 있게 함
+                if (++written % EXPORT_FLUSH_INTERVAL == 0) {
+                    out.flush();
+                }
+            }
+            out.flush();
+            log.info("[MatchExport] completed. rows={}", written);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // ==========================
+    // Helper methods
+    // ==========================
+
+    /**
+     * 요청 파라미터 → 정규화된 검색 조건 (getMatchList 1) ~ 3))
+     *
+     *  1) 기본값 세팅 + 유효성 검사 (날짜/시간/정렬/size 등)
+     *  2) gameType, status, 모집 조건 파싱
+     *  3) 위치/반경 처리 + 반경 이내 코트 ID / bounding box 계산
+     */
+    private SearchContext resolveSearchContext(MatchListRequestDTO request, LocalDateTime now) {
+
         // 1) 기본값 & Validation
-        LocalDateTime now = LocalDateTime.now();
 
         // 정렬 기준 기본값: createdAt
         String sort = (request.getSort() == null || request.getSort().isBlank())
@@ -108,84 +394,485 @@ public class MatchListService {
 
         List<MatchStatus> statuses = parseStatus(request.getStatus());
 
+        // 모집 조건 필터 → 비트마스크 (null이면 필터링 하지 않음)
+        Integer agesMask = parseMask(request.getAgeRange(), Age.class, "ageRange");
+        Integer gendersMask = parseMask(request.getGender(), Gender.class, "gender");
+        Integer periodsMask = parseMask(request.getPeriod(), Period.class, "period");
+
+        // 설명 검색어 → FULLTEXT BOOLEAN MODE 검색어 (null이면 필터링 하지 않음)
+        String fullTextQuery = parseFullTextQuery(request.getQ());
+
         // 3) 위치/반경 처리 (sort=distance일 때 좌표 필수)
+        // 반경 필터/거리 계산은 요청 좌표 그대로 사용, 캐시 키에만 격자 단위로 반올림한 좌표 사용
+        // (같은 격자의 요청은 결과 캐시/검색 세션을 공유)
         double[] latLng = resolveLatLng(sort, request.getLatitude(), request.getLongitude());
         double lat = latLng[0];
         double lng = latLng[1];
+        double cellLat = snapToCell(lat);
+        double cellLng = snapToCell(lng);
 
         // 반경 기본값: 25km
         int radius = (request.getRadius() == null || request.getRadius() <= 0)
                 ? 100000
                 : request.getRadius();
 
-        // 4) 기본 필터된 매치 목록 조회
-        List<Match> matches = matchRepository.findMatchesForSearch(from, to, gameType, statuses);
+        // 반경 이내 코트 ID + 거리 (인메모리 격자 인덱스, 아직 빌드 전이면 null)
+        CourtSpatialIndex.NearbyCourts nearbyCourts = courtSpatialIndex.findWithin(lat, lng, radius);
 
-        int startHourFilter = startHour;
-        int endHourFilter = endHour;
+        // 반경을 감싸는 위경도 bounding box (반경 제한이 없으면 null)
+        double[] box = boundingBox(lat, lng, radius);
 
-        matches = matches.stream()
-                .filter(match -> isWithinDailyTimeRange(match.getMatchStartDateTime(), startHourFilter, endHourFilter)
-                        && isWithinDailyTimeRange(match.getMatchEndDateTime(), startHourFilter, endHourFilter))
-                .collect(Collectors.toList());
+        // DB 위치 필터: 반경 이내 코트 ID 목록(인덱스) 우선, 너무 많거나 인덱스가 없으면 bounding box
+        List<Long> courtIds = null;
+        if (box != null && nearbyCourts != null && nearbyCourts.size() <= MAX_COURT_ID_FILTER_SIZE) {
+            courtIds = Arrays.stream(nearbyCourts.getCourtIds()).boxed().collect(Collectors.toList());
+            box = null;
+        }
 
-        // 5) 각 매치에 대해 거리/추천점수 같이 들고 다니기 위한 래퍼로 감싸기
-        List<MatchWithMetrics> withMetrics = matches.stream()
-                .map(m -> {
-                    double distanceKm = calculateDistanceKm(
-                            lat, lng,
-                            m.getCourt().getLatitude(),
-                            m.getCourt().getLongitude()
-                    );
-                    double score = calculateScore(sort, now, distanceKm, m.getMatchStartDateTime());
-                    return new MatchWithMetrics(m, distanceKm, score);
-                })
-                .collect(Collectors.toList());
+        MatchSearchCondition condition = MatchSearchCondition.builder()
+                .from(from)
+                .to(to)
+                .gameType(gameType)
+                .statuses(statuses)
+                // 시작/종료 시각 모두 startHour:00 ~ endHour:00 (양 끝 포함, endHour=24면 상한 없음)
+                .minMinuteOfDay(startHour > 0 ? startHour * 60 : null)
+                .maxMinuteOfDay(endHour < 24 ? endHour * 60 : null)
+                .agesMask(agesMask)
+                .gendersMask(gendersMask)
+                .periodsMask(periodsMask)
+                .fullTextQuery(fullTextQuery)
+                .courtIds(courtIds)
+                .minLatitude(box != null ? box[0] : null)
+                .maxLatitude(box != null ? box[1] : null)
+                .minLongitude(box != null ? box[2] : null)
+                .maxLongitude(box != null ? box[3] : null)
+                .build();
 
-        // 6) radius(반경) 필터: 기준 좌표에서 radius km 이내만 남김
-        withMetrics = withMetrics.stream()
-                .filter(w -> w.distanceKm <= radius)
-                .collect(Collectors.toList());
+        // 추천 정렬 프로필 (요청 rankProfile 또는 기본 프로필, 거리 정규화에 요청 반경 반영)
+        MatchRankingResolver.Ranking ranking = "recommend".equals(sort)
+                ? matchRankingResolver.resolve(request.getRankProfile(), radius)
+                : null;
+
+        // 추천 정렬 개인화: 로그인 사용자 프로필 (userId 기준 캐시, 비로그인이면 null)
+        CallerProfile caller = (ranking != null) ? callerProfileCache.current() : null;
+
+        return SearchContext.builder()
+                .condition(condition)
+                .sort(sort)
+                .cursor(request.getCursor())
+                .size(size)
+                .now(now)
+                .lat(lat)
+                .lng(lng)
+                .radius(radius)
+                .nearbyCourts(nearbyCourts)
+                .ranking(ranking)
+                .caller(caller)
+                .filterKey(cacheFilterKey(
+                        sort, rankKey(ranking, caller),
+                        size, startDate, endDate, startHour, endHour, gameType, statuses,
+                        agesMask, gendersMask, periodsMask, fullTextQuery, cellLat, cellLng, radius, request.getCursor()))
+                .facetKey(cacheFilterKey(
+                        "facets", null, 0, startDate, endDate, startHour, endHour, gameType, statuses,
+                        agesMask, gendersMask, periodsMask, fullTextQuery, cellLat, cellLng, radius, null))
+                .queryKey(cacheFilterKey(
+                        sort, rankKey(ranking, caller),
+                        0, startDate, endDate, startHour, endHour, gameType, statuses,
+                        agesMask, gendersMask, periodsMask, fullTextQuery, cellLat, cellLng, radius, null))
+                .build();
+    }
 
-        // 7) 정렬: createdAt / latest / distance / recommend 에 따른 정렬
-        sortMatches(withMetrics, sort);
+    /**
+     * 좌표를 COORDINATE_CELL_DEGREE 격자 단위로 반올림 (캐시 키 전용)
+     */
+    private double snapToCell(double degree) {
+        return Math.round(degree / COORDINATE_CELL_DEGREE) * COORDINATE_CELL_DEGREE;
+    }
 
-        // 8) cursor 적용 (메모리 상에서 필터링)
-        //    - 이전 요청에서 넘겨준 cursor 이후의 데이터만 남김
-        if (request.getCursor() != null && !request.getCursor().isBlank()) {
-            withMetrics = applyCursorFilter(withMetrics, sort, request.getCursor());
+    /**
+     * 결과 캐시 키의 추천 프로필 부분 (rankProfile + 로그인 사용자 프로필 비트)
+     *
+     * - 같은 나이대/성별/경력이면 사용자가 달라도 같은 키 → 캐시 공유
+     */
+    private String rankKey(MatchRankingResolver.Ranking ranking, CallerProfile caller) {
+        if (ranking == null) {
+            return null;
         }
+        return (caller != null)
+                ? ranking.profileName() + "@" + caller.cacheKey()
+                : ranking.profileName();
+    }
 
-        // 9) 페이징 처리: size + hasNext
-        boolean hasNext = withMetrics.size() > size;
+    /**
+     * 결과 캐시용 정규화된 검색 조건 문자열
+     *
+     * - 날짜는 기본값 적용 후 날짜 단위, 상태는 정렬된 목록, 좌표는 격자 반올림 값 사용
+     * - 같은 조건이면 요청 파라미터 표기(생략/기본값 명시 등)가 달라도 같은 키가 됨
+     */
+    private String cacheFilterKey(String sort, String rankProfile, int size, LocalDate startDate, LocalDate endDate,
+                                  int startHour, int endHour, GameType gameType, List<MatchStatus> statuses,
+                                  Integer agesMask, Integer gendersMask, Integer periodsMask,
+                                  String fullTextQuery, double lat, double lng, int radius, String cursor) {
+        String statusKey = statuses.stream()
+                .map(Enum::name)
+                .sorted()
+                .distinct()
+                .collect(Collectors.joining(","));
+
+        return String.join("|",
+                rankProfile != null ? sort + ":" + rankProfile : sort,
+                String.valueOf(size),
+                startDate.toString(),
+                endDate.toString(),
+                startHour + "-" + endHour,
+                gameType != null ? gameType.name() : "",
+                statusKey,
+                agesMask + "/" + gendersMask + "/" + periodsMask,
+                fullTextQuery != null ? fullTextQuery : "",
+                String.format(Locale.ROOT, "%.3f,%.3f", lat, lng),
+                String.valueOf(radius),
+                (cursor != null && !cursor.isBlank()) ? cursor : "");
+    }
 
-        List<MatchWithMetrics> page = withMetrics.stream()
-                .limit(size)
-                .collect(Collectors.toList());
+    /**
+     * createdAt / latest 정렬: DB keyset 페이지네이션
+     *
+     *  1) cursor를 (정렬키, matchId)로 복원
+     *  2) (정렬키, matchId) > cursor 조건 + ORDER BY + LIMIT 으로 다음 행들만 조회
+     *  3) 반경 필터는 메모리에서 적용하고 (시간대 필터는 SQL),
+     *     필터로 걸러져 size+1개가 채워지지 않으면 마지막으로 읽은 행 기준으로 이어서 조회
+     *
+     * 필터가 없는 일반적인 경우 한 페이지 당 size+1개 행만 읽는다.
+     */
+    private List<MatchWithMetrics> fetchKeysetPage(SearchContext ctx, MatchKeysetOrder order) {
 
-        // 10) nextCursor 생성: 페이지의 마지막 요소 기준으로 생성
-        String nextCursor = null;
-        if (hasNext && !page.isEmpty()) {
-            MatchWithMetrics last = page.get(page.size() - 1);
-            nextCursor = encodeCursor(sort, last);
+        int size = ctx.size;
+
+        LocalDateTime cursorKey = null;
+        Long cursorId = null;
+        if (ctx.cursor != null && !ctx.cursor.isBlank()) {
+            KeysetCursor c = decodeKeysetCursor(order, ctx.cursor);
+            cursorKey = c.key;
+            cursorId = c.id;
         }
 
-        // 11) 응답 DTO 매핑
-        List<MatchSearchDTO> content = page.stream()
-                .map(this::toSearchDTO)
-                .collect(Collectors.toList());
+        List<MatchWithMetrics> result = new ArrayList<>(size + 1);
+        int batchSize = size + 1;
 
-        return MatchListResponseDTO.builder()
-                .matches(content)
-                .size(Long.valueOf(content.size()))
-                .hasNext(hasNext)
-                .cursor(nextCursor)
-                .build();
+        while (result.size() <= size) {
+            List<MatchRow> batch = findMatchesAfterCursor(ctx, order, cursorKey, cursorId, batchSize);
+
+            for (MatchRow m : batch) {
+                double distanceKm = distanceTo(ctx, m);
+                if (distanceKm > ctx.radius) {
+                    continue;
+                }
+
+                result.add(new MatchWithMetrics(m, distanceKm, 0.0));
+                if (result.size() > size) {
+                    break;
+                }
+            }
+
+            // 더 이상 조회할 행이 없음
+            if (batch.size() < batchSize) {
+                break;
+            }
+
+            // 필터로 걸러진 만큼 마지막으로 읽은 행 이후부터 이어서 조회 (배치 크기는 점진적으로 증가)
+            MatchRow lastRead = batch.get(batch.size() - 1);
+            cursorKey = keyOf(order, lastRead);
+            cursorId = lastRead.matchId();
+            batchSize = Math.min(batchSize * 2, MAX_KEYSET_BATCH_SIZE);
+        }
+
+        return result;
     }
 
-    // ==========================
-    // Helper methods
-    // ==========================
+    /**
+     * distance / recommend 정렬: 검색 세션 스냅샷 또는 후보 전체 계산
+     *
+     *  - 검색 세션 cursor이고 세션이 남아있으면 스냅샷의 다음 위치부터 잘라 해당 행만 조회 (fetchFromSession)
+     *  - 첫 페이지면 상위 match.list-session.max-size 개까지 선택하여 검색 세션으로 저장
+     *  - 세션이 없거나 만료되었으면 cursor의 (계산값, matchId) 이후 상위 size+1개를 다시 계산
+     */
+    private List<MatchWithMetrics> fetchSortedByMetrics(SearchContext ctx) {
+
+        // cursor 복원 (계산값, matchId, 검색 세션)
+        MetricCursor after = (ctx.cursor != null && !ctx.cursor.isBlank())
+                ? decodeMetricCursor(ctx.sort, ctx.cursor)
+                : null;
+
+        // 검색 세션 스냅샷에서 다음 페이지 구성
+        if (after != null && after.sessionId != 0L) {
+            MatchSearchSessionStore.Session session = matchSearchSessionStore.get(after.sessionId, ctx.queryKey);
+            if (session != null && after.sessionOffset < session.size()) {
+                return fetchFromSession(ctx, session, after.sessionId, after.sessionOffset);
+            }
+        }
+
+        // 첫 페이지: 검색 세션으로 저장할 만큼 선택
+        int limit = ctx.size + 1;
+        if (after == null) {
+            limit = Math.max(limit, matchSearchSessionStore.snapshotSize());
+        }
+
+        List<MatchWithMetrics> selected = selectByMetrics(ctx, after, limit);
+
+        // 다음 페이지가 있으면 정렬 결과를 검색 세션으로 저장
+        if (after == null && selected.size() > ctx.size) {
+            return saveSession(ctx, selected, selected.size() < limit);
+        }
+        return selected;
+    }
+
+    /**
+     * 정렬 결과 → 검색 세션 저장 후 세션 위치를 기록한 목록 반환 (저장 실패 시 그대로 반환)
+     *
+     * @param complete 조건에 맞는 후보 전체가 선택되었는지
+     */
+    private List<MatchWithMetrics> saveSession(SearchContext ctx, List<MatchWithMetrics> selected, boolean complete) {
+        int n = selected.size();
+        long[] matchIds = new long[n];
+        double[] metrics = new double[n];
+        for (int i = 0; i < n; i++) {
+            MatchWithMetrics w = selected.get(i);
+            matchIds[i] = w.match.matchId();
+            metrics[i] = metricOf(ctx.sort, w);
+        }
+
+        long sessionId = matchSearchSessionStore.save(ctx.queryKey, matchIds, metrics, complete);
+        if (sessionId == 0L) {
+            return selected;
+        }
+
+        List<MatchWithMetrics> result = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            MatchWithMetrics w = selected.get(i);
+            result.add(new MatchWithMetrics(w.match, w.distanceKm, w.score, sessionId, i));
+        }
+        return result;
+    }
+
+    /**
+     * 검색 세션 스냅샷에서 offset 이후 size+1개 구성
+     *
+     *  - 스냅샷의 matchId 구간만 PK로 조회 (O(페이지 크기))
+     *  - 그 사이 삭제되었거나 상태/시작 시각 조건에서 벗어난 매치는 건너뜀
+     *  - 스냅샷이 후보 일부만 담고 있고(complete=false) 끝까지 읽었으면
+     *    마지막 항목의 (계산값, matchId) 이후를 다시 계산하여 이어 붙임
+     */
+    private List<MatchWithMetrics> fetchFromSession(SearchContext ctx, MatchSearchSessionStore.Session session,
+                                                    long sessionId, int offset) {
+        int size = ctx.size;
+        List<MatchWithMetrics> result = new ArrayList<>(size + 1);
+        boolean byDistance = "distance".equals(ctx.sort);
+
+        int pos = offset;
+        while (result.size() <= size && pos < session.size()) {
+            int end = Math.min(pos + (size + 1 - result.size()), session.size());
+
+            List<Long> ids = new ArrayList<>(end - pos);
+            for (int p = pos; p < end; p++) {
+                ids.add(session.matchIds()[p]);
+            }
+            Map<Long, MatchRow> rows = matchSearchRepository.findRowsByMatchIds(ids).stream()
+                    .collect(Collectors.toMap(MatchRow::matchId, m -> m));
+
+            for (int p = pos; p < end; p++) {
+                MatchRow m = rows.get(session.matchIds()[p]);
+                if (m == null || !isStillSearchable(ctx, m)) {
+                    continue;
+                }
+                double metric = session.metrics()[p];
+                result.add(byDistance
+                        ? new MatchWithMetrics(m, metric, 0.0, sessionId, p)
+                        : new MatchWithMetrics(m, distanceTo(ctx, m), metric, sessionId, p));
+            }
+            pos = end;
+        }
+
+        // 스냅샷 이후: 마지막 항목 기준으로 다시 계산
+        if (result.size() <= size && !session.complete() && session.size() > 0) {
+            int last = session.size() - 1;
+            MetricCursor tail = new MetricCursor(session.metrics()[last], session.matchIds()[last], 0L, 0);
+            result.addAll(selectByMetrics(ctx, tail, size + 1 - result.size()));
+        }
+
+        return result;
+    }
+
+    /**
+     * 검색 세션 이후 변경으로 조건에서 벗어난 매치인지 (상태 변경, 이미 시작)
+     */
+    private boolean isStillSearchable(SearchContext ctx, MatchRow m) {
+        List<MatchStatus> statuses = ctx.condition.getStatuses();
+        if (statuses != null && !statuses.isEmpty() && !statuses.contains(m.matchStatus())) {
+            return false;
+        }
+        return !m.matchStartDateTime().isBefore(ctx.condition.getFrom());
+    }
+
+    /**
+     * 후보를 순회하며 계산값 기준 상위 limit개만 선택 (메모리 처리)
+     *
+     *  - 전체 정렬 대신 크기 limit의 bounded priority queue(TopKSelector) 사용
+     *  - after가 있으면 (계산값, matchId) > after 인 후보만 큐에 넣음
+     *  - 후보 수가 match.list-scoring.parallel-threshold 이상이면 병렬 처리 (MatchScoringExecutor)
+     *  - recommend + 로그인 사용자: 모집 조건 비트마스크 AND 로 프로필 적합 여부 판정
+     *    (프로필 excludeUnfit=true 면 맞지 않는 매치 제외, 아니면 profileFit 가중치로 순위 조정)
+     *  → O(N log K) 시간, O(K) 메모리 (K = limit), 결과 순서/커서 의미는 전체 정렬과 동일
+     */
+    private List<MatchWithMetrics> selectByMetrics(SearchContext ctx, MetricCursor after, int limit) {
+
+        // 4) 기본 필터된 매치 목록 조회
+        List<MatchRow> matches = findMatchesForSearch(ctx);
+        int n = matches.size();
+
+        // 5) 거리 계산 (recommend 면 반경 이내 후보의 특징값도 배열로 한 번에 추출)
+        double[] distances = new double[n];
+        MatchFeatures features = (ctx.ranking != null) ? new MatchFeatures(n, ctx.now, ctx.caller) : null;
+
+        matchScoringExecutor.forEachIndex(n, i -> {
+            MatchRow m = matches.get(i);
+            double distanceKm = distanceTo(ctx, m);
+            distances[i] = distanceKm;
+            if (features != null && distanceKm <= ctx.radius) {
+                features.set(i, m, distanceKm);
+            }
+        });
+
+        // 5) 추천 점수: 요청 프로필의 MatchRanker가 특징값 배열 전체를 한 번에 점수화
+        double[] scores = null;
+        if (features != null) {
+            scores = new double[n];
+            ctx.ranking.score(features, scores);
+        }
+        double[] recommendScores = scores;
+        boolean excludeUnfit = features != null && ctx.ranking.profile().isExcludeUnfit();
+
+        // 6) ~ 8) 후보 수가 많으면 전용 ForkJoinPool에서 chunk 단위 병렬 처리 후 병합 (MatchScoringExecutor)
+        return matchScoringExecutor.selectTopK(n, limit, metricComparator(ctx.sort), i -> {
+            // 6) radius(반경) 필터
+            double distanceKm = distances[i];
+            if (distanceKm > ctx.radius) {
+                return null;
+            }
+            // 로그인 사용자 프로필에 맞지 않는 매치 제외 (excludeUnfit 프로필만)
+            if (excludeUnfit && features.isUnfit(i)) {
+                return null;
+            }
+            MatchRow m = matches.get(i);
+            double score = (recommendScores != null) ? recommendScores[i] : 0.0;
+            MatchWithMetrics w = new MatchWithMetrics(m, distanceKm, score);
+
+            // 8) cursor 이후 데이터만 후보로 사용
+            if (after != null && !after.precedes(metricOf(ctx.sort, w), m.matchId())) {
+                return null;
+            }
+
+            // 7) 정렬 기준 상위 limit개만 유지
+            return w;
+        });
+    }
+
+    /**
+     * keyset 페이지 행 조회: 인메모리 인덱스(HotMatchIndex)로 처리 가능하면 인덱스, 아니면 DB
+     *
+     * - 일부 요청(match.hot-index.verify-sample-rate)은 DB 결과와 비교하여 정합성 확인
+     */
+    private List<MatchRow> findMatchesAfterCursor(SearchContext ctx, MatchKeysetOrder order,
+                                                  LocalDateTime cursorKey, Long cursorId, int limit) {
+        MatchSearchCondition condition = ctx.condition;
+        List<MatchRow> rows = hotMatchIndex.findMatchesAfterCursor(condition, order, cursorKey, cursorId, limit);
+        if (rows == null) {
+            return matchSearchRepository.findMatchesAfterCursor(condition, order, cursorKey, cursorId, limit);
+        }
+        ctx.fromHotIndex = true;
+        if (hotMatchIndex.shouldVerify()) {
+            hotMatchIndex.verify(rows,
+                    matchSearchRepository.findMatchesAfterCursor(condition, order, cursorKey, cursorId, limit), true);
+        }
+        return rows;
+    }
+
+    /**
+     * 후보 전체 조회: 인메모리 인덱스(HotMatchIndex)로 처리 가능하면 인덱스, 아니면 DB
+     *
+     * - 일부 요청(match.hot-index.verify-sample-rate)은 DB 결과와 비교하여 정합성 확인 (순서 무관)
+     */
+    private List<MatchRow> findMatchesForSearch(SearchContext ctx) {
+        MatchSearchCondition condition = ctx.condition;
+        List<MatchRow> rows = hotMatchIndex.findMatchesForSearch(condition);
+        if (rows == null) {
+            return matchSearchRepository.findMatchesForSearch(condition);
+        }
+        ctx.fromHotIndex = true;
+        if (hotMatchIndex.shouldVerify()) {
+            hotMatchIndex.verify(rows, matchSearchRepository.findMatchesForSearch(condition), false);
+        }
+        return rows;
+    }
+
+    /**
+     * 기준 좌표 → 매치 코트까지의 거리(km)
+     *
+     * - 코트 격자 인덱스가 있으면 미리 계산된 거리 사용 (반경 밖이면 +Infinity)
+     * - 인덱스가 없거나 인덱스 빌드 이후 추가된 코트면 Haversine 직접 계산
+     */
+    private double distanceTo(SearchContext ctx, MatchRow m) {
+        if (ctx.nearbyCourts != null) {
+            double distanceKm = ctx.nearbyCourts.distanceOf(m.courtId());
+            if (!Double.isNaN(distanceKm)) {
+                return distanceKm;
+            }
+        }
+        return calculateDistanceKm(
+                ctx.lat, ctx.lng,
+                m.courtLatitude(),
+                m.courtLongitude()
+        );
+    }
+
+    /**
+     * sort 값 → DB keyset 정렬 기준
+     * - latest              : START_DATE_TIME
+     * - distance, recommend : null (메모리 정렬)
+     * - createdAt 및 그 외  : CREATED_AT (기본값)
+     */
+    private MatchKeysetOrder resolveKeysetOrder(String sort) {
+        return switch (sort) {
+            case "latest" -> MatchKeysetOrder.START_DATE_TIME;
+            case "distance", "recommend" -> null;
+            default -> MatchKeysetOrder.CREATED_AT;
+        };
+    }
+
+    /**
+     * keyset 정렬 기준에 해당하는 매치의 정렬키
+     */
+    private LocalDateTime keyOf(MatchKeysetOrder order, MatchRow match) {
+        return (order == MatchKeysetOrder.START_DATE_TIME)
+                ? match.matchStartDateTime()
+                : match.createdAt();
+    }
+
+    /**
+     * createdAt / latest cursor → (정렬키, matchId) 복원 (CursorCodec, 서명 검증 포함)
+     */
+    private KeysetCursor decodeKeysetCursor(MatchKeysetOrder order, String cursor) {
+        try {
+            CursorCodec.SortKey sortKey = (order == MatchKeysetOrder.START_DATE_TIME)
+                    ? CursorCodec.SortKey.LATEST
+                    : CursorCodec.SortKey.CREATED_AT;
+
+            CursorCodec.Cursor c = cursorCodec.decode(sortKey, cursor);
+            return new KeysetCursor(c.timeKey(), c.matchId());
+
+        } catch (Exception e) {
+            throw new InvalidMatchSearchParameterException("잘못된 cursor 값입니다.", e);
+        }
+    }
 
     /**
      * status 쿼리 파라미터 파싱
@@ -211,6 +898,66 @@ public class MatchListService {
         return result;
     }
 
+    /**
+     * 콤마 구분 enum 목록 쿼리 파라미터 → 비트마스크
+     * - null/빈값 → null (필터링 하지 않음)
+     * - 예: ageRange=TWENTY,THIRTY → 0b0011
+     */
+    private <E extends Enum<E>> Integer parseMask(String param, Class<E> type, String paramName) {
+        if (param == null || param.isBlank()) {
+            return null;
+        }
+
+        int mask = 0;
+        for (String token : param.split(",")) {
+            String trimmed = token.trim();
+            if (trimmed.isEmpty()) continue;
+            try {
+                mask |= EnumBitMask.bitOf(Enum.valueOf(type, trimmed));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidMatchSearchParameterException(paramName + " 값이 잘못되었습니다: " + trimmed);
+            }
+        }
+        return mask == 0 ? null : mask;
+    }
+
+    /**
+     * 설명 검색어(q) → MySQL FULLTEXT BOOLEAN MODE 검색어
+     *
+     * - null/빈값 → null (필터링 하지 않음)
+     * - 공백 기준 단어마다 '+' 를 붙여 모든 단어가 포함된 매치만 조회 (예: "초보 환영" → "+초보 +환영")
+     * - 문자/숫자 외 기호(BOOLEAN MODE 연산자 포함)는 제거
+     * - ngram 토큰보다 짧은 한 글자 단어는 접두어 검색(*)
+     * - 단어 순서/중복을 정규화하여 같은 검색어면 같은 캐시 키가 됨
+     */
+    private String parseFullTextQuery(String q) {
+        if (q == null || q.isBlank()) {
+            return null;
+        }
+        if (q.length() > MAX_QUERY_LENGTH) {
+            throw new InvalidMatchSearchParameterException("검색어는 " + MAX_QUERY_LENGTH + "자 이하여야 합니다.");
+        }
+
+        TreeSet<String> terms = new TreeSet<>();
+        for (String token : q.trim().split("\\s+")) {
+            String term = token.replaceAll("[^\\p{L}\\p{N}]", "").toLowerCase(Locale.ROOT);
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+
+        if (terms.isEmpty()) {
+            throw new InvalidMatchSearchParameterException("검색어가 잘못되었습니다: " + q);
+        }
+        if (terms.size() > MAX_QUERY_TERMS) {
+            throw new InvalidMatchSearchParameterException("검색어는 " + MAX_QUERY_TERMS + "단어 이하여야 합니다.");
+        }
+
+        return terms.stream()
+                .map(term -> term.length() < NGRAM_TOKEN_SIZE ? "+" + term + "*" : "+" + term)
+                .collect(Collectors.joining(" "));
+    }
+
     /**
      * 위도/경도 처리 로직
      *
@@ -243,200 +990,74 @@ public class MatchListService {
 
     /**
      * Haversine 공식으로 두 좌표 간 거리(km) 계산
+     * (코트 격자 인덱스에 없는 코트만 개별 계산, 인덱스 코트는 GeoDistanceKernel 일괄 계산)
      */
     private double calculateDistanceKm(double lat1, double lng1, double lat2, double lng2) {
-        final int R = 6371; // 지구 반지름(km)
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLng = Math.toRadians(lng2 - lng1);
-
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
-
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-
-        return R * c;
+        return GeoDistanceKernel.haversineKm(lat1, lng1, lat2, lng2);
     }
 
     /**
-     * 매치 시간(시:분)이 요청된 시간 필터 범위(startHour~endHour)에 속하는지 검사
-     */
-    private boolean isWithinDailyTimeRange(LocalDateTime targetDateTime, int startHour, int endHour) {
-        LocalTime start = LocalTime.of(startHour, 0);
-        LocalTime end = (endHour == 24) ? LocalTime.MAX : LocalTime.of(endHour, 0);
-        LocalTime targetTime = targetDateTime.toLocalTime();
-        return !targetTime.isBefore(start) && !targetTime.isAfter(end);
-    }
-
-    /**
-     * recommend 정렬일 때 사용할 점수 계산
+     * 기준 좌표에서 radius(km)를 감싸는 위경도 bounding box 계산
+     *
+     * - 정확한 반경 판정은 Haversine(calculateDistanceKm)으로 따로 수행하므로
+     *   bounding box는 반경보다 약간 크게 잡는다.
+     * - 극지방/날짜변경선을 넘는 넓은 반경(기본값 100000km 등)은 위치 필터를 걸지 않음(null)
      *
-     * - sort != recommend 이면 0 리턴
-     * - timeScore: 현재 시각과 매치 시작 시각의 차이(분)를 최대 1일(1440분) 기준으로 0~1로 정규화
-     * - distanceScore: 거리(km)를 반경 25km 기준으로 0~1로 정규화
-     * - 최종점수 = 0.7 * timeScore + 0.3 * distanceScore
+     * @return {minLat, maxLat, minLng, maxLng} 또는 null
      */
-    private double calculateScore(String sort, LocalDateTime now, double distanceKm, LocalDateTime startDateTime) {
-        if (!"recommend".equals(sort)) {
-            return 0.0;
+    private double[] boundingBox(double lat, double lng, int radius) {
+        double radiusKm = radius + BOUNDING_BOX_MARGIN_KM;
+
+        double dLat = radiusKm / GeoGrid.KM_PER_DEGREE;
+        double minLat = lat - dLat;
+        double maxLat = lat + dLat;
+        if (minLat <= -90.0 || maxLat >= 90.0) {
+            return null;
         }
 
-        long minutesUntil = ChronoUnit.MINUTES.between(now, startDateTime);
-        if (minutesUntil < 0) minutesUntil = 0;
-
-        double timeScore = Math.min((double) minutesUntil / 1440.0, 1.0);
-        double distanceScore = Math.min(distanceKm / 25.0, 1.0);
+        // 경도 1도 거리는 위도가 높을수록 짧아지므로 bounding box에서 극에 가까운 위도 기준으로 계산
+        double cosLat = Math.cos(Math.toRadians(Math.max(Math.abs(minLat), Math.abs(maxLat))));
+        double dLng = radiusKm / (GeoGrid.KM_PER_DEGREE * cosLat);
+        double minLng = lng - dLng;
+        double maxLng = lng + dLng;
+        if (minLng < -180.0 || maxLng > 180.0) {
+            return null;
+        }
 
-        return 0.7 * timeScore + 0.3 * distanceScore;
+        return new double[]{minLat, maxLat, minLng, maxLng};
     }
 
     /**
-     * 정렬 기준별 Comparator 적용
+     * 정렬 기준별 Comparator (계산값 기준 정렬만 메모리에서 처리)
      *
-     * - latest     : 매치 시작일시 오름차순
      * - distance   : 거리 오름차순
      * - recommend  : score 오름차순
-     * - createdAt  : 생성일시 오름차순 (기본값)
      *
      * 동일 값일 때는 match.id로 2차 정렬
+     * (createdAt / latest 는 DB에서 keyset 정렬)
      */
-    private void sortMatches(List<MatchWithMetrics> list, String sort) {
-        switch (sort) {
-            case "latest":
-                list.sort(Comparator
-                        .comparing((MatchWithMetrics m) -> m.match.getMatchStartDateTime())
-                        .thenComparing(m -> m.match.getId()));
-                break;
-            case "distance":
-                list.sort(Comparator
-                        .comparingDouble((MatchWithMetrics m) -> m.distanceKm)
-                        .thenComparing(m -> m.match.getId()));
-                break;
-            case "recommend":
-                list.sort(Comparator
-                        .comparingDouble((MatchWithMetrics m) -> m.score)
-                        .thenComparing(m -> m.match.getId()));
-                break;
-            case "createdAt":
-            default:
-                list.sort(Comparator
-                        .comparing((MatchWithMetrics m) -> m.match.getCreatedAt())
-                        .thenComparing(m -> m.match.getId()));
-        }
+    private Comparator<MatchWithMetrics> metricComparator(String sort) {
+        return Comparator
+                .comparingDouble((MatchWithMetrics m) -> metricOf(sort, m))
+                .thenComparing(m -> m.match.matchId());
     }
 
     /**
-     * cursor 이후 데이터만 남기는 필터 (메모리 상에서 처리)
-     *
-     * cursorBase64:
-     *  - sort별로 다른 구조의 JSON을 Base64로 인코딩한 문자열
-     *      * latest    : { startDateTime, id }
-     *      * distance  : { distance, id }
-     *      * recommend : { score, id }
-     *      * createdAt : { createdAt, id }
-     *
-     *  - 디코딩해서 cursor 기준을 복원한 뒤,
-     *    "cursor보다 이후"인 데이터부터 서브리스트를 반환
+     * 정렬 기준 계산값 (distance → 거리, recommend → score)
      */
-    private List<MatchWithMetrics> applyCursorFilter(List<MatchWithMetrics> list,
-                                                     String sort,
-                                                     String cursorBase64) {
-
-        if (list.isEmpty()) {
-            return list;
-        }
+    private double metricOf(String sort, MatchWithMetrics w) {
+        return "distance".equals(sort) ? w.distanceKm : w.score;
+    }
 
+    /**
+     * distance / recommend cursor → (계산값, matchId) 복원 (CursorCodec, 서명 검증 포함)
+     *
+     * - latest / createdAt 은 decodeKeysetCursor()로 복원해 DB 조건으로 사용
+     */
+    private MetricCursor decodeMetricCursor(String sort, String cursor) {
         try {
-            String json = new String(Base64.getDecoder().decode(cursorBase64));
-
-            int startIndex = list.size(); // 기본값: "cursor 이후 데이터 없음"
-
-            switch (sort) {
-                case "latest": {
-                    LatestCursor c = objectMapper.readValue(json, LatestCursor.class);
-                    LocalDateTime cursorStart = LocalDateTime.parse(c.startDateTime);
-                    Long cursorId = c.id;
-
-                    for (int i = 0; i < list.size(); i++) {
-                        MatchWithMetrics m = list.get(i);
-                        LocalDateTime start = m.match.getMatchStartDateTime();
-
-                        // 정렬 기준: startDateTime 오름차순, id 오름차순
-                        // → cursor보다 "뒤에 있는" 첫 번째 요소 찾기
-                        if (start.isAfter(cursorStart)
-                                || (start.equals(cursorStart) && m.match.getId() > cursorId)) {
-                            startIndex = i;
-                            break;
-                        }
-                    }
-                    break;
-                }
-
-                case "distance": {
-                    DistanceCursor c = objectMapper.readValue(json, DistanceCursor.class);
-                    double cursorDist = c.distance;
-                    long cursorId = c.id;
-
-                    for (int i = 0; i < list.size(); i++) {
-                        MatchWithMetrics m = list.get(i);
-                        double d = m.distanceKm;
-
-                        // 정렬 기준: distance 오름차순, id 오름차순
-                        if (d > cursorDist
-                                || (Double.compare(d, cursorDist) == 0 && m.match.getId() > cursorId)) {
-                            startIndex = i;
-                            break;
-                        }
-                    }
-                    break;
-                }
-
-                case "recommend": {
-                    RecommendCursor c = objectMapper.readValue(json, RecommendCursor.class);
-                    double cursorScore = c.score;
-                    long cursorId = c.id;
-
-                    for (int i = 0; i < list.size(); i++) {
-                        MatchWithMetrics m = list.get(i);
-                        double s = m.score;
-
-                        // 정렬 기준: score 오름차순, id 오름차순
-                        if (s > cursorScore
-                                || (Double.compare(s, cursorScore) == 0 && m.match.getId() > cursorId)) {
-                            startIndex = i;
-                            break;
-                        }
-                    }
-                    break;
-                }
-
-                case "createdAt":
-                default: {
-                    CreatedAtCursor c = objectMapper.readValue(json, CreatedAtCursor.class);
-                    LocalDateTime cursorCreatedAt = LocalDateTime.parse(c.createdAt);
-                    long cursorId = c.id;
-
-                    for (int i = 0; i < list.size(); i++) {
-                        MatchWithMetrics m = list.get(i);
-                        LocalDateTime created = m.match.getCreatedAt();
-
-                        // 정렬 기준: createdAt 오름차순, id 오름차순
-                        if (created.isAfter(cursorCreatedAt)
-                                || (created.equals(cursorCreatedAt) && m.match.getId() > cursorId)) {
-                            startIndex = i;
-                            break;
-                        }
-                    }
-                }
-            }
-
-            // cursor 이후 데이터가 없으면 빈 리스트
-            if (startIndex >= list.size()) {
-                return Collections.emptyList();
-            }
-
-            // cursor 이후 데이터만 반환
-            return list.subList(startIndex, list.size());
+            CursorCodec.Cursor c = cursorCodec.decode(sortKeyOf(sort), cursor);
+            return new MetricCursor(c.metricKey(), c.matchId(), c.sessionId(), c.sessionOffset());
 
         } catch (Exception e) {
             throw new InvalidMatchSearchParameterException("잘못된 cursor 값입니다.", e);
@@ -444,72 +1065,62 @@ public class MatchListService {
     }
 
     /**
-     * 마지막 요소 기준으로 cursor JSON → Base64 생성
+     * 마지막 요소 기준으로 cursor 생성
      *
-     * 정렬 기준에 따라 서로 다른 Cursor DTO를 만들어 JSON 직렬화 후
-     * Base64 인코딩해서 문자열로 응답에 넣는다.
+     * 정렬 기준에 맞는 정렬키(시간 또는 계산값) + matchId 를
+     * CursorCodec 바이너리 레이아웃(버전, 정렬 기준, 키, matchId, 서명)으로 인코딩한다.
+     * 검색 세션 스냅샷의 항목이면 세션 ID + 다음 위치도 함께 기록한다.
      */
     private String encodeCursor(String sort, MatchWithMetrics last) {
-        try {
-            String json;
-
-            switch (sort) {
-                case "latest": {
-                    LatestCursor c = new LatestCursor(
-                            last.match.getMatchStartDateTime().format(ISO_DATETIME),
-                            last.match.getId()
-                    );
-                    json = objectMapper.writeValueAsString(c);
-                    break;
-                }
-                case "distance": {
-                    DistanceCursor c = new DistanceCursor(last.distanceKm, last.match.getId());
-                    json = objectMapper.writeValueAsString(c);
-                    break;
-                }
-                case "recommend": {
-                    RecommendCursor c = new RecommendCursor(last.score, last.match.getId());
-                    json = objectMapper.writeValueAsString(c);
-                    break;
-                }
-                case "createdAt":
-                default: {
-                    CreatedAtCursor c = new CreatedAtCursor(
-                            last.match.getCreatedAt().format(ISO_DATETIME),
-                            last.match.getId()
-                    );
-                    json = objectMapper.writeValueAsString(c);
-                }
-            }
+        CursorCodec.SortKey sortKey = sortKeyOf(sort);
+        long matchId = last.match.matchId();
 
-            return Base64.getEncoder().encodeToString(json.getBytes());
-
-        } catch (Exception e) {
-            throw new IllegalStateException("cursor 생성 중 오류가 발생했습니다.", e);
+        if (last.sessionId != 0L) {
+            return cursorCodec.encode(sortKey, metricOf(sort, last), matchId, last.sessionId, last.sessionPosition + 1);
         }
+
+        return switch (sortKey) {
+            case LATEST -> cursorCodec.encode(sortKey, last.match.matchStartDateTime(), matchId);
+            case DISTANCE -> cursorCodec.encode(sortKey, last.distanceKm, matchId);
+            case RECOMMEND -> cursorCodec.encode(sortKey, last.score, matchId);
+            case CREATED_AT -> cursorCodec.encode(sortKey, last.match.createdAt(), matchId);
+        };
     }
 
     /**
-     * Entity + 부가 정보(MatchWithMetrics) → 응답 DTO 매핑
+     * sort 파라미터 → cursor 정렬 기준 (그 외 값은 createdAt)
+     */
+    private CursorCodec.SortKey sortKeyOf(String sort) {
+        return switch (sort) {
+            case "latest" -> CursorCodec.SortKey.LATEST;
+            case "distance" -> CursorCodec.SortKey.DISTANCE;
+            case "recommend" -> CursorCodec.SortKey.RECOMMEND;
+            default -> CursorCodec.SortKey.CREATED_AT;
+        };
+    }
+
+    /**
+     * 읽기 모델 행 + 부가 정보(MatchWithMetrics) → 응답 DTO 매핑
+     * (모집 조건은 비트마스크에서 복원, 추가 조회 없음)
      */
     private MatchSearchDTO toSearchDTO(MatchWithMetrics w) {
-        Match m = w.match;
+        MatchRow m = w.match;
 
         return MatchSearchDTO.builder()
-                .matchId(m.getId())
-                .hostId(m.getHost().getId())
-                .startDateTime(m.getMatchStartDateTime().format(ISO_DATETIME))
-                .endDateTime(m.getMatchEndDateTime().format(ISO_DATETIME))
-                .gameType(m.getGameType().name())
-                .courtId(m.getCourt().getId())
-                .fee(m.getFee())
-                // VO 컬렉션들을 문자열 리스트로 변환 (예: ["ONE_YEAR", "TWO_YEARS"])
-                .period(m.getPeriods().stream().map(Enum::name).collect(Collectors.toList()))
-                .playerCountMen(m.getPlayerCountMen())
-                .playerCountWomen(m.getPlayerCountWomen())
-                .ageRange(m.getAges().stream().map(Enum::name).collect(Collectors.toList()))
-                .status(mapStatus(m.getMatchStatus()))
-                .createdAt(m.getCreatedAt().format(ISO_DATETIME))
+                .matchId(m.matchId())
+                .hostId(m.hostId())
+                .startDateTime(m.matchStartDateTime().format(ISO_DATETIME))
+                .endDateTime(m.matchEndDateTime().format(ISO_DATETIME))
+                .gameType(m.gameType().name())
+                .courtId(m.courtId())
+                .fee(m.fee())
+                // 비트마스크를 문자열 리스트로 변환 (예: ["ONE_YEAR", "TWO_YEARS"])
+                .period(EnumBitMask.decodeNames(m.periodsMask(), Period.class))
+                .playerCountMen(m.playerCountMen())
+                .playerCountWomen(m.playerCountWomen())
+                .ageRange(EnumBitMask.decodeNames(m.agesMask(), Age.class))
+                .status(mapStatus(m.matchStatus()))
+                .createdAt(m.createdAt().format(ISO_DATETIME))
                 .build();
     }
 
@@ -530,78 +1141,102 @@ public class MatchListService {
     // ==========================
 
     /**
-     * Match + 거리/추천 점수 정보를 묶어서 다루기 위한 내부용 래퍼 클래스
+     * 한 번의 목록 조회 요청에서 정규화된 검색 조건/파라미터 묶음
+     */
+    @Builder
+    private static class SearchContext {
+        private final MatchSearchCondition condition;
+        private final String sort;
+        private final String cursor;
+        private final int size;
+        private final LocalDateTime now;
+        private final double lat;
+        private final double lng;
+        private final int radius;
+        private final CourtSpatialIndex.NearbyCourts nearbyCourts;
+
+        // sort=recommend 일 때 적용할 ranker + 프로필 (그 외 null)
+        private final MatchRankingResolver.Ranking ranking;
+
+        // sort=recommend 개인화용 로그인 사용자 프로필 (비로그인 또는 그 외 sort 면 null)
+        private final CallerProfile caller;
+
+        // 결과 캐시용 정규화된 검색 조건 문자열
+        private final String filterKey;
+
+        // facet 개수 캐시용 정규화된 검색 조건 문자열 (정렬/size/cursor 제외)
+        private final String facetKey;
+
+        // 검색 세션 확인용 정규화된 검색 조건 문자열 (size/cursor 제외)
+        private final String queryKey;
+
+        // 조회 중 인메모리 인덱스(HotMatchIndex) 결과를 사용했는지 (true 면 공유 결과 캐시에 저장하지 않음)
+        private boolean fromHotIndex;
+    }
+
+    /**
+     * MatchRow + 거리/추천 점수 정보를 묶어서 다루기 위한 내부용 래퍼 클래스
      */
     private static class MatchWithMetrics {
-        private final Match match;
+        private final MatchRow match;
         private final double distanceKm;
         private final double score;
 
-        private MatchWithMetrics(Match match, double distanceKm, double score) {
+        // 검색 세션 스냅샷 항목이면 세션 ID + 스냅샷 내 위치 (아니면 0)
+        private final long sessionId;
+        private final int sessionPosition;
+
+        private MatchWithMetrics(MatchRow match, double distanceKm, double score) {
+            this(match, distanceKm, score, 0L, 0);
+        }
+
+        private MatchWithMetrics(MatchRow match, double distanceKm, double score, long sessionId, int sessionPosition) {
             this.match = match;
             this.distanceKm = distanceKm;
             this.score = score;
+            this.sessionId = sessionId;
+            this.sessionPosition = sessionPosition;
         }
     }
 
     /**
-     * createdAt 정렬용 커서 구조
-     */
-    private static class CreatedAtCursor {
-        public String createdAt;
-        public Long id;
-
-        public CreatedAtCursor() { }
-
-        public CreatedAtCursor(String createdAt, Long id) {
-            this.createdAt = createdAt;
-            this.id = id;
-        }
-    }
-
-    /**
-     * latest(매치 시작 시간) 정렬용 커서 구조
+     * keyset 조회용으로 복원한 커서 (정렬키, matchId)
      */
-    private static class LatestCursor {
-        public String startDateTime;
-        public Long id;
-
-        public LatestCursor() { }
+    private static class KeysetCursor {
+        private final LocalDateTime key;
+        private final Long id;
 
-        public LatestCursor(String startDateTime, Long id) {
-            this.startDateTime = startDateTime;
+        private KeysetCursor(LocalDateTime key, Long id) {
+            this.key = key;
             this.id = id;
         }
     }
 
     /**
-     * distance 정렬용 커서 구조
+     * 메모리 정렬용으로 복원한 커서 (계산값, matchId, 검색 세션)
      */
-    private static class DistanceCursor {
-        public double distance;
-        public Long id;
+    private static class MetricCursor {
+        private final double value;
+        private final long id;
 
-        public DistanceCursor() { }
+        // 검색 세션 ID (세션 cursor 가 아니면 0) + 스냅샷에서 다음 페이지 시작 위치
+        private final long sessionId;
+        private final int sessionOffset;
 
-        public DistanceCursor(double distance, Long id) {
-            this.distance = distance;
+        private MetricCursor(double value, long id, long sessionId, int sessionOffset) {
+            this.value = value;
             this.id = id;
+            this.sessionId = sessionId;
+            this.sessionOffset = sessionOffset;
         }
-    }
 
-    /**
-     * recommend 정렬용 커서 구조
-     */
-    private static class RecommendCursor {
-        public double score;
-        public Long id;
-
-        public RecommendCursor() {
-        }
-
-        public RecommendCursor(double score, Long id) {
-            this.score = score;
-            this.id = id;
+        /**
+         * 정렬 기준: 계산값 오름차순, id 오름차순
+         * → cursor가 (otherValue, otherId)보다 앞에 있으면 (= 다음 페이지 대상이면) true
+         */
+        private boolean precedes(double otherValue, long otherId) {
+            return otherValue > value
+                    || (Double.compare(otherValue, value) == 0 && otherId > id);
         }
     }
 }
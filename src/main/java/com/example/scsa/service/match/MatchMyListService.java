@@ -1,11 +1,12 @@
 package com.example.scsa.service.match;
 
-import com.example.scsa.domain.entity.Match;
 import com.example.scsa.domain.vo.Age;
 import com.example.scsa.domain.vo.Period;
 import com.example.scsa.dto.match.MatchMyListResponseDTO;
+import com.example.scsa.dto.match.MatchRow;
 import com.example.scsa.dto.match.MatchSearchDTO;
-import com.example.scsa.repository.MatchRepository;
+import com.example.scsa.repository.MatchSearchRepository;
+import com.example.scsa.util.EnumBitMask;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -22,7 +23,7 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class MatchMyListService {
 
-    private final MatchRepository matchRepository;
+    private final MatchSearchRepository matchSearchRepository;
 
     // Z 없이 응답 (프론트엔드 규약 변경: 2025-11-17T19:00:00)
     private static final DateTimeFormatter ISO_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
@@ -39,6 +40,8 @@ public class MatchMyListService {
      *  4) Slice를 사용해 hasNext 여부 확인
      *  5) 마지막 matchId를 nextCursor로 사용해 응답에 포함
      *
+     * match_search 읽기 모델만 조회 (court/host 조인, 모집 조건 컬렉션 로딩 없음, MatchRow projection)
+     *
      * @param hostId 현재 로그인 유저 ID (매치 호스트)
      * @param cursor 마지막으로 조회한 matchId (null이면 첫 페이지)
      * @param size   한 번에 조회할 매치 개수
@@ -53,14 +56,14 @@ public class MatchMyListService {
         // 2. cursor 유무에 따라 다른 쿼리 호출
         // 첫 페이지: hostId 기준으로 id 내림차순 정렬
         // 다음 페이지: cursor보다 작은 id 들만 대상으로 id 내림차순
-        Slice<Match> slice;
+        Slice<MatchRow> slice;
         if (cursor == null) {
-            slice = matchRepository.findByHostIdOrderByIdDesc(hostId, pageable);
+            slice = matchSearchRepository.findRowsByHostId(hostId, pageable);
         } else {
-            slice = matchRepository.findByHostIdAndIdLessThanOrderByIdDesc(hostId, cursor, pageable);
+            slice = matchSearchRepository.findRowsByHostIdBefore(hostId, cursor, pageable);
         }
 
-        // 3. Entity → DTO 변환
+        // 3. MatchRow → DTO 변환
         List<MatchSearchDTO> content = slice.getContent().stream()
                 .map(this::toDto)
                 .toList();
@@ -90,40 +93,36 @@ public class MatchMyListService {
     }
 
     /**
-     * Match 엔티티 → MatchSearchDTO 변환
+     * MatchRow → MatchSearchDTO 변환
      *
      * - MatchStatus → OPEN/CLOSED 문자열 매핑
-     * - Period, Age VO 컬렉션을 String 리스트로 변환
+     * - Period, Age 비트마스크를 String 리스트로 변환
      * - 날짜/시간은 ISO-8601 문자열로 포맷팅
      */
-    private MatchSearchDTO toDto(Match match) {
-        String status = switch (match.getMatchStatus()) {
+    private MatchSearchDTO toDto(MatchRow match) {
+        String status = switch (match.matchStatus()) {
             case RECRUITING -> "OPEN";
             case COMPLETED -> "CLOSED";
         };
 
-        List<String> periods = match.getPeriods().stream()
-                .map(Period::name)
-                .toList();
+        List<String> periods = EnumBitMask.decodeNames(match.periodsMask(), Period.class);
 
-        List<String> ages = match.getAges().stream()
-                .map(Age::name)
-                .toList();
+        List<String> ages = EnumBitMask.decodeNames(match.agesMask(), Age.class);
 
         return MatchSearchDTO.builder()
-                .matchId(match.getId())
-                .hostId(match.getHost().getId())
-                .startDateTime(match.getMatchStartDateTime().format(ISO_FORMATTER))
-                .endDateTime(match.getMatchEndDateTime().format(ISO_FORMATTER))
-                .gameType(match.getGameType().name())
-                .courtId(match.getCourt().getId())
-                .fee(match.getFee())
+                .matchId(match.matchId())
+                .hostId(match.hostId())
+                .startDateTime(match.matchStartDateTime().format(ISO_FORMATTER))
+                .endDateTime(match.matchEndDateTime().format(ISO_FORMATTER))
+                .gameType(match.gameType().name())
+                .courtId(match.courtId())
+                .fee(match.fee())
                 .period(periods)
-                .playerCountMen(match.getPlayerCountMen())
-                .playerCountWomen(match.getPlayerCountWomen())
+                .playerCountMen(match.playerCountMen())
+                .playerCountWomen(match.playerCountWomen())
                 .ageRange(ages)
                 .status(status)
-                .createdAt(match.getCreatedAt().format(ISO_FORMATTER))
+                .createdAt(match.createdAt().format(ISO_FORMATTER))
                 .build();
     }
 }
\ No newline at end of file
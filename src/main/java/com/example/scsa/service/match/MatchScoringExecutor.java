@@ -0,0 +1,227 @@
+package com.example.scsa.service.match;
+
+import com.example.scsa.util.TopKSelector;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+
+/**
+ * 매치 목록 distance / recommend 후보 점수 계산 + 상위 K개 선택 실행기
+ *
+ * 후보 수에 따라 실행 방식을 고른다.
+ *  - 후보 < parallel-threshold : 호출 스레드(Tomcat)에서 순차 처리
+ *  - 후보 ≥ parallel-threshold : 전용 ForkJoinPool에서 chunk 단위로 나눠 점수 계산/필터링,
+ *                                chunk별 TopKSelector 결과를 병합
+ *
+ * 전용 풀을 사용하므로 commonPool(다른 parallel stream 등)과 경합하지 않는다.
+ *
+ * 설정:
+ *  - match.list-scoring.parallel-threshold : 병렬 처리 시작 후보 수 (0 이하면 항상 순차)
+ *  - match.list-scoring.parallelism        : 전용 풀 스레드 수 (기본: CPU 코어 수)
+ *
+ * 메트릭:
+ *  - match.list.scoring.parallel.threshold          : 현재 threshold (gauge)
+ *  - match.list.scoring{mode=sequential|parallel}   : 실행 방식별 처리 시간 (timer)
+ *  - match.list.scoring.candidates{mode=...}        : 실행 방식별 처리한 후보 수 (counter)
+ */
+@Slf4j
+@Component
+public class MatchScoringExecutor {
+
+    // chunk 최소 크기 (너무 잘게 나누면 분할/병합 비용이 더 큼)
+    private static final int MIN_CHUNK_SIZE = 2048;
+
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+
+    private final Timer sequentialTimer;
+    private final Timer parallelTimer;
+    private final Counter sequentialCandidates;
+    private final Counter parallelCandidates;
+
+    public MatchScoringExecutor(MeterRegistry meterRegistry,
+                                @Value("${match.list-scoring.parallel-threshold:20000}") int parallelThreshold,
+                                @Value("${match.list-scoring.parallelism:0}") int parallelism) {
+        this.parallelThreshold = parallelThreshold;
+
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(threads, p -> {
+            ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            t.setName("match-scoring-" + t.getPoolIndex());
+            return t;
+        }, null, false);
+
+        Gauge.builder("match.list.scoring.parallel.threshold", () -> this.parallelThreshold)
+                .description("병렬 점수 계산을 시작하는 후보 수")
+                .register(meterRegistry);
+        this.sequentialTimer = meterRegistry.timer("match.list.scoring", "mode", "sequential");
+        this.parallelTimer = meterRegistry.timer("match.list.scoring", "mode", "parallel");
+        this.sequentialCandidates = meterRegistry.counter("match.list.scoring.candidates", "mode", "sequential");
+        this.parallelCandidates = meterRegistry.counter("match.list.scoring.candidates", "mode", "parallel");
+
+        log.info("[MatchScoringExecutor] parallelThreshold={}, parallelism={}", parallelThreshold, threads);
+    }
+
+    /**
+     * 후보 → 점수 계산(scorer) → comparator 기준 상위 k개 선택
+     *
+     * @param candidates 후보 목록 (chunk 분할을 위해 RandomAccess List 권장)
+     * @param k          유지할 개수 (size + 1)
+     * @param comparator 정렬 기준 (앞설수록 상위)
+     * @param scorer     후보 → 점수 계산 결과, 필터에서 제외되면 null (여러 스레드에서 호출되므로 상태 없어야 함)
+     * @return comparator 순서로 정렬된 상위 k개
+     */
+    public <T, R> List<R> selectTopK(List<T> candidates,
+                                     int k,
+                                     Comparator<? super R> comparator,
+                                     Function<? super T, ? extends R> scorer) {
+        return selectTopK(candidates.size(), k, comparator, i -> scorer.apply(candidates.get(i)));
+    }
+
+    /**
+     * 후보 인덱스 [0, n) → 점수 계산(scorer) → comparator 기준 상위 k개 선택
+     * (후보 특징값을 인덱스별 배열로 다루는 경우 사용)
+     */
+    public <R> List<R> selectTopK(int n,
+                                  int k,
+                                  Comparator<? super R> comparator,
+                                  IntFunction<? extends R> scorer) {
+
+        if (!isParallel(n)) {
+            sequentialCandidates.increment(n);
+            return sequentialTimer.record(() -> scoreRange(0, n, k, comparator, scorer).toSortedList());
+        }
+
+        parallelCandidates.increment(n);
+
+        return parallelTimer.record(() -> pool
+                .invoke(new ScoringTask<>(0, n, chunkSize(n), k, comparator, scorer))
+                .toSortedList());
+    }
+
+    /**
+     * 후보 인덱스 [0, n) 각각에 action 실행 (후보 특징값 추출 등)
+     * 후보 수가 threshold 이상이면 전용 풀에서 chunk 단위 병렬 실행 (서로 다른 인덱스만 다뤄야 함)
+     */
+    public void forEachIndex(int n, IntConsumer action) {
+        if (!isParallel(n)) {
+            for (int i = 0; i < n; i++) {
+                action.accept(i);
+            }
+            return;
+        }
+        pool.invoke(new IndexTask(0, n, chunkSize(n), action));
+    }
+
+    private boolean isParallel(int n) {
+        return parallelThreshold > 0 && n >= parallelThreshold;
+    }
+
+    private int chunkSize(int n) {
+        return Math.max(MIN_CHUNK_SIZE, n / (pool.getParallelism() * 4));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private static <R> TopKSelector<R> scoreRange(int from, int to, int k,
+                                                  Comparator<? super R> comparator,
+                                                  IntFunction<? extends R> scorer) {
+        TopKSelector<R> topK = new TopKSelector<>(k, comparator);
+        for (int i = from; i < to; i++) {
+            R scored = scorer.apply(i);
+            if (scored != null) {
+                topK.offer(scored);
+            }
+        }
+        return topK;
+    }
+
+    /**
+     * [from, to) 구간을 chunkSize 이하가 될 때까지 반으로 나눠 처리 후 상위 k개 병합
+     */
+    private static final class ScoringTask<R> extends RecursiveTask<TopKSelector<R>> {
+
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final int k;
+        private final Comparator<? super R> comparator;
+        private final IntFunction<? extends R> scorer;
+
+        private ScoringTask(int from, int to, int chunkSize, int k,
+                            Comparator<? super R> comparator,
+                            IntFunction<? extends R> scorer) {
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.k = k;
+            this.comparator = comparator;
+            this.scorer = scorer;
+        }
+
+        @Override
+        protected TopKSelector<R> compute() {
+            if (to - from <= chunkSize) {
+                return scoreRange(from, to, k, comparator, scorer);
+            }
+
+            int mid = (from + to) >>> 1;
+            ScoringTask<R> left = new ScoringTask<>(from, mid, chunkSize, k, comparator, scorer);
+            ScoringTask<R> right = new ScoringTask<>(mid, to, chunkSize, k, comparator, scorer);
+
+            left.fork();
+            TopKSelector<R> result = right.compute();
+            result.merge(left.join());
+            return result;
+        }
+    }
+
+    /**
+     * [from, to) 구간을 chunkSize 이하가 될 때까지 반으로 나눠 action 실행
+     */
+    private static final class IndexTask extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final IntConsumer action;
+
+        private IndexTask(int from, int to, int chunkSize, IntConsumer action) {
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                for (int i = from; i < to; i++) {
+                    action.accept(i);
+                }
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new IndexTask(from, mid, chunkSize, action), new IndexTask(mid, to, chunkSize, action));
+        }
+    }
+}
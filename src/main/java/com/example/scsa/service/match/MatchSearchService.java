@@ -1,21 +1,18 @@
 package com.example.scsa.service.match;
 
-import com.example.scsa.domain.entity.Match;
-import com.example.scsa.domain.entity.MatchGuest;
-import com.example.scsa.domain.entity.User;
 import com.example.scsa.domain.vo.Age;
 import com.example.scsa.domain.vo.Period;
+import com.example.scsa.dto.match.MatchRow;
 import com.example.scsa.dto.match.MatchSearchDTO;
 import com.example.scsa.exception.match.MatchNotFoundException;
 import com.example.scsa.repository.MatchRepository;
+import com.example.scsa.util.EnumBitMask;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
-import java.util.Comparator;
 import java.util.List;
 
 @Service
@@ -23,69 +20,70 @@ import java.util.List;
 public class MatchSearchService {
 
     private final MatchRepository matchRepository;
+    private final MatchDetailCache matchDetailCache;
 
     /**
      * 매치 단건 상세 조회
      *
      * 실행 흐름:
-     *  1) matchId로 매치 조회 (게스트 정보까지 fetch joining)
+     *  0) 상세 캐시(MatchDetailCache, L1 Caffeine → L2 Redis)에 같은 버전 결과가 있으면 그대로 반환
+     *  1) matchId로 매치 조회 (MatchRow projection, 엔티티 로딩 없음)
      *  2) 매치가 없으면 MatchNotFoundException 발생
-     *  3) Period / Age Enum 컬렉션 정렬 후 문자열 리스트로 변환
+     *  3) Period / Age 비트마스크를 문자열 리스트로 변환 (ordinal 순서, 컬렉션 테이블 조회 없음)
      *  4) MatchStatus → OPEN/CLOSED 변환
-     *  5) Match 엔티티 → MatchSearchDTO로 매핑 후 반환
+     *  5) MatchRow → MatchSearchDTO로 매핑 후 상세 캐시에 저장하고 반환
      *
      * 주의:
-     *  - findByIdWithGuests()는 MatchGuest까지 함께 가져오는 커스텀 조회 메서드이다.
      *  - 서비스 레이어에서는 비즈니스 로직 확인 및 DTO 변환만 수행한다.
+     *  - 조회는 projection 쿼리 하나뿐이므로 트랜잭션을 열지 않는다 (캐시 히트 시 DB 커넥션 미사용).
+     *
+     * @param version 상세 버전 (MatchDataVersion.detailVersion, null이면 캐시 미사용)
      */
-    @Transactional(readOnly = true)
-    public MatchSearchDTO searchMatch(Long matchId) {
-
-        // 1. 매치 + 게스트 목록 조회
-        Match match = matchRepository.findByIdWithGuests(matchId)
-                .orElseThrow(MatchNotFoundException::new);
+    public MatchSearchDTO searchMatch(Long matchId, String version) {
 
-        // 2. 게스트 리스트를 순회하여 Lazy loading이 안 일어나도록 미리 로딩
-        for (MatchGuest matchGuest : match.getMatchGuests()) {
-            User user = matchGuest.getUser();
+        // 0. 상세 캐시 조회
+        MatchSearchDTO cached = matchDetailCache.get(matchId, version);
+        if (cached != null) {
+            return cached;
         }
 
-        // 3. Period enum → 문자열 리스트 (ordinal 기준 정렬)
-        List<String> periods = match.getPeriods().stream()
-                .sorted(Comparator.comparing(Enum::ordinal))
-                .map(Period::name)
-                .toList();
+        // 1. 매치 조회
+        MatchRow match = matchRepository.findRowById(matchId)
+                .orElseThrow(MatchNotFoundException::new);
+
+        // 2. Period 비트마스크 → 문자열 리스트 (ordinal 기준 정렬)
+        List<String> periods = EnumBitMask.decodeNames(match.periodsMask(), Period.class);
 
-        // 4. Age enum → 문자열 리스트 (ordinal 기준 정렬)
-        List<String> ages = match.getAges().stream()
-                .sorted(Comparator.comparing(Enum::ordinal))
-                .map(Age::name)
-                .toList();
+        // 3. Age 비트마스크 → 문자열 리스트 (ordinal 기준 정렬)
+        List<String> ages = EnumBitMask.decodeNames(match.agesMask(), Age.class);
 
-        // 5. MatchStatus → OPEN/CLOSED 변환
-        String status = switch (match.getMatchStatus()) {
+        // 4. MatchStatus → OPEN/CLOSED 변환
+        String status = switch (match.matchStatus()) {
             case RECRUITING -> "OPEN";
             case COMPLETED -> "CLOSED";
         };
 
-        // 6. DTO 변환 및 반환
-        return MatchSearchDTO.builder()
-                .matchId(match.getId())
-                .hostId(match.getHost().getId())
-                .startDateTime(toIso(match.getMatchStartDateTime()))
-                .endDateTime(toIso(match.getMatchEndDateTime()))
-                .gameType(match.getGameType().name())
-                .courtId(match.getCourt().getId())
+        // 5. DTO 변환, 캐시 저장 후 반환
+        MatchSearchDTO dto = MatchSearchDTO.builder()
+                .matchId(match.matchId())
+                .hostId(match.hostId())
+                .startDateTime(toIso(match.matchStartDateTime()))
+                .endDateTime(toIso(match.matchEndDateTime()))
+                .gameType(match.gameType().name())
+                .courtId(match.courtId())
                 .period(periods)
-                .playerCountMen(match.getPlayerCountMen())
-                .playerCountWomen(match.getPlayerCountWomen())
+                .playerCountMen(match.playerCountMen())
+                .playerCountWomen(match.playerCountWomen())
                 .ageRange(ages)
-                .fee(match.getFee())
-                .description(match.getDescription())
+                .fee(match.fee())
+                .description(match.description())
                 .status(status)
-                .createdAt(toIso(match.getCreatedAt()))
-                .updatedAt(toIso(match.getLastModifiedAt()))
+                .createdAt(toIso(match.createdAt()))
+                .updatedAt(toIso(match.lastModifiedAt()))
                 .build();
+
+        matchDetailCache.put(matchId, version, dto);
+        return dto;
     }
 
     /**
@@ -0,0 +1,140 @@
+package com.example.scsa.service.match;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * distance / recommend 정렬 검색 세션 스냅샷 저장소 (Redis)
+ *
+ * 계산값 정렬은 "더 보기"마다 후보 전체를 다시 계산/선택해야 하므로,
+ * 첫 페이지 요청에서 정렬된 상위 matchId + 계산값 목록을 짧은 TTL로 저장하고
+ * 다음 페이지는 세션 cursor(세션 ID + 위치)로 스냅샷을 바로 잘라 해당 행만 조회한다.
+ *  - 다음 페이지 비용: O(페이지 크기)
+ *  - 스크롤 도중 매치가 추가/점수 변동되어도 페이지 사이에 항목이 밀리거나 중복되지 않음
+ *
+ * 세션은 정규화된 검색 조건(queryKey)과 함께 저장하고, 조회 시 조건이 다르면 사용하지 않는다.
+ * Redis 장애 / 세션 만료 시에는 cursor의 계산값 기준으로 다시 계산한다 (기존 방식).
+ *
+ * 메트릭: match.list.session{result=hit|miss|error}
+ */
+@Slf4j
+@Component
+public class MatchSearchSessionStore {
+
+    private static final String SESSION_KEY_PREFIX = "match:list:session:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final boolean enabled;
+    private final long ttlSeconds;
+    private final int maxSize;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter errorCounter;
+
+    public MatchSearchSessionStore(RedisTemplate<String, String> redisTemplate,
+                                   ObjectMapper objectMapper,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${match.list-session.enabled:true}") boolean enabled,
+                                   @Value("${match.list-session.ttl-seconds:600}") long ttlSeconds,
+                                   @Value("${match.list-session.max-size:500}") int maxSize) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.ttlSeconds = ttlSeconds;
+        this.maxSize = maxSize;
+        this.hitCounter = meterRegistry.counter("match.list.session", "result", "hit");
+        this.missCounter = meterRegistry.counter("match.list.session", "result", "miss");
+        this.errorCounter = meterRegistry.counter("match.list.session", "result", "error");
+    }
+
+    /**
+     * 첫 페이지에서 선택할 후보 수 (세션을 사용하지 않으면 0)
+     */
+    public int snapshotSize() {
+        return enabled ? maxSize : 0;
+    }
+
+    /**
+     * 검색 세션 저장 (TTL: match.list-session.ttl-seconds)
+     *
+     * @param queryKey 정규화된 검색 조건 (cursor 제외)
+     * @param matchIds 정렬 순서의 matchId
+     * @param metrics  matchIds 와 같은 순서의 계산값 (거리 또는 추천 점수)
+     * @param complete 조건에 맞는 후보 전체를 담았는지 (false 면 스냅샷 이후는 계산값 기준으로 이어서 계산)
+     * @return 세션 ID (사용할 수 없거나 실패하면 0)
+     */
+    public long save(String queryKey, long[] matchIds, double[] metrics, boolean complete) {
+        if (!enabled) {
+            return 0L;
+        }
+        long sessionId = ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+        try {
+            String json = objectMapper.writeValueAsString(new Session(queryKey, matchIds, metrics, complete));
+            redisTemplate.opsForValue().set(keyOf(sessionId), json, ttlSeconds, TimeUnit.SECONDS);
+            return sessionId;
+        } catch (Exception e) {
+            errorCounter.increment();
+            log.warn("[MatchSearchSession] 세션 저장 실패 - error: {}", e.getMessage());
+            return 0L;
+        }
+    }
+
+    /**
+     * 검색 세션 조회
+     *
+     * @param queryKey 현재 요청의 정규화된 검색 조건 (저장 시 조건과 다르면 null)
+     * @return 세션 (없거나 만료/실패하면 null)
+     */
+    public Session get(long sessionId, String queryKey) {
+        if (!enabled || sessionId == 0L) {
+            return null;
+        }
+        try {
+            String json = redisTemplate.opsForValue().get(keyOf(sessionId));
+            if (json == null) {
+                missCounter.increment();
+                return null;
+            }
+            Session session = objectMapper.readValue(json, Session.class);
+            if (!session.queryKey().equals(queryKey)) {
+                missCounter.increment();
+                return null;
+            }
+            hitCounter.increment();
+            return session;
+        } catch (Exception e) {
+            errorCounter.increment();
+            log.warn("[MatchSearchSession] 세션 조회 실패 - sessionId: {}, error: {}", sessionId, e.getMessage());
+            return null;
+        }
+    }
+
+    private String keyOf(long sessionId) {
+        return SESSION_KEY_PREFIX + Long.toHexString(sessionId);
+    }
+
+    /**
+     * 검색 세션 스냅샷 (정렬 순서의 matchId + 계산값)
+     */
+    public record Session(
+            String queryKey,
+            long[] matchIds,
+            double[] metrics,
+            boolean complete
+    ) {
+        public int size() {
+            return matchIds.length;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.scsa.service.match;
+
+import com.example.scsa.domain.entity.Match;
+import com.example.scsa.domain.entity.MatchSearch;
+import com.example.scsa.domain.vo.MatchStatus;
+import com.example.scsa.repository.MatchRepository;
+import com.example.scsa.repository.MatchSearchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * match_search 읽기 모델 동기화 서비스
+ *
+ * - match 테이블을 변경하는 쪽(MatchService, 만료 배치, 회원 탈퇴)에서 같은 트랜잭션 안에서 호출
+ *   → match 와 match_search 가 함께 커밋/롤백됨
+ * - 재빌드(syncChunkAfter / removeOrphans)는 matchSearchRebuildJob에서 호출
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class MatchSearchSyncService {
+
+    private final MatchRepository matchRepository;
+    private final MatchSearchRepository matchSearchRepository;
+
+    /**
+     * 새 매치 행 추가 (매치 생성 시, match 저장 직후 호출)
+     */
+    public void onCreated(Match match) {
+        matchSearchRepository.save(MatchSearch.from(match));
+    }
+
+    /**
+     * 매치 행 삭제 (매치 삭제 시)
+     */
+    public void onDeleted(Long matchId) {
+        matchSearchRepository.deleteById(matchId);
+    }
+
+    /**
+     * 매치 상태 변경 반영 (행이 없으면 match 기준으로 새로 생성)
+     */
+    public void onStatusChanged(Match match) {
+        matchSearchRepository.findById(match.getId())
+                .ifPresentOrElse(
+                        row -> row.updateMatchStatus(match.getMatchStatus()),
+                        () -> matchSearchRepository.save(MatchSearch.from(match))
+                );
+    }
+
+    /**
+     * 만료 매치 일괄 완료 반영 (MatchRepository.completeExpiredMatches와 같은 조건)
+     */
+    public int onExpired(LocalDateTime now) {
+        return matchSearchRepository.completeExpiredMatches(now, MatchStatus.RECRUITING, MatchStatus.COMPLETED);
+    }
+
+    /**
+     * 호스트의 매치 행 일괄 삭제 (회원 탈퇴 시 COMPLETED 매치 삭제와 함께 호출)
+     */
+    public int onHostMatchesDeleted(Long hostId, MatchStatus matchStatus) {
+        return matchSearchRepository.deleteAllByHostIdAndMatchStatus(hostId, matchStatus);
+    }
+
+    /**
+     * match 테이블 기준으로 afterId 이후 chunkSize개 매치의 행을 다시 계산해 저장 (재빌드)
+     *
+     * - match 의 모집 조건 비트마스크도 컬렉션 기준으로 다시 계산 (mask 컬럼 도입 전 데이터 보정)
+     * - 모집 조건 / 참가자 컬렉션은 chunk 단위로 컬렉션별 한 번씩 미리 읽음 (매치별 지연 로딩 없음)
+     * - 이미 있는 행은 갱신(더티체킹), 없는 행은 새로 저장
+     * - 호출 1회 = 트랜잭션 1개 (배치 Step에서 반복 호출)
+     *
+     * @return 마지막으로 처리한 matchId (더 이상 매치가 없으면 null)
+     */
+    public Long syncChunkAfter(Long afterId, int chunkSize) {
+        List<Match> matches = matchRepository.findChunkAfter(afterId, PageRequest.of(0, chunkSize));
+        if (matches.isEmpty()) {
+            return null;
+        }
+
+        List<Long> ids = matches.stream().map(Match::getId).toList();
+
+        // 모집 조건 / 참가자 컬렉션 일괄 초기화 (결과는 위 matches 와 같은 영속 인스턴스라 반환값은 사용하지 않음)
+        matchRepository.findWithAgesByIdIn(ids);
+        matchRepository.findWithGendersByIdIn(ids);
+        matchRepository.findWithPeriodsByIdIn(ids);
+        matchRepository.findWithGuestsByIdIn(ids);
+
+        Map<Long, MatchSearch> existing = matchSearchRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(MatchSearch::getMatchId, Function.identity()));
+
+        for (Match match : matches) {
+            match.syncMasks();
+
+            MatchSearch row = existing.get(match.getId());
+            if (row != null) {
+                row.refreshFrom(match);
+            } else {
+                matchSearchRepository.save(MatchSearch.from(match));
+            }
+        }
+
+        return matches.get(matches.size() - 1).getId();
+    }
+
+    /**
+     * match 테이블에 없는 행 삭제 (재빌드 마지막 단계)
+     */
+    public int removeOrphans() {
+        return matchSearchRepository.deleteOrphans();
+    }
+}
@@ -3,8 +3,10 @@ package com.example.scsa.service.match;
 import com.example.scsa.domain.entity.Court;
 import com.example.scsa.domain.entity.Match;
 import com.example.scsa.domain.entity.User;
+import com.example.scsa.domain.event.MatchChangedEvent;
 import com.example.scsa.domain.vo.Age;
 import com.example.scsa.domain.vo.GameType;
+import com.example.scsa.domain.vo.Gender;
 import com.example.scsa.domain.vo.MatchStatus;
 import com.example.scsa.domain.vo.Period;
 import com.example.scsa.dto.match.MatchDTO;
@@ -13,16 +15,20 @@ import com.example.scsa.exception.court.CourtNotFoundException;
 import com.example.scsa.exception.match.InvalidMatchStatusChangeException;
 import com.example.scsa.exception.match.MatchAccessDeniedException;
 import com.example.scsa.exception.match.MatchNotFoundException;
+import com.example.scsa.exception.match.MatchScheduleConflictException;
 import com.example.scsa.exception.UserNotFoundException;
 import com.example.scsa.repository.ChatRoomRepository;
 import com.example.scsa.repository.CourtRepository;
 import com.example.scsa.repository.MatchRepository;
+import com.example.scsa.repository.MatchSearchRepository;
 import com.example.scsa.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -32,6 +38,9 @@ public class MatchService {
     private final UserRepository userRepository;
     private final CourtRepository courtRepository;
     private final ChatRoomRepository chatRoomRepository;
+    private final MatchSearchSyncService matchSearchSyncService;
+    private final MatchSearchRepository matchSearchRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 매치 생성
@@ -40,9 +49,12 @@ public class MatchService {
      *  1) hostId로 사용자 조회 (없으면 예외)
      *  2) courtId로 테니스장 조회 (없으면 예외)
      *  3) 시작/종료 시간 검증 (종료가 시작보다 빨라서는 안 됨)
+     *     + 같은 코트에 시간이 겹치는 모집 중(RECRUITING) 매치가 있으면 예외 (겹치는 매치 ID 포함)
+     *       (코트 행을 잠가 같은 코트의 동시 생성은 순서대로 처리)
      *  4) Match 엔티티 생성
-     *  5) Age, Period (Enum Set) 값 매핑
-     *  6) matchRepository.save() 로 저장 후 ID 반환
+     *  5) Age, Gender, Period (Enum Set) 값 매핑 (gender를 보내지 않으면 성별 제한 없음)
+     *  6) matchRepository.save() 로 저장 후 ID 반환 (match_search 읽기 모델도 같은 트랜잭션에서 추가)
+     *  7) 매치 변경 이벤트 발행 (커밋 후 목록 캐시 무효화 등)
      *
      * 역할:
      *  - 매치 등록 시 필요한 모든 도메인 검증을 담당
@@ -54,8 +66,8 @@ public class MatchService {
         User host = userRepository.findById(hostId)
                 .orElseThrow(UserNotFoundException::new);
 
-        // 2. court 조회
-        Court court = courtRepository.findById(dto.getCourtId())
+        // 2. court 조회 (같은 코트 동시 생성 직렬화를 위해 행 잠금)
+        Court court = courtRepository.findByIdForUpdate(dto.getCourtId())
                 .orElseThrow(CourtNotFoundException::new);
 
         // 3. 시간 검증
@@ -65,6 +77,9 @@ public class MatchService {
             throw new IllegalArgumentException("종료 시간은 시작 시간 이후이어야 합니다.");
         }
 
+        // 같은 코트 시간 겹침 확인
+        validateNoScheduleConflict(court.getId(), start, end);
+
         // 4. 매치 생성 (기본 상태는 RECRUITING)
         Match match = Match.builder()
                 .host(host)
@@ -85,14 +100,26 @@ public class MatchService {
             match.addAge(age);
         });
 
-        // 6. Period EnumSet 매핑
+        // 6. Gender EnumSet 매핑 (선택 값, 비어 있으면 제한 없음)
+        if (dto.getGender() != null) {
+            dto.getGender().forEach(genderStr -> {
+                Gender gender = Gender.valueOf(genderStr);
+                match.addGender(gender);
+            });
+        }
+
+        // 7. Period EnumSet 매핑
         dto.getPeriod().forEach(periodStr -> {
             Period period = Period.valueOf(periodStr);
             match.addPeriod(period);
         });
 
-        // 7. 저장 후 결과 반환
+        // 8. 저장 후 결과 반환
         Match saved = matchRepository.save(match);
+        matchSearchSyncService.onCreated(saved);
+
+        // 9. 매치 변경 이벤트 발행
+        eventPublisher.publishEvent(MatchChangedEvent.created(saved.getId()));
 
         return new MatchResponseDTO(saved.getId(), "매치가 성공적으로 등록되었습니다.");
     }
@@ -122,6 +149,10 @@ public class MatchService {
 
         // 4. 매치 삭제
         matchRepository.delete(match);
+        matchSearchSyncService.onDeleted(matchId);
+
+        // 5. 매치 변경 이벤트 발행
+        eventPublisher.publishEvent(MatchChangedEvent.deleted(matchId));
     }
 
     /**
@@ -132,6 +163,7 @@ public class MatchService {
      *  - 매치 시작 시간이 이미 지났고 상태가 COMPLETED라면
      *      COMPLETED → RECRUITING 으로 되돌리는 것은 금지
      *  - 그 외에는 단순 토글
+     *  - COMPLETED → RECRUITING 재개 시 같은 코트에 시간이 겹치는 모집 중 매치가 있으면 예외
      *
      * 목적:
      *  - UI에서 "매치 마감" 또는 "모집 재개" 같은 기능을 토글 방식으로 구현하기 위함
@@ -166,8 +198,33 @@ public class MatchService {
                         ? MatchStatus.COMPLETED
                         : MatchStatus.RECRUITING;
 
+        // 모집 재개 시 같은 코트 시간 겹침 확인 (생성과 같은 코트 행 잠금)
+        if (newStatus == MatchStatus.RECRUITING) {
+            courtRepository.findByIdForUpdate(match.getCourt().getId());
+            validateNoScheduleConflict(
+                    match.getCourt().getId(), match.getMatchStartDateTime(), match.getMatchEndDateTime());
+        }
+
         match.updateMatchStatus(newStatus); // JPA 더티체킹으로 상태 업데이트
+        matchSearchSyncService.onStatusChanged(match);
+
+        // 5. 매치 변경 이벤트 발행
+        eventPublisher.publishEvent(MatchChangedEvent.statusChanged(matchId));
 
         return new MatchResponseDTO(matchId, "매치가 성공적으로 변경되었습니다.");
     }
+
+    /**
+     * 같은 코트에 [start, end) 와 시간이 겹치는 모집 중(RECRUITING) 매치가 있으면 예외
+     *
+     * - match_search (court_id, match_status, match_start_date_time) 인덱스 범위 조회 한 번
+     * - 호출 전에 코트 행을 잠가(findByIdForUpdate) 같은 코트의 동시 생성/재개가 서로의 결과를 보도록 함
+     */
+    private void validateNoScheduleConflict(Long courtId, LocalDateTime start, LocalDateTime end) {
+        List<Long> conflicts = matchSearchRepository.findOverlappingMatchIds(
+                courtId, MatchStatus.RECRUITING, start, end);
+        if (!conflicts.isEmpty()) {
+            throw new MatchScheduleConflictException(conflicts);
+        }
+    }
 }
\ No newline at end of file
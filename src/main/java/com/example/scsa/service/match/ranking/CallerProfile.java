@@ -0,0 +1,40 @@
+package com.example.scsa.service.match.ranking;
+
+import com.example.scsa.domain.entity.User;
+import com.example.scsa.util.EnumBitMask;
+
+/**
+ * 추천 정렬 개인화용 요청자 프로필 (나이대 / 성별 / 경력 비트)
+ *
+ * 각 값은 EnumBitMask.bitOf() 비트 하나 (프로필 미입력이면 0)
+ *
+ * 매치 모집 조건과의 적합 여부는 매치 행의 비트마스크와 AND 로 판정:
+ *  - 매치 조건이 없음(mask == 0) 또는 프로필 미입력(bit == 0) → 해당 항목은 적합으로 봄
+ *  - 그 외에는 (mask & bit) != 0 이어야 적합
+ *  - 나이대 / 성별 / 경력 모두 적합해야 최종 적합
+ */
+public record CallerProfile(int ageBit, int genderBit, int periodBit) {
+
+    public static CallerProfile of(User user) {
+        return new CallerProfile(
+                user.getAge() != null ? EnumBitMask.bitOf(user.getAge()) : 0,
+                user.getGender() != null ? EnumBitMask.bitOf(user.getGender()) : 0,
+                user.getPeriod() != null ? EnumBitMask.bitOf(user.getPeriod()) : 0
+        );
+    }
+
+    public boolean fits(int agesMask, int gendersMask, int periodsMask) {
+        return fits(agesMask, ageBit) && fits(gendersMask, genderBit) && fits(periodsMask, periodBit);
+    }
+
+    /**
+     * 결과 캐시 키 구분용 (같은 프로필이면 사용자가 달라도 같은 결과)
+     */
+    public String cacheKey() {
+        return ageBit + "/" + genderBit + "/" + periodBit;
+    }
+
+    private static boolean fits(int mask, int bit) {
+        return mask == 0 || bit == 0 || (mask & bit) != 0;
+    }
+}
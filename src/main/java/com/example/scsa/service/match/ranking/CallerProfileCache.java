@@ -0,0 +1,98 @@
+package com.example.scsa.service.match.ranking;
+
+import com.example.scsa.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 추천 정렬 개인화용 요청자 프로필 캐시 (인메모리)
+ *
+ * - 로그인 사용자의 나이대/성별/경력 비트를 userId 기준으로 캐시 → 목록 조회마다 users 조회를 하지 않음
+ * - TTL(match.ranking.caller-cache.ttl-seconds) 이후 또는 프로필 수정 시(evict) 다시 조회
+ * - 최대 개수를 넘으면 만료된 항목부터 정리, 그래도 넘으면 전체 비움
+ */
+@Slf4j
+@Component
+public class CallerProfileCache {
+
+    private final UserRepository userRepository;
+    private final long ttlMillis;
+    private final int maxSize;
+
+    private final Map<Long, Entry> cache = new ConcurrentHashMap<>();
+
+    public CallerProfileCache(UserRepository userRepository,
+                              @Value("${match.ranking.caller-cache.ttl-seconds:600}") long ttlSeconds,
+                              @Value("${match.ranking.caller-cache.max-size:10000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.ttlMillis = ttlSeconds * 1000L;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 현재 요청의 로그인 사용자 프로필
+     *
+     * @return 비로그인 / 사용자 없음이면 null
+     */
+    public CallerProfile current() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+
+        Long userId;
+        try {
+            userId = Long.parseLong(authentication.getName());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return get(userId);
+    }
+
+    /**
+     * userId 기준 프로필 조회 (캐시 미스일 때만 DB 조회)
+     */
+    public CallerProfile get(Long userId) {
+        long now = System.currentTimeMillis();
+
+        Entry entry = cache.get(userId);
+        if (entry != null && entry.expiresAt > now) {
+            return entry.profile;
+        }
+
+        CallerProfile profile = userRepository.findById(userId)
+                .map(CallerProfile::of)
+                .orElse(null);
+        if (profile == null) {
+            return null;
+        }
+
+        if (cache.size() >= maxSize) {
+            cache.values().removeIf(e -> e.expiresAt <= now);
+            if (cache.size() >= maxSize) {
+                log.info("[CallerProfileCache] max size 초과 - 캐시 초기화 (size={})", cache.size());
+                cache.clear();
+            }
+        }
+        cache.put(userId, new Entry(profile, now + ttlMillis));
+        return profile;
+    }
+
+    /**
+     * 프로필 변경 시 캐시 제거
+     */
+    public void evict(Long userId) {
+        cache.remove(userId);
+    }
+
+    private record Entry(CallerProfile profile, long expiresAt) {
+    }
+}
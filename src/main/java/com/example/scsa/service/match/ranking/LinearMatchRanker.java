@@ -0,0 +1,63 @@
+package com.example.scsa.service.match.ranking;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 기본 추천 ranker: 정규화한 특징값의 가중합
+ *
+ *  score = Σ weight_f * min(feature_f / norm_f, 1)
+ *
+ *  - 정규화 기준(norm)과 가중치(weight)는 프로필에서 읽음
+ *  - 거리 정규화 기준은 min(요청 반경, distance-norm-km) → 좁은 반경 검색에서도 거리 차이가 점수에 반영됨
+ *  - 가중치가 음수면 값이 클수록 상위 (예: 남은 자리가 많을수록 우선)
+ *  - profileFit 은 0/1 값 그대로 사용 (음수 가중치 → 로그인 사용자에게 맞는 매치 우선)
+ *
+ * 기본 프로필(time-to-start 0.7, distance 0.3)은 요청 반경 ≥ distance-norm-km 일 때만
+ * 기존 calculateScore(거리 정규화 기준 25km 고정)와 같은 순서를 만든다.
+ * 반경이 더 좁으면 정규화 기준이 반경이 되어 거리 항의 비중이 커지므로 순서가 달라질 수 있다.
+ */
+@Component
+public class LinearMatchRanker implements MatchRanker {
+
+    public static final String NAME = "linear";
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void score(MatchFeatures f, MatchRankingProperties.Profile p, double[] scores) {
+        MatchRankingProperties.Weights w = p.getWeights();
+        MatchRankingProperties.Norms n = p.getNorms();
+
+        double wTime = w.getTimeToStart();
+        double wDistance = w.getDistance();
+        double wFee = w.getFee();
+        double wSlots = w.getRemainingSlots();
+        double wRecency = w.getRecency();
+        double wFit = w.getProfileFit();
+
+        double timeNorm = n.getTimeToStartMinutes();
+        double distanceNorm = p.distanceNormKm();
+        double feeNorm = n.getFee();
+        double slotsNorm = n.getRemainingSlots();
+        double recencyNorm = n.getRecencyHours();
+
+        double[] minutesToStart = f.minutesToStart;
+        double[] distanceKm = f.distanceKm;
+        double[] fee = f.fee;
+        double[] remainingSlots = f.remainingSlots;
+        double[] hoursSinceCreated = f.hoursSinceCreated;
+        double[] profileFit = f.profileFit;
+
+        for (int i = 0, size = f.size(); i < size; i++) {
+            scores[i] = wTime * Math.min(minutesToStart[i] / timeNorm, 1.0)
+                    + wDistance * Math.min(distanceKm[i] / distanceNorm, 1.0)
+                    + wFee * Math.min(fee[i] / feeNorm, 1.0)
+                    + wSlots * Math.min(remainingSlots[i] / slotsNorm, 1.0)
+                    + wRecency * Math.min(hoursSinceCreated[i] / recencyNorm, 1.0)
+                    + wFit * profileFit[i];
+        }
+    }
+}
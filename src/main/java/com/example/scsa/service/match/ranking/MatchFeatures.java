@@ -0,0 +1,81 @@
+package com.example.scsa.service.match.ranking;
+
+import com.example.scsa.dto.match.MatchRow;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 추천 정렬 후보 특징값 (column 형태 primitive 배열)
+ *
+ * 후보 i 의 특징값을 각 배열의 i 번째에 저장한다.
+ *  - minutesToStart    : 현재 시각 → 매치 시작까지 남은 분 (지난 경우 0)
+ *  - distanceKm        : 기준 좌표 → 코트 거리(km)
+ *  - fee               : 참가비
+ *  - remainingSlots    : 남은 자리 수 (모집 인원 - 현재 참가 인원, 최소 0)
+ *  - hoursSinceCreated : 매치 생성 후 지난 시간(시간)
+ *  - profileFit        : 로그인 사용자 프로필이 모집 조건에 맞으면 1, 아니면 0 (비로그인이면 모두 0)
+ *
+ * 서로 다른 i 에 대한 set() 은 여러 스레드에서 동시에 호출해도 된다.
+ */
+public class MatchFeatures {
+
+    private final int size;
+    private final long nowEpochSecond;
+    private final CallerProfile caller;
+
+    final double[] minutesToStart;
+    final double[] distanceKm;
+    final double[] fee;
+    final double[] remainingSlots;
+    final double[] hoursSinceCreated;
+    final double[] profileFit;
+
+    /**
+     * @param caller 로그인 사용자 프로필 (비로그인이면 null)
+     */
+    public MatchFeatures(int size, LocalDateTime now, CallerProfile caller) {
+        this.size = size;
+        this.nowEpochSecond = now.toEpochSecond(ZoneOffset.UTC);
+        this.caller = caller;
+        this.minutesToStart = new double[size];
+        this.distanceKm = new double[size];
+        this.fee = new double[size];
+        this.remainingSlots = new double[size];
+        this.hoursSinceCreated = new double[size];
+        this.profileFit = new double[size];
+    }
+
+    /**
+     * 후보 i 의 특징값 추출
+     */
+    public void set(int i, MatchRow m, double distanceKm) {
+        long untilStart = m.matchStartDateTime().toEpochSecond(ZoneOffset.UTC) - nowEpochSecond;
+        long sinceCreated = nowEpochSecond - m.createdAt().toEpochSecond(ZoneOffset.UTC);
+        long capacity = m.playerCountMen() + m.playerCountWomen();
+
+        this.minutesToStart[i] = Math.max(untilStart, 0) / 60.0;
+        this.distanceKm[i] = distanceKm;
+        this.fee[i] = m.fee();
+        this.remainingSlots[i] = Math.max(capacity - m.guestCount(), 0);
+        this.hoursSinceCreated[i] = Math.max(sinceCreated, 0) / 3600.0;
+        this.profileFit[i] = (caller != null && caller.fits(m.agesMask(), m.gendersMask(), m.periodsMask()))
+                ? 1.0
+                : 0.0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public double distanceKm(int i) {
+        return distanceKm[i];
+    }
+
+    /**
+     * 후보 i 가 로그인 사용자 프로필에 맞지 않는지 (비로그인이면 항상 false)
+     */
+    public boolean isUnfit(int i) {
+        return caller != null && profileFit[i] == 0.0;
+    }
+}
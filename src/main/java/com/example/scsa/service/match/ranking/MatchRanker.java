@@ -0,0 +1,25 @@
+package com.example.scsa.service.match.ranking;
+
+/**
+ * sort=recommend 정렬 점수 계산 SPI
+ *
+ * - 후보별 특징값은 MatchFeatures의 primitive 배열로 한 번만 추출되어 전달됨
+ * - 구현체는 features[0, size) 구간의 점수를 scores 배열에 채운다 (작을수록 상위)
+ * - 요청 경로(hot path)에서 호출되므로 루프 안에서 객체를 만들지 않아야 함
+ *
+ * 구현체를 Spring Bean으로 등록하면 name()으로 프로필(match.ranking.profiles.*.ranker)에서 선택할 수 있다.
+ */
+public interface MatchRanker {
+
+    /**
+     * 프로필 설정에서 참조하는 ranker 이름
+     */
+    String name();
+
+    /**
+     * @param features 후보 특징값 배열
+     * @param profile  가중치/정규화 기준 (설정 또는 요청별 프로필)
+     * @param scores   결과 점수 (길이 ≥ features.size())
+     */
+    void score(MatchFeatures features, MatchRankingProperties.Profile profile, double[] scores);
+}
@@ -0,0 +1,104 @@
+package com.example.scsa.service.match.ranking;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 추천 정렬 프로필 설정 (match.ranking.*)
+ *
+ * match:
+ *   ranking:
+ *     default-profile: default
+ *     profiles:
+ *       default:
+ *         ranker: linear
+ *         weights: { time-to-start: 0.7, distance: 0.3 }
+ *       nearby:
+ *         weights: { time-to-start: 0.3, distance: 0.7 }
+ *
+ * 요청의 rankProfile 파라미터로 프로필을 선택 (없으면 default-profile)
+ * → 재배포 없이 설정만 바꿔 가중치 A/B 테스트 가능
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "match.ranking")
+public class MatchRankingProperties {
+
+    private String defaultProfile = "default";
+
+    private Map<String, Profile> profiles = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Profile {
+
+        // 사용할 MatchRanker 이름
+        private String ranker = LinearMatchRanker.NAME;
+
+        private Weights weights = new Weights();
+
+        private Norms norms = new Norms();
+
+        // 로그인 사용자 프로필에 맞지 않는 매치를 결과에서 제외 (false면 profileFit 가중치로 순위만 조정)
+        private boolean excludeUnfit = false;
+
+        // 요청 반경 (설정 대상 아님, withRequestRadius()로 만든 요청별 사본에만 설정)
+        @Getter(AccessLevel.NONE)
+        @Setter(AccessLevel.NONE)
+        private double requestRadiusKm = Double.POSITIVE_INFINITY;
+
+        /**
+         * 거리 정규화 기준(km): min(요청 반경, norms.distanceKm)
+         */
+        public double distanceNormKm() {
+            return Math.min(requestRadiusKm, norms.getDistanceKm());
+        }
+
+        /**
+         * 같은 가중치/정규화 기준 + 요청 반경을 가진 요청별 사본
+         */
+        public Profile withRequestRadius(double radiusKm) {
+            Profile copy = new Profile();
+            copy.ranker = this.ranker;
+            copy.weights = this.weights;
+            copy.norms = this.norms;
+            copy.excludeUnfit = this.excludeUnfit;
+            copy.requestRadiusKm = radiusKm;
+            return copy;
+        }
+    }
+
+    /**
+     * 특징별 가중치 (score 오름차순 정렬, 음수면 값이 클수록 상위)
+     */
+    @Getter
+    @Setter
+    public static class Weights {
+        private double timeToStart = 0.7;
+        private double distance = 0.3;
+        private double fee = 0.0;
+        private double remainingSlots = 0.0;
+        private double recency = 0.0;
+        private double profileFit = -0.2;
+    }
+
+    /**
+     * 특징별 정규화 기준 (feature / norm 을 1로 상한)
+     */
+    @Getter
+    @Setter
+    public static class Norms {
+        private double timeToStartMinutes = 1440.0;
+        private double distanceKm = 25.0;
+        private double fee = 30000.0;
+        private double remainingSlots = 4.0;
+        private double recencyHours = 168.0;
+    }
+}
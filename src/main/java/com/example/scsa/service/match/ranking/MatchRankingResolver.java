@@ -0,0 +1,67 @@
+package com.example.scsa.service.match.ranking;
+
+import com.example.scsa.exception.match.InvalidMatchSearchParameterException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청별 추천 프로필 → (MatchRanker, 프로필) 결정
+ *
+ * - rankProfile 이 없으면 match.ranking.default-profile
+ * - 설정에 default 프로필이 없으면 기본 가중치(Profile 기본값) 사용
+ * - 존재하지 않는 프로필 / ranker 이름이면 InvalidMatchSearchParameterException
+ */
+@Slf4j
+@Component
+public class MatchRankingResolver {
+
+    private final MatchRankingProperties properties;
+    private final Map<String, MatchRanker> rankers = new HashMap<>();
+
+    public MatchRankingResolver(MatchRankingProperties properties, List<MatchRanker> rankers) {
+        this.properties = properties;
+        for (MatchRanker ranker : rankers) {
+            this.rankers.put(ranker.name(), ranker);
+        }
+        log.info("[MatchRanking] rankers={}, profiles={}", this.rankers.keySet(), properties.getProfiles().keySet());
+    }
+
+    /**
+     * @param profileName 요청의 rankProfile (null/빈값이면 기본 프로필)
+     * @param radiusKm    요청 반경 (거리 정규화 기준에 반영)
+     */
+    public Ranking resolve(String profileName, double radiusKm) {
+        String name = (profileName == null || profileName.isBlank())
+                ? properties.getDefaultProfile()
+                : profileName;
+
+        MatchRankingProperties.Profile profile = properties.getProfiles().get(name);
+        if (profile == null) {
+            if (!name.equals(properties.getDefaultProfile())) {
+                throw new InvalidMatchSearchParameterException("존재하지 않는 rankProfile 입니다: " + name);
+            }
+            profile = new MatchRankingProperties.Profile();
+        }
+
+        MatchRanker ranker = rankers.get(profile.getRanker());
+        if (ranker == null) {
+            throw new InvalidMatchSearchParameterException("존재하지 않는 ranker 입니다: " + profile.getRanker());
+        }
+
+        return new Ranking(name, ranker, profile.withRequestRadius(radiusKm));
+    }
+
+    /**
+     * 요청 하나에 적용할 ranker + 프로필
+     */
+    public record Ranking(String profileName, MatchRanker ranker, MatchRankingProperties.Profile profile) {
+
+        public void score(MatchFeatures features, double[] scores) {
+            ranker.score(features, profile, scores);
+        }
+    }
+}
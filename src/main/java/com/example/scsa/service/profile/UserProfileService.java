@@ -1,6 +1,7 @@
 package com.example.scsa.service.profile;
 
 import com.example.scsa.domain.entity.User;
+import com.example.scsa.domain.event.MatchChangedEvent;
 import com.example.scsa.domain.vo.Age;
 import com.example.scsa.domain.vo.Gender;
 import com.example.scsa.domain.vo.MatchStatus;
@@ -14,10 +15,16 @@ import com.example.scsa.repository.ChatRoomRepository;
 import com.example.scsa.repository.MatchGuestRepository;
 import com.example.scsa.repository.MatchRepository;
 import com.example.scsa.repository.UserRepository;
+import com.example.scsa.service.alert.SavedSearchService;
+import com.example.scsa.service.match.MatchSearchSyncService;
+import com.example.scsa.service.match.ranking.CallerProfileCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class UserProfileService {
@@ -26,6 +33,10 @@ public class UserProfileService {
     private final MatchRepository matchRepository;
     private final MatchGuestRepository matchGuestRepository;
     private final ChatRoomRepository chatRoomRepository;
+    private final MatchSearchSyncService matchSearchSyncService;
+    private final CallerProfileCache callerProfileCache;
+    private final SavedSearchService savedSearchService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 회원 프로필 조회
@@ -94,6 +105,9 @@ public class UserProfileService {
             user.updateAge(Age.valueOf(dto.getAge()));
         }
 
+        // 추천 정렬 개인화용 프로필 캐시 제거 (나이대/성별/경력 변경 반영)
+        callerProfileCache.evict(userId);
+
         return UserProfileDTO.builder()
                 .userId(user.getUserId())
                 .nickname(user.getNickname())
@@ -113,7 +127,8 @@ public class UserProfileService {
      *  2) 내가 게스트로 참여한 MatchGuest 기록은 먼저 제거
      *  3) 내가 참여한 모든 채팅방(ChatRoom) 삭제 → Chat은 cascade로 같이 삭제
      *  4) 내가 Host인 COMPLETED 매치는 모두 삭제
-     *  5) 마지막으로 User 엔티티 삭제
+     *  5) 저장된 매치 검색(알림) 삭제
+     *  6) 마지막으로 User 엔티티 삭제
      *
      * 이렇게 단계적으로 삭제하는 이유:
      *  - 탈퇴한 유저가 매치나 채팅방에 남지 않도록 참조 관계를 정리
@@ -145,10 +160,20 @@ public class UserProfileService {
         // 4. 내가 Host인 COMPLETED 매치 삭제
         //    - COMPLETED 상태만 삭제 (RECRUITING은 1번 체크에서 이미 존재하지 않음)
         //    - 매치 삭제 시 관련 MatchGuest, 연관 VO 매핑 테이블도 cascade로 삭제
+        //    - match_search 읽기 모델 행도 함께 삭제
+        //    - 삭제한 매치마다 변경 이벤트 발행 (목록/상세 버전 증가, 상세 캐시 무효화)
+        List<Long> deletedMatchIds =
+                matchRepository.findIdsByHostIdAndMatchStatus(userId, MatchStatus.COMPLETED);
         matchRepository.deleteAllByHost_IdAndMatchStatus(userId, MatchStatus.COMPLETED);
+        matchSearchSyncService.onHostMatchesDeleted(userId, MatchStatus.COMPLETED);
+        deletedMatchIds.forEach(matchId -> eventPublisher.publishEvent(MatchChangedEvent.deleted(matchId)));
+
+        // 5. 저장된 매치 검색(알림) 삭제
+        savedSearchService.deleteAllByUser(userId);
 
-        // 5. 마지막으로 User 삭제
+        // 6. 마지막으로 User 삭제
         userRepository.delete(user);
+        callerProfileCache.evict(userId);
 
         return UserProfileDeleteResponseDTO.builder()
                 .userId(userId)
@@ -0,0 +1,281 @@
+package com.example.scsa.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * 매치 목록 페이지네이션 cursor 인코더/디코더
+ *
+ * 고정 길이 바이너리 레이아웃 + 잘린 HMAC 서명을 URL-safe Base64(패딩 없음)로 인코딩한다.
+ *
+ *  offset | size | 내용
+ *  -------+------+--------------------------------------------------------------
+ *       0 |    1 | 버전 (VERSION)
+ *       1 |    1 | 정렬 기준 ID (SortKey.id)
+ *       2 |    8 | 정렬키 (시간: UTC 기준 epoch micros / 계산값: double raw bits)
+ *      10 |    8 | matchId
+ *      18 |    8 | HMAC-SHA256(0 ~ 17 바이트) 앞 8바이트
+ *
+ *  → 26바이트, cursor 문자열 35자 (기존 JSON + Base64 방식 대비 절반 이하)
+ *
+ * distance / recommend 검색 세션 cursor (SESSION_VERSION) 는 matchId 뒤에 세션 정보를 더 기록한다.
+ *
+ *  offset | size | 내용
+ *  -------+------+--------------------------------------------------------------
+ *      18 |    8 | 검색 세션 ID (MatchSearchSessionStore)
+ *      26 |    4 | 세션 스냅샷에서 다음 페이지 시작 위치
+ *      30 |    8 | HMAC-SHA256(0 ~ 29 바이트) 앞 8바이트
+ *
+ *  → 38바이트, cursor 문자열 51자 (세션이 만료되면 정렬키 / matchId 로 다시 계산)
+ *
+ * 위변조 / 다른 정렬 기준의 cursor / 버전이 다른 cursor 는 decode 시 IllegalArgumentException.
+ * 인코딩/디코딩 시 Mac, 서명 버퍼는 스레드별로 재사용한다.
+ */
+@Component
+public class CursorCodec {
+
+    public static final byte VERSION = 1;
+    public static final byte SESSION_VERSION = 2;
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private static final int PAYLOAD_LENGTH = 18;
+    private static final int SIGNATURE_LENGTH = 8;
+    private static final int CURSOR_LENGTH = PAYLOAD_LENGTH + SIGNATURE_LENGTH;
+
+    private static final int SESSION_PAYLOAD_LENGTH = PAYLOAD_LENGTH + 12;
+    private static final int SESSION_CURSOR_LENGTH = SESSION_PAYLOAD_LENGTH + SIGNATURE_LENGTH;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /**
+     * cursor 정렬 기준 (id는 바이너리 레이아웃에 기록되므로 변경 금지)
+     */
+    public enum SortKey {
+        CREATED_AT(0),
+        LATEST(1),
+        DISTANCE(2),
+        RECOMMEND(3);
+
+        private final byte id;
+
+        SortKey(int id) {
+            this.id = (byte) id;
+        }
+    }
+
+    private final SecretKeySpec key;
+
+    // 스레드별 Mac 인스턴스 + HMAC 결과 버퍼 (요청마다 생성하지 않음)
+    private final ThreadLocal<Mac> mac;
+    private final ThreadLocal<byte[]> macBuffer;
+
+    public CursorCodec(@Value("${match.cursor-secret:${jwt.secret}}") String secret) {
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        this.mac = ThreadLocal.withInitial(this::newMac);
+        this.macBuffer = ThreadLocal.withInitial(() -> new byte[32]);
+    }
+
+    /**
+     * 시간 정렬키(createdAt / latest) cursor 생성
+     * (DB 컬럼 정밀도에 맞춰 마이크로초 단위까지 기록)
+     */
+    public String encode(SortKey sort, LocalDateTime key, long matchId) {
+        return encode(sort, toEpochMicros(key), matchId);
+    }
+
+    /**
+     * 계산값 정렬키(distance / recommend) cursor 생성
+     */
+    public String encode(SortKey sort, double key, long matchId) {
+        return encode(sort, Double.doubleToRawLongBits(key), matchId);
+    }
+
+    /**
+     * 검색 세션 cursor 생성 (distance / recommend)
+     *
+     * @param sessionId 검색 세션 ID (MatchSearchSessionStore)
+     * @param offset    세션 스냅샷에서 다음 페이지 시작 위치
+     */
+    public String encode(SortKey sort, double key, long matchId, long sessionId, int offset) {
+        byte[] bytes = new byte[SESSION_CURSOR_LENGTH];
+        bytes[0] = SESSION_VERSION;
+        bytes[1] = sort.id;
+        writeLong(bytes, 2, Double.doubleToRawLongBits(key));
+        writeLong(bytes, 10, matchId);
+        writeLong(bytes, 18, sessionId);
+        writeInt(bytes, 26, offset);
+
+        System.arraycopy(sign(bytes, SESSION_PAYLOAD_LENGTH), 0, bytes, SESSION_PAYLOAD_LENGTH, SIGNATURE_LENGTH);
+
+        return ENCODER.encodeToString(bytes);
+    }
+
+    /**
+     * cursor 문자열 → 정렬키 / matchId (+ 검색 세션) 복원
+     *
+     * @param sort   현재 요청의 정렬 기준 (cursor에 기록된 정렬 기준과 같아야 함)
+     * @param cursor encode()로 만든 cursor 문자열
+     * @throws IllegalArgumentException 형식 오류 / 버전 또는 정렬 기준 불일치 / 서명 불일치
+     */
+    public Cursor decode(SortKey sort, String cursor) {
+        byte[] bytes = DECODER.decode(cursor);
+
+        int payloadLength;
+        if (bytes.length == CURSOR_LENGTH && bytes[0] == VERSION) {
+            payloadLength = PAYLOAD_LENGTH;
+        } else if (bytes.length == SESSION_CURSOR_LENGTH && bytes[0] == SESSION_VERSION) {
+            payloadLength = SESSION_PAYLOAD_LENGTH;
+        } else if (bytes.length > 0 && bytes[0] != VERSION && bytes[0] != SESSION_VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 cursor 버전입니다: " + bytes[0]);
+        } else {
+            throw new IllegalArgumentException("cursor 길이가 올바르지 않습니다.");
+        }
+        if (bytes[1] != sort.id) {
+            throw new IllegalArgumentException("정렬 기준이 다른 cursor 입니다.");
+        }
+
+        // 서명 검증 (상수 시간 비교)
+        byte[] signature = sign(bytes, payloadLength);
+        int diff = 0;
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            diff |= signature[i] ^ bytes[payloadLength + i];
+        }
+        if (diff != 0) {
+            throw new IllegalArgumentException("cursor 서명이 올바르지 않습니다.");
+        }
+
+        if (payloadLength == SESSION_PAYLOAD_LENGTH) {
+            return new Cursor(readLong(bytes, 2), readLong(bytes, 10), readLong(bytes, 18), readInt(bytes, 26));
+        }
+        return new Cursor(readLong(bytes, 2), readLong(bytes, 10), 0L, 0);
+    }
+
+    private String encode(SortKey sort, long key, long matchId) {
+        byte[] bytes = new byte[CURSOR_LENGTH];
+        bytes[0] = VERSION;
+        bytes[1] = sort.id;
+        writeLong(bytes, 2, key);
+        writeLong(bytes, 10, matchId);
+
+        System.arraycopy(sign(bytes, PAYLOAD_LENGTH), 0, bytes, PAYLOAD_LENGTH, SIGNATURE_LENGTH);
+
+        return ENCODER.encodeToString(bytes);
+    }
+
+    /**
+     * payload(0 ~ payloadLength-1 바이트)의 HMAC 계산 → 스레드별 버퍼에 기록 후 반환
+     */
+    private byte[] sign(byte[] bytes, int payloadLength) {
+        Mac m = mac.get();
+        byte[] out = macBuffer.get();
+        try {
+            m.update(bytes, 0, payloadLength);
+            m.doFinal(out, 0);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("cursor 서명 생성 중 오류가 발생했습니다.", e);
+        }
+        return out;
+    }
+
+    private Mac newMac() {
+        try {
+            Mac m = Mac.getInstance(HMAC_ALGORITHM);
+            m.init(key);
+            return m;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("cursor 서명 키 초기화에 실패했습니다.", e);
+        }
+    }
+
+    private static long toEpochMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromEpochMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(
+                Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000,
+                ZoneOffset.UTC);
+    }
+
+    private static void writeLong(byte[] bytes, int offset, long value) {
+        for (int i = 7; i >= 0; i--) {
+            bytes[offset + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    private static void writeInt(byte[] bytes, int offset, int value) {
+        for (int i = 3; i >= 0; i--) {
+            bytes[offset + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xFF);
+        }
+        return value;
+    }
+
+    private static long readLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xFF);
+        }
+        return value;
+    }
+
+    /**
+     * 복원된 cursor (정렬키 원본 비트, matchId, 검색 세션)
+     */
+    public static final class Cursor {
+        private final long key;
+        private final long matchId;
+        private final long sessionId;
+        private final int sessionOffset;
+
+        private Cursor(long key, long matchId, long sessionId, int sessionOffset) {
+            this.key = key;
+            this.matchId = matchId;
+            this.sessionId = sessionId;
+            this.sessionOffset = sessionOffset;
+        }
+
+        // createdAt / latest 정렬키
+        public LocalDateTime timeKey() {
+            return fromEpochMicros(key);
+        }
+
+        // distance / recommend 정렬키
+        public double metricKey() {
+            return Double.longBitsToDouble(key);
+        }
+
+        public long matchId() {
+            return matchId;
+        }
+
+        // 검색 세션 ID (세션 cursor 가 아니면 0)
+        public long sessionId() {
+            return sessionId;
+        }
+
+        // 세션 스냅샷에서 다음 페이지 시작 위치
+        public int sessionOffset() {
+            return sessionOffset;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.scsa.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Enum 집합 ↔ int 비트마스크 변환 유틸리티
+ *
+ * - enum ordinal 번째 비트를 1로 설정 (예: {TWENTY, FORTY} → 0b0101)
+ * - int 이므로 상수 32개 이하의 enum에만 사용 (Age, Gender, Period)
+ * - 디코딩 결과는 항상 ordinal 오름차순
+ *
+ * 주의: enum 상수 순서를 바꾸거나 중간에 추가하면 저장된 마스크 의미가 바뀜 (새 상수는 맨 뒤에 추가)
+ */
+public class EnumBitMask {
+
+    private EnumBitMask() {
+    }
+
+    /**
+     * Enum 집합 → 비트마스크
+     */
+    public static <E extends Enum<E>> int encode(Collection<E> values) {
+        int mask = 0;
+        if (values == null) {
+            return mask;
+        }
+        for (E value : values) {
+            mask |= bitOf(value);
+        }
+        return mask;
+    }
+
+    /**
+     * 비트마스크 → Enum 목록 (ordinal 오름차순)
+     */
+    public static <E extends Enum<E>> List<E> decode(int mask, Class<E> type) {
+        E[] constants = type.getEnumConstants();
+        List<E> result = new ArrayList<>(Integer.bitCount(mask));
+        for (E constant : constants) {
+            if ((mask & bitOf(constant)) != 0) {
+                result.add(constant);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 비트마스크 → Enum 이름 목록 (ordinal 오름차순, 응답 DTO용)
+     */
+    public static <E extends Enum<E>> List<String> decodeNames(int mask, Class<E> type) {
+        List<E> values = decode(mask, type);
+        List<String> names = new ArrayList<>(values.size());
+        for (E value : values) {
+            names.add(value.name());
+        }
+        return names;
+    }
+
+    /**
+     * Enum 상수 하나에 해당하는 비트
+     */
+    public static <E extends Enum<E>> int bitOf(E value) {
+        return 1 << value.ordinal();
+    }
+}
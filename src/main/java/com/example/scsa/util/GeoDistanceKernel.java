@@ -0,0 +1,106 @@
+package com.example.scsa.util;
+
+/**
+ * 좌표 배열 일괄 거리(km) 계산 커널
+ *
+ * 기준 좌표 하나 → 코트 여러 개의 Haversine 거리를 primitive 배열(라디안 위경도, cos(위도)) 구간 단위로 계산한다.
+ *
+ *  1) 빠른 경로: 모든 후보에 대해 삼각함수 없이 곱셈/덧셈/sqrt 만으로 거리 하한을 계산
+ *     - equirectangular 형태 근사에서 sin(x) 대신 테일러 하한 x(1 - x²/6) 사용
+ *     - 현(chord) 길이 ≤ 호(arc) 길이 이므로 실제 거리보다 항상 작거나 같음
+ *     - 분기 없는 단순 루프라 JIT(C2)가 SIMD 로 자동 벡터화
+ *  2) 정밀 계산: 하한이 반경 이내인 후보만 Haversine 으로 다시 계산
+ *     → 반경 밖 후보는 삼각함수를 계산하지 않음
+ *     - 미리 계산한 라디안 위경도 / cos(위도)를 쓰므로 도 단위 haversineKm 과는 연산 순서가 달라
+ *       결과가 비트 단위로 같지는 않고 부동소수점 오차 범위 안에서 일치
+ *
+ * 반경 판정과 거리 정렬은 거리가 반경 경계나 다른 후보 거리와 오차 범위 안에서 겹치는(동률) 경우를 빼면
+ * 기존 계산과 같다.
+ */
+public class GeoDistanceKernel {
+
+    public static final double EARTH_RADIUS_KM = 6371;
+
+    // 하한 계산의 부동소수점 오차 보정(km)
+    private static final double LOWER_BOUND_MARGIN_KM = 1e-6;
+
+    private static final double ONE_SIXTH = 1.0 / 6.0;
+
+    private GeoDistanceKernel() {
+    }
+
+    /**
+     * Haversine 거리(km) (위경도: 도 단위)
+     */
+    public static double haversineKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+
+        return EARTH_RADIUS_KM * c;
+    }
+
+    /**
+     * Haversine 거리(km) (미리 계산된 라디안 위경도 / cos(위도) 사용)
+     */
+    public static double haversineKm(double originLatRad, double originLngRad, double originCos,
+                                     double latRad, double lngRad, double cosLat) {
+        double sinDLat = Math.sin((latRad - originLatRad) / 2);
+        double sinDLng = Math.sin((lngRad - originLngRad) / 2);
+
+        double a = sinDLat * sinDLat + originCos * cosLat * sinDLng * sinDLng;
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+
+        return EARTH_RADIUS_KM * c;
+    }
+
+    /**
+     * 구간 [from, to) 후보의 거리 일괄 계산
+     *
+     * @param out 결과 (out[k] = from + k 번째 후보 거리, 반경 밖이면 +Infinity), 길이 to - from 이상
+     * @return 반경 이내 후보 수
+     */
+    public static int distancesWithin(double originLatRad, double originLngRad, double originCos,
+                                      double[] latRad, double[] lngRad, double[] cosLat,
+                                      int from, int to, double radiusKm, double[] out) {
+        int n = to - from;
+
+        // 1) 거리 하한 (분기 없음 → 자동 벡터화)
+        for (int k = 0; k < n; k++) {
+            int i = from + k;
+            double hLat = (latRad[i] - originLatRad) * 0.5;
+            double hLng = (lngRad[i] - originLngRad) * 0.5;
+
+            // |sin(h)| ≥ |h| * (1 - h²/6) (h²가 6보다 크면 0)
+            double sLat = hLat * Math.max(1.0 - hLat * hLat * ONE_SIXTH, 0.0);
+            double sLng = hLng * Math.max(1.0 - hLng * hLng * ONE_SIXTH, 0.0);
+
+            double a = sLat * sLat + originCos * cosLat[i] * sLng * sLng;
+            out[k] = 2 * EARTH_RADIUS_KM * Math.sqrt(a);
+        }
+
+        // 2) 하한이 반경 이내인 후보만 정밀 계산
+        double limit = radiusKm + LOWER_BOUND_MARGIN_KM;
+        int within = 0;
+        for (int k = 0; k < n; k++) {
+            if (out[k] > limit) {
+                out[k] = Double.POSITIVE_INFINITY;
+                continue;
+            }
+            int i = from + k;
+            double d = haversineKm(originLatRad, originLngRad, originCos, latRad[i], lngRad[i], cosLat[i]);
+            if (d <= radiusKm) {
+                out[k] = d;
+                within++;
+            } else {
+                out[k] = Double.POSITIVE_INFINITY;
+            }
+        }
+        return within;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.scsa.util;
+
+/**
+ * 위경도 균일 격자(grid) 셀 계산 유틸리티
+ *
+ * - 셀 번호: floor(도 / 셀 크기(도)), 음수 좌표도 같은 방식 (남쪽/서쪽으로 내림)
+ * - 셀 키: (위도 셀, 경도 셀)을 하나의 long으로 합침 (위도 셀 상위 32비트, 경도 셀 하위 32비트)
+ *
+ * 코트 공간 인덱스, 저장된 검색 역색인, 지도 클러스터가 같은 방식으로 셀을 나눈다 (셀 크기는 각자 다름).
+ */
+public class GeoGrid {
+
+    // 위도 1도 당 거리(km)
+    public static final double KM_PER_DEGREE = 111.32;
+
+    private GeoGrid() {
+    }
+
+    /**
+     * 좌표(도) → 셀 번호
+     */
+    public static long cellIndex(double degree, double cellSizeDegree) {
+        return (long) Math.floor(degree / cellSizeDegree);
+    }
+
+    /**
+     * (위도 셀, 경도 셀) → 셀 키
+     */
+    public static long cellKey(long latIndex, long lngIndex) {
+        return (latIndex << 32) ^ (lngIndex & 0xFFFFFFFFL);
+    }
+}
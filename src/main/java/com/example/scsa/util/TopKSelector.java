@@ -0,0 +1,75 @@
+package com.example.scsa.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 상위 K개 선택기 (bounded priority queue)
+ *
+ * 전체 후보를 정렬하지 않고, comparator 기준으로 가장 앞선 K개만 유지한다.
+ *  - offer: O(log K)
+ *  - 전체: O(N log K) 시간, O(K) 메모리
+ *
+ * 내부적으로 "유지 중인 K개 중 가장 뒤에 있는 요소"가 head인 역순 힙을 사용하여,
+ * 새 요소가 head보다 앞설 때만 교체한다.
+ */
+public class TopKSelector<T> {
+
+    private final int k;
+    private final Comparator<? super T> comparator;
+    private final PriorityQueue<T> heap;
+
+    public TopKSelector(int k, Comparator<? super T> comparator) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("k는 1 이상이어야 합니다.");
+        }
+        this.k = k;
+        this.comparator = comparator;
+        this.heap = new PriorityQueue<>(k + 1, comparator.reversed());
+    }
+
+    /**
+     * 후보 추가
+     *
+     * @return 상위 K개에 포함되었으면 true
+     */
+    public boolean offer(T item) {
+        if (heap.size() < k) {
+            heap.add(item);
+            return true;
+        }
+        if (comparator.compare(item, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(item);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 다른 선택기의 상위 K개를 합침 (병렬 처리 시 chunk별 결과 병합용)
+     */
+    public void merge(TopKSelector<? extends T> other) {
+        for (T item : other.heap) {
+            offer(item);
+        }
+    }
+
+    /**
+     * 현재 유지 중인 요소 개수
+     */
+    public int size() {
+        return heap.size();
+    }
+
+    /**
+     * 상위 K개를 comparator 순서(오름차순)로 정렬해 반환
+     */
+    public List<T> toSortedList() {
+        List<T> result = new ArrayList<>(heap);
+        result.sort(comparator);
+        return result;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.scsa.controller;
+
+import com.example.scsa.dto.match.MatchDTO;
+import com.example.scsa.dto.response.ErrorResponse;
+import com.example.scsa.exception.match.MatchScheduleConflictException;
+import com.example.scsa.service.match.MatchMyListService;
+import com.example.scsa.service.match.MatchService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * MyMatchController 시간 겹침(409) 응답 테스트
+ */
+class MyMatchControllerTest {
+
+    private MatchService matchService;
+    private MyMatchController controller;
+
+    @BeforeEach
+    void setUp() {
+        matchService = mock(MatchService.class);
+        controller = new MyMatchController(matchService, mock(MatchMyListService.class));
+
+        // 로그인 사용자 (userId = 1)
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("1", null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void createMatch_returnsConflictWithMatchIds() {
+        when(matchService.createMatch(eq(1L), any(MatchDTO.class)))
+                .thenThrow(new MatchScheduleConflictException(List.of(7L, 9L)));
+
+        ResponseEntity<?> response = controller.createMatch(new MatchDTO());
+
+        assertConflict(response, 7L, 9L);
+    }
+
+    @Test
+    void changeMatchStatus_returnsConflictWithMatchIds() {
+        when(matchService.changeMatchStatus(3L, 1L))
+                .thenThrow(new MatchScheduleConflictException(List.of(5L)));
+
+        ResponseEntity<?> response = controller.changeMatchStatus(3L);
+
+        assertConflict(response, 5L);
+    }
+
+    private static void assertConflict(ResponseEntity<?> response, Long... conflictingIds) {
+        assertEquals(409, response.getStatusCode().value());
+
+        ErrorResponse body = assertInstanceOf(ErrorResponse.class, response.getBody());
+        assertEquals("MATCH_SCHEDULE_CONFLICT", body.getErrorCode());
+        String ids = String.join(", ", Arrays.stream(conflictingIds).map(String::valueOf).toList());
+        assertTrue(body.getError().contains("(ID: " + ids + ")"), body.getError());
+    }
+}
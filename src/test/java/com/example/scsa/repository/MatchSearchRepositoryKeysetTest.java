@@ -0,0 +1,156 @@
+package com.example.scsa.repository;
+
+import com.example.scsa.domain.entity.MatchSearch;
+import com.example.scsa.domain.vo.GameType;
+import com.example.scsa.domain.vo.MatchStatus;
+import com.example.scsa.dto.match.MatchRow;
+import com.example.scsa.dto.match.MatchSearchCondition;
+import com.example.scsa.support.MatchSearchFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * MatchSearchRepository.findMatchesAfterCursor keyset 페이지네이션 테스트
+ *
+ * 정렬키(createdAt / 시작 시각)가 여러 행에서 같은 데이터셋을 matchId 순서와 다르게 저장하고,
+ * 두 정렬 기준 모두 여러 페이지 크기로 마지막 페이지까지 따라가며
+ * 이어 붙인 결과가 (정렬키, matchId) 오름차순 전체 목록과 같은지 (누락 / 중복 없음) 확인한다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class MatchSearchRepositoryKeysetTest {
+
+    private static final int MATCH_COUNT = 30;
+
+    @Autowired
+    private MatchSearchRepository matchSearchRepository;
+
+    private LocalDateTime now;
+    private List<MatchSearch> saved;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now();
+        LocalDateTime base = LocalDate.now().plusDays(3).atTime(9, 0);
+
+        saved = new ArrayList<>();
+        for (int i = 0; i < MATCH_COUNT; i++) {
+            // 저장 순서와 matchId 순서가 다르도록 섞음 (7과 30은 서로소)
+            long matchId = 1 + (i * 7L) % MATCH_COUNT;
+            // 같은 생성 시각 4개씩 / 같은 시작 시각 6개씩
+            LocalDateTime start = base.plusHours(i % 5);
+            saved.add(matchSearchRepository.save(MatchSearchFixture.match(matchId)
+                    .gameType(i % 3 == 0 ? GameType.MIXED_DOUBLES : GameType.SINGLES)
+                    .between(start, start.plusHours(2))
+                    .createdAt(base.minusDays(5).plusMinutes(i / 4))
+                    .build()));
+        }
+
+        // 조건에서 제외되는 매치 (완료 / 이미 시작)
+        LocalDateTime later = base.plusDays(1);
+        saved.add(matchSearchRepository.save(MatchSearchFixture.match(MATCH_COUNT + 1)
+                .status(MatchStatus.COMPLETED)
+                .between(later, later.plusHours(2))
+                .build()));
+        LocalDateTime started = now.minusHours(1).withSecond(0).withNano(0);
+        saved.add(matchSearchRepository.save(MatchSearchFixture.match(MATCH_COUNT + 2)
+                .between(started, started.plusHours(2))
+                .build()));
+        matchSearchRepository.flush();
+    }
+
+    @Test
+    void allPages_coverEveryMatchOnce() {
+        MatchSearchCondition condition = condition().build();
+
+        for (MatchKeysetOrder order : MatchKeysetOrder.values()) {
+            List<Long> expected = expectedIds(order, m -> true);
+            assertEquals(MATCH_COUNT, expected.size());
+
+            for (int limit = 1; limit <= 7; limit++) {
+                assertEquals(expected, walk(condition, order, limit), "order: " + order + ", limit: " + limit);
+            }
+        }
+    }
+
+    @Test
+    void allPages_withFilter_coverEveryMatchOnce() {
+        MatchSearchCondition condition = condition().gameType(GameType.SINGLES).build();
+
+        for (MatchKeysetOrder order : MatchKeysetOrder.values()) {
+            List<Long> expected = expectedIds(order, m -> m.getGameType() == GameType.SINGLES);
+
+            for (int limit = 1; limit <= 7; limit++) {
+                assertEquals(expected, walk(condition, order, limit), "order: " + order + ", limit: " + limit);
+            }
+        }
+    }
+
+    /**
+     * 마지막으로 읽은 행을 cursor로 limit개씩 끝까지 조회
+     */
+    private List<Long> walk(MatchSearchCondition condition, MatchKeysetOrder order, int limit) {
+        List<Long> result = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+
+        LocalDateTime cursorKey = null;
+        Long cursorId = null;
+        while (true) {
+            List<MatchRow> page = matchSearchRepository.findMatchesAfterCursor(
+                    condition, order, cursorKey, cursorId, limit);
+            assertTrue(page.size() <= limit);
+
+            for (MatchRow m : page) {
+                assertTrue(seen.add(m.matchId()), "중복된 매치: " + m.matchId() + " (cursor " + cursorKey + "/" + cursorId + ")");
+                result.add(m.matchId());
+            }
+
+            if (page.size() < limit || result.size() > MATCH_COUNT) {
+                return result;
+            }
+            MatchRow last = page.get(page.size() - 1);
+            cursorKey = order == MatchKeysetOrder.START_DATE_TIME ? last.matchStartDateTime() : last.createdAt();
+            cursorId = last.matchId();
+        }
+    }
+
+    /**
+     * 저장한 데이터에서 직접 계산한 기대 순서 (모집 중, 시작 전, 정렬키 ASC, matchId ASC)
+     */
+    private List<Long> expectedIds(MatchKeysetOrder order, Predicate<MatchSearch> filter) {
+        Comparator<MatchSearch> byKey = (order == MatchKeysetOrder.START_DATE_TIME)
+                ? Comparator.comparing(MatchSearch::getMatchStartDateTime)
+                : Comparator.comparing(MatchSearch::getCreatedAt);
+
+        return saved.stream()
+                .filter(m -> m.getMatchStatus() == MatchStatus.RECRUITING)
+                .filter(m -> !m.getMatchStartDateTime().isBefore(now))
+                .filter(filter)
+                .sorted(byKey.thenComparing(MatchSearch::getMatchId))
+                .map(MatchSearch::getMatchId)
+                .collect(Collectors.toList());
+    }
+
+    private MatchSearchCondition.MatchSearchConditionBuilder condition() {
+        return MatchSearchCondition.builder()
+                .from(now)
+                .to(LocalDate.of(9998, 12, 31).atTime(23, 59))
+                .statuses(List.of(MatchStatus.RECRUITING));
+    }
+}
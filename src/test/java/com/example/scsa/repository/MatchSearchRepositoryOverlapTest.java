@@ -0,0 +1,97 @@
+package com.example.scsa.repository;
+
+import com.example.scsa.domain.vo.MatchStatus;
+import com.example.scsa.support.MatchSearchFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * MatchSearchRepository.findOverlappingMatchIds 경계 테스트
+ *
+ * 같은 코트의 모집 중 매치와 [start, end) 구간이 겹치는지 (끝 시각 = 시작 시각은 겹치지 않음)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class MatchSearchRepositoryOverlapTest {
+
+    @Autowired
+    private MatchSearchRepository matchSearchRepository;
+
+    private LocalDate day;
+
+    @BeforeEach
+    void setUp() {
+        day = LocalDate.now().plusDays(7);
+
+        // 코트 1: 모집 중 [10, 11), [18, 20), [19, 21) / 완료 [15, 16)
+        save(1, 1, MatchStatus.RECRUITING, 10, 0, 11, 0);
+        save(3, 1, MatchStatus.COMPLETED, 15, 0, 16, 0);
+        save(4, 1, MatchStatus.RECRUITING, 18, 0, 20, 0);
+        save(5, 1, MatchStatus.RECRUITING, 19, 0, 21, 0);
+
+        // 코트 2: 모집 중 [13, 14)
+        save(2, 2, MatchStatus.RECRUITING, 13, 0, 14, 0);
+        matchSearchRepository.flush();
+    }
+
+    @Test
+    void backToBackSlots_doNotConflict() {
+        assertEquals(List.of(), overlapping(1, 11, 0, 12, 0));
+        assertEquals(List.of(), overlapping(1, 9, 0, 10, 0));
+    }
+
+    @Test
+    void containedSlot_conflicts() {
+        assertEquals(List.of(1L), overlapping(1, 10, 15, 10, 45));
+    }
+
+    @Test
+    void containingAndPartialSlots_conflict() {
+        assertEquals(List.of(1L), overlapping(1, 9, 0, 12, 0));
+        assertEquals(List.of(1L), overlapping(1, 10, 30, 11, 30));
+        assertEquals(List.of(1L), overlapping(1, 10, 0, 11, 0));
+    }
+
+    @Test
+    void otherCourt_isIgnored() {
+        assertEquals(List.of(), overlapping(1, 13, 0, 14, 0));
+        assertEquals(List.of(2L), overlapping(2, 13, 0, 14, 0));
+    }
+
+    @Test
+    void completedMatch_isIgnored() {
+        assertEquals(List.of(), overlapping(1, 15, 0, 16, 0));
+    }
+
+    @Test
+    void multipleConflicts_orderedByMatchId() {
+        assertEquals(List.of(4L, 5L), overlapping(1, 19, 30, 20, 30));
+    }
+
+    private List<Long> overlapping(long courtId, int startHour, int startMinute, int endHour, int endMinute) {
+        return matchSearchRepository.findOverlappingMatchIds(courtId, MatchStatus.RECRUITING,
+                at(startHour, startMinute), at(endHour, endMinute));
+    }
+
+    private void save(long matchId, long courtId, MatchStatus status,
+                      int startHour, int startMinute, int endHour, int endMinute) {
+        matchSearchRepository.save(MatchSearchFixture.match(matchId)
+                .court(courtId)
+                .status(status)
+                .between(at(startHour, startMinute), at(endHour, endMinute))
+                .build());
+    }
+
+    private LocalDateTime at(int hour, int minute) {
+        return day.atTime(hour, minute);
+    }
+}
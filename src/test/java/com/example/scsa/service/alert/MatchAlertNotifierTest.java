@@ -0,0 +1,226 @@
+package com.example.scsa.service.alert;
+
+import com.example.scsa.domain.entity.MatchSearch;
+import com.example.scsa.domain.entity.SavedSearch;
+import com.example.scsa.domain.entity.User;
+import com.example.scsa.domain.event.MatchChangedEvent;
+import com.example.scsa.domain.vo.GameType;
+import com.example.scsa.dto.alert.MatchAlertDTO;
+import com.example.scsa.repository.MatchSearchRepository;
+import com.example.scsa.repository.SavedSearchRepository;
+import com.example.scsa.support.MatchSearchFixture;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.Invocation;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 새 매치 알림 대상 테스트 (SavedSearchIndex + MatchAlertNotifier)
+ *
+ * 조건 하나씩만 맞거나 어긋나는 저장된 검색을 등록하고, 매치 생성 이벤트에 대해
+ * 조건을 모두 만족하는 저장된 검색에만 알림이 가는지 확인한다.
+ * 모집 조건 비트마스크는 검색 조건 0 = 필터링 하지 않음, 매치 0 = 제한 없음 으로 판정한다.
+ */
+class MatchAlertNotifierTest {
+
+    private static final long MATCH_ID = 500L;
+    private static final long HOST_ID = 1L;
+
+    // 매치: 코트 (37.5666, 126.9782), SINGLES, 5일 뒤 10:00 ~ 12:00
+    //       모집 나이대 0b0010, 성별 0(제한 없음), 경력 0b0100
+    private static final int MATCH_AGES = 0b0010;
+    private static final int MATCH_GENDERS = 0;
+    private static final int MATCH_PERIODS = 0b0100;
+
+    private final MatchSearchRepository matchSearchRepository = mock(MatchSearchRepository.class);
+    private final SavedSearchRepository savedSearchRepository = mock(SavedSearchRepository.class);
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+
+    private SavedSearchIndex savedSearchIndex;
+    private MatchAlertNotifier notifier;
+
+    private LocalDate day;
+    private MatchSearch row;
+    private final List<SavedSearch> searches = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        day = LocalDate.now().plusDays(5);
+        LocalDateTime start = day.atTime(10, 0);
+        row = MatchSearchFixture.match(MATCH_ID)
+                .host(HOST_ID)
+                .between(start, start.plusHours(2))
+                .masks(MATCH_AGES, MATCH_GENDERS, MATCH_PERIODS)
+                .build();
+        when(matchSearchRepository.findById(MATCH_ID)).thenReturn(Optional.of(row));
+
+        savedSearchIndex = new SavedSearchIndex(savedSearchRepository,
+                redisTemplate, mock(RedisMessageListenerContainer.class));
+        notifier = new MatchAlertNotifier(matchSearchRepository, savedSearchIndex, messagingTemplate,
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    void alertsExactlySatisfiedSearches() {
+        // 맞는 검색 (id = 사용자 ID + 100)
+        add(11, SavedSearch.builder());
+        add(12, SavedSearch.builder().gameType(GameType.SINGLES).startDate(day).endDate(day.plusDays(1)));
+        add(13, SavedSearch.builder().minMinuteOfDay(9 * 60).maxMinuteOfDay(13 * 60));
+        add(14, SavedSearch.builder().agesMask(0b0011));
+        add(15, SavedSearch.builder().periodsMask(0b0100).agesMask(0b1111).gendersMask(0b111));
+        add(16, SavedSearch.builder().latitude(37.57).longitude(126.98).radiusKm(3));
+        // 날짜 범위가 길거나 반경이 넓어 ANY 버킷에 등록되는 검색
+        add(17, SavedSearch.builder().startDate(day.minusDays(20)).endDate(day.plusDays(20)));
+        add(18, SavedSearch.builder().latitude(35.1796).longitude(129.0756).radiusKm(500));
+
+        // 어긋나는 검색
+        add(21, SavedSearch.builder().gameType(GameType.MEN_DOUBLES));
+        add(22, SavedSearch.builder().startDate(day.plusDays(1)).endDate(day.plusDays(3)));
+        add(23, SavedSearch.builder().minMinuteOfDay(11 * 60));
+        add(24, SavedSearch.builder().maxMinuteOfDay(11 * 60));
+        add(25, SavedSearch.builder().agesMask(0b0100));
+        add(26, SavedSearch.builder().periodsMask(0b1000));
+        add(27, SavedSearch.builder().latitude(35.1796).longitude(129.0756).radiusKm(10));
+
+        rebuildAndNotify();
+
+        assertEquals(Set.of(11L, 12L, 13L, 14L, 15L, 16L, 17L, 18L), alertedUserIds());
+    }
+
+    @Test
+    void unrestrictedMatchMask_fitsAnySearchMask() {
+        // 매치 성별 0 → 어떤 성별 조건과도 맞음
+        add(11, SavedSearch.builder().gendersMask(0b001));
+        add(12, SavedSearch.builder().gendersMask(0b110));
+        // 검색 조건 0 → 필터링 하지 않음 / 다른 조건(나이대)이 매치와 겹치지 않으면 제외
+        add(13, SavedSearch.builder().gendersMask(0).agesMask(MATCH_AGES));
+        add(21, SavedSearch.builder().gendersMask(0b001).agesMask(0b1101));
+
+        rebuildAndNotify();
+
+        assertEquals(Set.of(11L, 12L, 13L), alertedUserIds());
+    }
+
+    @Test
+    void hostOwnSearch_matchedButNotAlerted() {
+        add(HOST_ID, SavedSearch.builder());
+        add(11, SavedSearch.builder());
+
+        rebuildAndNotify();
+
+        assertEquals(2, savedSearchIndex.match(row).size());
+        assertEquals(Set.of(11L), alertedUserIds());
+        verify(messagingTemplate, never()).convertAndSendToUser(eq(String.valueOf(HOST_ID)), anyString(), any());
+    }
+
+    @Test
+    void addedAndRemovedSearches_reflectedWithoutRebuild() {
+        rebuildAndNotify();
+        assertTrue(alertedUserIds().isEmpty());
+
+        SavedSearch added = search(11, SavedSearch.builder().agesMask(0b0010));
+        savedSearchIndex.add(added);
+        savedSearchIndex.add(search(12, SavedSearch.builder().agesMask(0b0001)));
+        assertEquals(List.of(new SavedSearchIndex.Hit(111L, 11L)), savedSearchIndex.match(row));
+
+        savedSearchIndex.remove(added.getId());
+        assertTrue(savedSearchIndex.match(row).isEmpty());
+    }
+
+    @Test
+    void userRemoved_removedLocallyAndPublished() {
+        add(11, SavedSearch.builder());
+        add(12, SavedSearch.builder());
+        add(11, SavedSearch.builder().agesMask(0b0010));
+        ReflectionTestUtils.setField(searches.get(2), "id", 311L);
+        when(savedSearchRepository.findAll()).thenReturn(searches);
+        savedSearchIndex.rebuild();
+
+        savedSearchIndex.removeAllByUser(11L);
+
+        assertEquals(List.of(new SavedSearchIndex.Hit(112L, 12L)), savedSearchIndex.match(row));
+        verify(redisTemplate).convertAndSend(eq(SavedSearchIndex.CHANGE_CHANNEL), endsWith("|USER_REMOVED|11"));
+    }
+
+    @Test
+    void otherEventTypes_ignored() {
+        add(11, SavedSearch.builder());
+        when(savedSearchRepository.findAll()).thenReturn(searches);
+        savedSearchIndex.rebuild();
+
+        notifier.onMatchChanged(MatchChangedEvent.deleted(MATCH_ID));
+        notifier.onMatchChanged(MatchChangedEvent.statusChanged(MATCH_ID));
+
+        verify(messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any());
+    }
+
+    private void rebuildAndNotify() {
+        when(savedSearchRepository.findAll()).thenReturn(searches);
+        savedSearchIndex.rebuild();
+        notifier.onMatchChanged(MatchChangedEvent.created(MATCH_ID));
+    }
+
+    /**
+     * 알림을 받은 사용자 ID (사용자당 한 번, 알림 내용의 매치 / 저장된 검색 ID 확인 포함)
+     */
+    private Set<Long> alertedUserIds() {
+        List<Invocation> sends = mockingDetails(messagingTemplate).getInvocations().stream()
+                .filter(inv -> inv.getMethod().getName().equals("convertAndSendToUser"))
+                .collect(Collectors.toList());
+
+        List<Long> ids = new ArrayList<>();
+        for (Invocation send : sends) {
+            long userId = Long.parseLong(send.getArgument(0));
+            MatchAlertDTO alert = send.getArgument(2);
+            assertEquals("/queue/match-alerts", send.getArgument(1));
+            assertEquals(MATCH_ID, alert.getMatchId());
+            assertEquals(userId + 100, alert.getSavedSearchId());
+            ids.add(userId);
+        }
+
+        Set<Long> unique = new TreeSet<>(ids);
+        assertEquals(ids.size(), unique.size(), "중복 알림: " + ids);
+        return unique;
+    }
+
+    private void add(long userId, SavedSearch.SavedSearchBuilder builder) {
+        searches.add(search(userId, builder));
+    }
+
+    private SavedSearch search(long userId, SavedSearch.SavedSearchBuilder builder) {
+        User user = mock(User.class);
+        when(user.getId()).thenReturn(userId);
+
+        SavedSearch search = builder.user(user).build();
+        ReflectionTestUtils.setField(search, "id", userId + 100);
+        return search;
+    }
+}
@@ -0,0 +1,222 @@
+package com.example.scsa.service.match;
+
+import com.example.scsa.domain.event.MatchChangedEvent;
+import com.example.scsa.domain.vo.GameType;
+import com.example.scsa.domain.vo.MatchStatus;
+import com.example.scsa.dto.match.MatchRow;
+import com.example.scsa.dto.match.MatchSearchCondition;
+import com.example.scsa.repository.MatchKeysetOrder;
+import com.example.scsa.repository.MatchSearchRepository;
+import com.example.scsa.support.MatchSearchFixture;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * HotMatchIndex ↔ MatchSearchRepositoryImpl 결과 일치 테스트
+ *
+ * 고정 데이터셋(정렬키 중복, 모집 조건 0 포함, COMPLETED / 이미 시작한 매치 포함)에 대해
+ * 인덱스 경로와 DB 경로가 같은 조건에서 같은 matchId 를 같은 순서로 반환하는지 확인한다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class HotMatchIndexConsistencyTest {
+
+    private static final int MATCH_COUNT = 40;
+
+    @Autowired
+    private MatchSearchRepository matchSearchRepository;
+
+    private HotMatchIndex hotMatchIndex;
+    private LocalDateTime now;
+    private LocalDateTime base;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        now = LocalDateTime.now();
+        base = LocalDate.now().plusDays(3).atStartOfDay();
+
+        for (int i = 1; i <= MATCH_COUNT; i++) {
+            LocalDateTime start = base.plusDays(i % 3).plusHours(6 + (i % 5) * 3L);
+            matchSearchRepository.save(MatchSearchFixture.match(i)
+                    .court(1 + i % 4)
+                    .gameType(GameType.values()[i % GameType.values().length])
+                    .status(i % 10 == 0 ? MatchStatus.COMPLETED : MatchStatus.RECRUITING)
+                    .between(start, start.plusHours(2))
+                    // 같은 생성 시각 3개씩 / 같은 시작 시각은 15개 간격으로 반복 (정렬키 중복)
+                    .createdAt(base.minusDays(10).plusHours(i / 3))
+                    .masks(i % 16, i % 8, (i * 7) % 16)
+                    .build());
+        }
+
+        // 이미 시작한 모집 중 매치 (두 경로 모두 제외)
+        LocalDateTime started = now.minusHours(1).withSecond(0).withNano(0);
+        matchSearchRepository.save(MatchSearchFixture.match(MATCH_COUNT + 1)
+                .between(started, started.plusHours(2))
+                .build());
+        matchSearchRepository.flush();
+
+        hotMatchIndex = new HotMatchIndex(matchSearchRepository,
+                mock(RedisTemplate.class), mock(RedisMessageListenerContainer.class),
+                new SimpleMeterRegistry(), true, 0);
+        hotMatchIndex.rebuild();
+    }
+
+    @Test
+    void incrementalChanges_sameAsRepository() {
+        // 기존 정렬키와 겹치는 새 매치 추가 + 기존 매치 삭제를 이벤트로 반영 (전체 재적재 없이)
+        for (int i = 1; i <= 6; i++) {
+            long matchId = MATCH_COUNT + 10 + i;
+            LocalDateTime start = base.plusDays(i % 3).plusHours(6 + (i % 5) * 3L);
+            matchSearchRepository.save(MatchSearchFixture.match(matchId)
+                    .court(1 + i % 4)
+                    .between(start, start.plusHours(2))
+                    .createdAt(base.minusDays(10).plusHours(i))
+                    .build());
+            matchSearchRepository.flush();
+            hotMatchIndex.onMatchChanged(MatchChangedEvent.created(matchId));
+        }
+        for (long matchId : new long[]{3, 7, MATCH_COUNT + 12}) {
+            matchSearchRepository.deleteById(matchId);
+            matchSearchRepository.flush();
+            hotMatchIndex.onMatchChanged(MatchChangedEvent.deleted(matchId));
+        }
+
+        findMatchesForSearch_sameAsRepository();
+        findMatchesAfterCursor_pagesSameAsRepository();
+    }
+
+    @Test
+    void findMatchesForSearch_sameAsRepository() {
+        for (MatchSearchCondition condition : conditions()) {
+            List<MatchRow> indexRows = hotMatchIndex.findMatchesForSearch(condition);
+            assertNotNull(indexRows);
+
+            assertEquals(sortedIds(matchSearchRepository.findMatchesForSearch(condition)), sortedIds(indexRows),
+                    () -> "condition: " + describe(condition));
+        }
+    }
+
+    @Test
+    void findMatchesAfterCursor_pagesSameAsRepository() {
+        for (MatchKeysetOrder order : MatchKeysetOrder.values()) {
+            for (MatchSearchCondition condition : conditions()) {
+                LocalDateTime cursorKey = null;
+                Long cursorId = null;
+                while (true) {
+                    List<MatchRow> dbPage = matchSearchRepository.findMatchesAfterCursor(
+                            condition, order, cursorKey, cursorId, 4);
+                    List<MatchRow> indexPage = hotMatchIndex.findMatchesAfterCursor(
+                            condition, order, cursorKey, cursorId, 4);
+
+                    assertEquals(ids(dbPage), ids(indexPage),
+                            "order: " + order + ", cursor: " + cursorKey + "/" + cursorId + ", condition: " + describe(condition));
+
+                    if (dbPage.size() < 4) {
+                        break;
+                    }
+                    MatchRow last = dbPage.get(dbPage.size() - 1);
+                    cursorKey = keyOf(order, last);
+                    cursorId = last.matchId();
+                }
+            }
+        }
+    }
+
+    @Test
+    void findMatchesAfterCursor_cursorOnTiedKeys() {
+        MatchSearchCondition condition = baseCondition().build();
+
+        for (MatchKeysetOrder order : MatchKeysetOrder.values()) {
+            List<MatchRow> all = matchSearchRepository.findMatchesAfterCursor(condition, order, null, null, MATCH_COUNT);
+
+            // 데이터셋에 같은 정렬키를 가진 행이 있어야 의미 있는 테스트
+            Map<LocalDateTime, Long> keyCounts = all.stream()
+                    .collect(Collectors.groupingBy(m -> keyOf(order, m), Collectors.counting()));
+            assertTrue(keyCounts.values().stream().anyMatch(c -> c > 1), "no tied keys for " + order);
+
+            // 모든 행을 커서로 사용 (같은 정렬키의 앞/중간/마지막 행 포함)
+            for (MatchRow cursor : all) {
+                LocalDateTime key = keyOf(order, cursor);
+                assertEquals(
+                        ids(matchSearchRepository.findMatchesAfterCursor(condition, order, key, cursor.matchId(), 5)),
+                        ids(hotMatchIndex.findMatchesAfterCursor(condition, order, key, cursor.matchId(), 5)),
+                        "order: " + order + ", cursor: " + key + "/" + cursor.matchId());
+            }
+        }
+    }
+
+    /**
+     * 비교할 검색 조건 (모집 조건 비트마스크, 하루 중 시간대, 코트 ID, 기간, gameType 조합)
+     */
+    private List<MatchSearchCondition> conditions() {
+        List<MatchSearchCondition> conditions = new ArrayList<>();
+        conditions.add(baseCondition().build());
+        conditions.add(baseCondition().agesMask(0b0010).build());
+        conditions.add(baseCondition().gendersMask(0b001).periodsMask(0b1100).build());
+        conditions.add(baseCondition().agesMask(0b1111).gendersMask(0b111).periodsMask(0b1111).build());
+        conditions.add(baseCondition().minMinuteOfDay(9 * 60).maxMinuteOfDay(17 * 60).build());
+        conditions.add(baseCondition().minMinuteOfDay(12 * 60).build());
+        conditions.add(baseCondition().maxMinuteOfDay(14 * 60).build());
+        conditions.add(baseCondition().courtIds(List.of(2L, 3L)).build());
+        conditions.add(baseCondition().courtIds(List.of()).build());
+        conditions.add(baseCondition()
+                .from(base.plusDays(1))
+                .to(base.plusDays(2).plusHours(12))
+                .build());
+        conditions.add(baseCondition()
+                .gameType(GameType.MEN_DOUBLES)
+                .agesMask(0b0101)
+                .courtIds(List.of(1L, 2L, 4L))
+                .minMinuteOfDay(12 * 60)
+                .build());
+        return conditions;
+    }
+
+    private MatchSearchCondition.MatchSearchConditionBuilder baseCondition() {
+        return MatchSearchCondition.builder()
+                .from(now)
+                .to(LocalDate.of(9998, 12, 31).atTime(23, 59))
+                .statuses(List.of(MatchStatus.RECRUITING));
+    }
+
+    private static LocalDateTime keyOf(MatchKeysetOrder order, MatchRow m) {
+        return order == MatchKeysetOrder.START_DATE_TIME ? m.matchStartDateTime() : m.createdAt();
+    }
+
+    private static List<Long> ids(List<MatchRow> rows) {
+        return rows.stream().map(MatchRow::matchId).collect(Collectors.toList());
+    }
+
+    private static List<Long> sortedIds(List<MatchRow> rows) {
+        return rows.stream().map(MatchRow::matchId).sorted().collect(Collectors.toList());
+    }
+
+    private static String describe(MatchSearchCondition c) {
+        Function<Object, String> v = o -> o != null ? o.toString() : "-";
+        return "from=" + v.apply(c.getFrom()) + ", to=" + v.apply(c.getTo())
+                + ", minutes=" + v.apply(c.getMinMinuteOfDay()) + "~" + v.apply(c.getMaxMinuteOfDay())
+                + ", gameType=" + v.apply(c.getGameType())
+                + ", masks=" + v.apply(c.getAgesMask()) + "/" + v.apply(c.getGendersMask()) + "/" + v.apply(c.getPeriodsMask())
+                + ", courtIds=" + v.apply(c.getCourtIds());
+    }
+}
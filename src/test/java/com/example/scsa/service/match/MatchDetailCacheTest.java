@@ -0,0 +1,115 @@
+package com.example.scsa.service.match;
+
+import com.example.scsa.domain.event.MatchChangedEvent;
+import com.example.scsa.dto.match.MatchSearchDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * MatchDetailCache L1 무효화 테스트
+ *
+ * 매치 삭제/변경 이벤트 또는 다른 서버의 무효화 메시지를 받으면
+ * L1 항목이 제거되고 (다음 조회는 L2 → DB), 이벤트는 pub/sub으로 전파되는지 확인한다.
+ */
+class MatchDetailCacheTest {
+
+    private static final String VERSION = "1.0";
+
+    private RedisTemplate<String, String> redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private MatchDetailCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        cache = new MatchDetailCache(redisTemplate, new ObjectMapper(),
+                mock(RedisMessageListenerContainer.class), new SimpleMeterRegistry(),
+                true, 100, 60, 600);
+    }
+
+    @Test
+    void get_returnsL1EntryWithoutRedis() {
+        MatchSearchDTO dto = detail(1L);
+        cache.put(1L, VERSION, dto);
+
+        assertSame(dto, cache.get(1L, VERSION));
+        verify(valueOperations, never()).get(anyString());
+    }
+
+    @Test
+    void deletedEvent_evictsL1AndBroadcasts() {
+        cache.put(1L, VERSION, detail(1L));
+
+        cache.onMatchChanged(MatchChangedEvent.deleted(1L));
+
+        // L1에서 제거되어 L2 조회 (Redis 키도 없으면 미스)
+        assertNull(cache.get(1L, VERSION));
+        verify(valueOperations).get("match:detail:1:" + VERSION);
+        verify(redisTemplate).convertAndSend(MatchDetailCache.INVALIDATION_CHANNEL, "1");
+    }
+
+    @Test
+    void deletedEvent_keepsOtherMatches() {
+        MatchSearchDTO other = detail(2L);
+        cache.put(1L, VERSION, detail(1L));
+        cache.put(2L, VERSION, other);
+
+        cache.onMatchChanged(MatchChangedEvent.deleted(1L));
+
+        assertSame(other, cache.get(2L, VERSION));
+    }
+
+    @Test
+    void invalidationMessage_evictsL1() {
+        cache.put(1L, VERSION, detail(1L));
+
+        cache.onMessage(message("1"), null);
+
+        assertNull(cache.get(1L, VERSION));
+    }
+
+    @Test
+    void expiredEvent_evictsAllAndBroadcastsWildcard() {
+        cache.put(1L, VERSION, detail(1L));
+        cache.put(2L, VERSION, detail(2L));
+
+        cache.onMatchChanged(MatchChangedEvent.expired());
+
+        assertNull(cache.get(1L, VERSION));
+        assertNull(cache.get(2L, VERSION));
+        verify(redisTemplate).convertAndSend(MatchDetailCache.INVALIDATION_CHANNEL, "*");
+    }
+
+    private static MatchSearchDTO detail(Long matchId) {
+        return MatchSearchDTO.builder()
+                .matchId(matchId)
+                .hostId(10L)
+                .build();
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(
+                MatchDetailCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.scsa.service.match;
+
+import com.example.scsa.domain.vo.GameType;
+import com.example.scsa.domain.vo.MatchStatus;
+import com.example.scsa.dto.match.MatchListRequestDTO;
+import com.example.scsa.dto.match.MatchListResponseDTO;
+import com.example.scsa.dto.match.MatchRow;
+import com.example.scsa.dto.match.MatchSearchDTO;
+import com.example.scsa.repository.MatchSearchRepository;
+import com.example.scsa.service.court.CourtSpatialIndex;
+import com.example.scsa.util.CursorCodec;
+import com.example.scsa.util.GeoDistanceKernel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * sort=distance 메모리 정렬 + cursor 페이지네이션 테스트
+ *
+ * 코트마다 매치를 여러 개 두어 거리 동률을 만들고, 페이지 경계가 동률 구간 안에 걸리는 크기로
+ * 마지막 페이지까지 cursor를 따라가며
+ *  - 각 페이지가 (거리, matchId) 전체 정렬 결과의 해당 구간과 같은지 (TopKSelector + MetricCursor)
+ *  - 이어 붙인 결과에 빠지거나 중복된 매치가 없는지
+ * 를 검색 세션을 쓰지 않는 경우 / 일부만 담은 세션 스냅샷 이후를 다시 계산하는 경우 모두 확인한다.
+ */
+class MatchListServiceDistancePagingTest {
+
+    private static final double LAT = 37.5666;
+    private static final double LNG = 126.9782;
+    private static final int PAGE_SIZE = 7;
+
+    // 코트 (id, 위도, 경도), 코트마다 매치 MATCHES_PER_COURT 개
+    private static final double[][] COURTS = {
+            {1, 37.5700, 126.9800},
+            {2, 37.5500, 126.9900},
+            {3, 37.5666, 126.9782},
+            {4, 37.6000, 127.0200},
+            {5, 37.5300, 126.9500},
+    };
+    private static final int MATCHES_PER_COURT = 8;
+
+    private final HotMatchIndex hotMatchIndex = mock(HotMatchIndex.class);
+    private final MatchSearchRepository matchSearchRepository = mock(MatchSearchRepository.class);
+    private final MatchSearchSessionStore sessionStore = mock(MatchSearchSessionStore.class);
+    private final MatchScoringExecutor scoringExecutor = new MatchScoringExecutor(new SimpleMeterRegistry(), 20000, 1);
+
+    private MatchListService service;
+    private List<MatchRow> rows;
+
+    @BeforeEach
+    void setUp() {
+        CourtSpatialIndex courtSpatialIndex = mock(CourtSpatialIndex.class);
+
+        service = new MatchListService(matchSearchRepository, hotMatchIndex, null, courtSpatialIndex,
+                mock(MatchListCache.class), sessionStore, new CursorCodec("test-cursor-secret-key-for-testing-only"),
+                scoringExecutor, null, null, null, null);
+
+        // matchId 를 코트와 섞어서 배정 (같은 거리 안에서 id 순서가 입력 순서와 다르게)
+        rows = new ArrayList<>();
+        LocalDateTime start = LocalDate.now().plusDays(2).atTime(10, 0);
+        int n = COURTS.length * MATCHES_PER_COURT;
+        for (int i = 0; i < n; i++) {
+            double[] court = COURTS[i % COURTS.length];
+            long matchId = 1 + (i * 17L) % n;
+            rows.add(row(matchId, (long) court[0], court[1], court[2], start.plusHours(i % 5)));
+        }
+
+        when(hotMatchIndex.findMatchesForSearch(any())).thenReturn(rows);
+        when(matchSearchRepository.findRowsByMatchIds(any())).thenAnswer(inv -> {
+            Collection<Long> ids = inv.getArgument(0);
+            return rows.stream().filter(m -> ids.contains(m.matchId())).collect(Collectors.toList());
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        scoringExecutor.shutdown();
+    }
+
+    @Test
+    void withoutSession_pagesFollowFullSortWithoutGapsOrDuplicates() {
+        assertPagesFollowFullSort();
+    }
+
+    @Test
+    void partialSessionSnapshot_continuesAfterSnapshotWithoutGapsOrDuplicates() {
+        // 첫 페이지에서 10개만 스냅샷으로 저장 (complete=false) → 이후는 마지막 항목 기준으로 다시 계산
+        AtomicReference<MatchSearchSessionStore.Session> saved = new AtomicReference<>();
+        when(sessionStore.snapshotSize()).thenReturn(10);
+        when(sessionStore.save(any(), any(), any(), anyBoolean())).thenAnswer(inv -> {
+            saved.set(new MatchSearchSessionStore.Session(
+                    inv.getArgument(0), inv.getArgument(1), inv.getArgument(2), inv.getArgument(3)));
+            return 99L;
+        });
+        when(sessionStore.get(anyLong(), any())).thenAnswer(inv -> saved.get());
+
+        assertPagesFollowFullSort();
+
+        assertNotNull(saved.get());
+        assertFalse(saved.get().complete());
+    }
+
+    private void assertPagesFollowFullSort() {
+        List<Long> expected = expectedOrder();
+        List<Long> actual = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+
+        String cursor = null;
+        int pages = 0;
+        do {
+            MatchListResponseDTO response = service.getMatchList(request(cursor));
+            List<Long> page = response.getMatches().stream()
+                    .map(MatchSearchDTO::getMatchId)
+                    .collect(Collectors.toList());
+
+            int from = actual.size();
+            assertEquals(expected.subList(from, Math.min(from + PAGE_SIZE, expected.size())), page,
+                    "page " + pages);
+            for (Long id : page) {
+                assertTrue(seen.add(id), "중복된 매치: " + id);
+            }
+            actual.addAll(page);
+
+            cursor = response.getCursor();
+            assertEquals(response.getHasNext(), cursor != null);
+            pages++;
+        } while (cursor != null && pages <= expected.size());
+
+        assertEquals(expected, actual);
+        assertEquals((expected.size() + PAGE_SIZE - 1) / PAGE_SIZE, pages);
+    }
+
+    /**
+     * (거리, matchId) 오름차순 전체 정렬
+     */
+    private List<Long> expectedOrder() {
+        Map<Long, Double> distances = rows.stream().collect(Collectors.toMap(MatchRow::matchId,
+                m -> GeoDistanceKernel.haversineKm(LAT, LNG, m.courtLatitude(), m.courtLongitude())));
+
+        return rows.stream()
+                .map(MatchRow::matchId)
+                .sorted(Comparator.comparingDouble((Long id) -> distances.get(id))
+                        .thenComparing(Function.identity()))
+                .collect(Collectors.toList());
+    }
+
+    private MatchListRequestDTO request(String cursor) {
+        MatchListRequestDTO request = new MatchListRequestDTO();
+        request.setSort("distance");
+        request.setLatitude(LAT);
+        request.setLongitude(LNG);
+        request.setSize(PAGE_SIZE);
+        request.setCursor(cursor);
+        return request;
+    }
+
+    private MatchRow row(long matchId, long courtId, double lat, double lng, LocalDateTime start) {
+        return new MatchRow(matchId, 100L, courtId, lat, lng, GameType.SINGLES, MatchStatus.RECRUITING,
+                start, start.plusHours(2), 10000L, 1L, 1L, "", 0, 0, 0, 1,
+                start.minusDays(1), start.minusDays(1));
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.scsa.service.profile;
+
+import com.example.scsa.domain.entity.User;
+import com.example.scsa.domain.event.MatchChangedEvent;
+import com.example.scsa.domain.vo.MatchStatus;
+import com.example.scsa.repository.ChatRoomRepository;
+import com.example.scsa.repository.MatchGuestRepository;
+import com.example.scsa.repository.MatchRepository;
+import com.example.scsa.repository.UserRepository;
+import com.example.scsa.service.alert.SavedSearchService;
+import com.example.scsa.service.match.MatchSearchSyncService;
+import com.example.scsa.service.match.ranking.CallerProfileCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 회원 탈퇴 시 삭제되는 매치의 변경 이벤트 발행 테스트
+ *
+ * 이벤트가 있어야 목록/상세 버전이 증가하고 상세 캐시(MatchDetailCache)에서 제거된다.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserProfileServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private MatchRepository matchRepository;
+    @Mock
+    private MatchGuestRepository matchGuestRepository;
+    @Mock
+    private ChatRoomRepository chatRoomRepository;
+    @Mock
+    private MatchSearchSyncService matchSearchSyncService;
+    @Mock
+    private CallerProfileCache callerProfileCache;
+    @Mock
+    private SavedSearchService savedSearchService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private UserProfileService userProfileService;
+
+    @Test
+    void deleteUser_publishesDeletedEventPerCompletedMatch() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(mock(User.class)));
+        when(matchRepository.findIdsByHostIdAndMatchStatus(1L, MatchStatus.COMPLETED))
+                .thenReturn(List.of(3L, 4L));
+
+        userProfileService.deleteUser(1L);
+
+        verify(matchRepository).deleteAllByHost_IdAndMatchStatus(1L, MatchStatus.COMPLETED);
+
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+
+        List<Object> published = events.getAllValues();
+        assertEquals(MatchChangedEvent.Type.DELETED, ((MatchChangedEvent) published.get(0)).getType());
+        assertEquals(3L, ((MatchChangedEvent) published.get(0)).getMatchId());
+        assertEquals(MatchChangedEvent.Type.DELETED, ((MatchChangedEvent) published.get(1)).getType());
+        assertEquals(4L, ((MatchChangedEvent) published.get(1)).getMatchId());
+    }
+}
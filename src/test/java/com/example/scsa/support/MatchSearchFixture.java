@@ -0,0 +1,126 @@
+package com.example.scsa.support;
+
+import com.example.scsa.domain.entity.Court;
+import com.example.scsa.domain.entity.Match;
+import com.example.scsa.domain.entity.MatchSearch;
+import com.example.scsa.domain.entity.User;
+import com.example.scsa.domain.vo.GameType;
+import com.example.scsa.domain.vo.MatchStatus;
+import org.mockito.quality.Strictness;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * 테스트용 match_search 행 생성
+ *
+ * 실제 Match 엔티티를 저장하지 않고 필요한 값만 가진 Match 목으로 MatchSearch.from()을 호출하여
+ * 운영 코드와 같은 방식(minute of day 계산 등)으로 읽기 모델 행을 만든다.
+ */
+public final class MatchSearchFixture {
+
+    private final long matchId;
+    private long hostId = 1L;
+    private long courtId = 1L;
+    private double latitude = 37.5666;
+    private double longitude = 126.9782;
+    private GameType gameType = GameType.SINGLES;
+    private MatchStatus status = MatchStatus.RECRUITING;
+    private LocalDateTime start;
+    private LocalDateTime end;
+    private int agesMask;
+    private int gendersMask;
+    private int periodsMask;
+    private LocalDateTime createdAt;
+
+    private MatchSearchFixture(long matchId) {
+        this.matchId = matchId;
+    }
+
+    public static MatchSearchFixture match(long matchId) {
+        return new MatchSearchFixture(matchId);
+    }
+
+    public MatchSearchFixture host(long hostId) {
+        this.hostId = hostId;
+        return this;
+    }
+
+    public MatchSearchFixture court(long courtId, double latitude, double longitude) {
+        this.courtId = courtId;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        return this;
+    }
+
+    public MatchSearchFixture court(long courtId) {
+        this.courtId = courtId;
+        return this;
+    }
+
+    public MatchSearchFixture gameType(GameType gameType) {
+        this.gameType = gameType;
+        return this;
+    }
+
+    public MatchSearchFixture status(MatchStatus status) {
+        this.status = status;
+        return this;
+    }
+
+    public MatchSearchFixture between(LocalDateTime start, LocalDateTime end) {
+        this.start = start;
+        this.end = end;
+        return this;
+    }
+
+    public MatchSearchFixture masks(int agesMask, int gendersMask, int periodsMask) {
+        this.agesMask = agesMask;
+        this.gendersMask = gendersMask;
+        this.periodsMask = periodsMask;
+        return this;
+    }
+
+    public MatchSearchFixture createdAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+        return this;
+    }
+
+    public MatchSearch build() {
+        User host = lenientMock(User.class);
+        when(host.getId()).thenReturn(hostId);
+
+        Court court = lenientMock(Court.class);
+        when(court.getId()).thenReturn(courtId);
+        when(court.getLatitude()).thenReturn(latitude);
+        when(court.getLongitude()).thenReturn(longitude);
+
+        Match match = lenientMock(Match.class);
+        when(match.getId()).thenReturn(matchId);
+        when(match.getHost()).thenReturn(host);
+        when(match.getCourt()).thenReturn(court);
+        when(match.getGameType()).thenReturn(gameType);
+        when(match.getMatchStatus()).thenReturn(status);
+        when(match.getMatchStartDateTime()).thenReturn(start);
+        when(match.getMatchEndDateTime()).thenReturn(end);
+        when(match.getFee()).thenReturn(10_000L);
+        when(match.getPlayerCountMen()).thenReturn(1L);
+        when(match.getPlayerCountWomen()).thenReturn(1L);
+        when(match.getDescription()).thenReturn("match " + matchId);
+        when(match.getAgesMask()).thenReturn(agesMask);
+        when(match.getGendersMask()).thenReturn(gendersMask);
+        when(match.getPeriodsMask()).thenReturn(periodsMask);
+        when(match.getCurrentGuestCount()).thenReturn(1);
+        when(match.getCreatedAt()).thenReturn(createdAt != null ? createdAt : start.minusDays(1));
+        when(match.getLastModifiedAt()).thenReturn(null);
+
+        return MatchSearch.from(match);
+    }
+
+    private static <T> T lenientMock(Class<T> type) {
+        return mock(type, withSettings().strictness(Strictness.LENIENT));
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.scsa.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * CursorCodec 인코딩/디코딩 테스트
+ *
+ * v1(정렬키 + matchId) / v2(검색 세션) cursor 왕복 변환과
+ * 위변조 / 정렬 기준 불일치 / 잘린 cursor / 알 수 없는 버전의 거부를 확인한다.
+ */
+class CursorCodecTest {
+
+    private static final String SECRET = "test-cursor-secret-key-for-testing-only";
+
+    // 바이너리 레이아웃 (CursorCodec 클래스 주석)
+    private static final int V1_PAYLOAD_LENGTH = 18;
+    private static final int V2_PAYLOAD_LENGTH = 30;
+    private static final int SIGNATURE_LENGTH = 8;
+
+    private final CursorCodec codec = new CursorCodec(SECRET);
+
+    @Test
+    void v1_timeKey_roundTrip() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 14, 15, 9, 26, 535_897_000);
+
+        CursorCodec.Cursor cursor = codec.decode(CursorCodec.SortKey.CREATED_AT,
+                codec.encode(CursorCodec.SortKey.CREATED_AT, createdAt, 42L));
+
+        assertEquals(createdAt, cursor.timeKey());
+        assertEquals(42L, cursor.matchId());
+        assertEquals(0L, cursor.sessionId());
+        assertEquals(0, cursor.sessionOffset());
+    }
+
+    @Test
+    void v1_metricKey_roundTrip() {
+        for (double key : new double[]{0.0, 1.234_567_890_123, -0.75, Double.MAX_VALUE}) {
+            CursorCodec.Cursor cursor = codec.decode(CursorCodec.SortKey.DISTANCE,
+                    codec.encode(CursorCodec.SortKey.DISTANCE, key, Long.MAX_VALUE));
+
+            assertEquals(Double.doubleToRawLongBits(key), Double.doubleToRawLongBits(cursor.metricKey()));
+            assertEquals(Long.MAX_VALUE, cursor.matchId());
+        }
+    }
+
+    @Test
+    void v2_session_roundTrip() {
+        String encoded = codec.encode(CursorCodec.SortKey.RECOMMEND, 0.8125, 7L, 123_456_789L, 40);
+
+        CursorCodec.Cursor cursor = codec.decode(CursorCodec.SortKey.RECOMMEND, encoded);
+
+        assertEquals(0.8125, cursor.metricKey());
+        assertEquals(7L, cursor.matchId());
+        assertEquals(123_456_789L, cursor.sessionId());
+        assertEquals(40, cursor.sessionOffset());
+    }
+
+    @Test
+    void flippedPayloadByte_isRejected() {
+        assertEveryByteFlipRejected(v1(), 0, V1_PAYLOAD_LENGTH, CursorCodec.SortKey.LATEST);
+        assertEveryByteFlipRejected(v2(), 0, V2_PAYLOAD_LENGTH, CursorCodec.SortKey.DISTANCE);
+    }
+
+    @Test
+    void flippedSignatureByte_isRejected() {
+        assertEveryByteFlipRejected(v1(), V1_PAYLOAD_LENGTH, V1_PAYLOAD_LENGTH + SIGNATURE_LENGTH,
+                CursorCodec.SortKey.LATEST);
+        assertEveryByteFlipRejected(v2(), V2_PAYLOAD_LENGTH, V2_PAYLOAD_LENGTH + SIGNATURE_LENGTH,
+                CursorCodec.SortKey.DISTANCE);
+    }
+
+    @Test
+    void wrongSortKey_isRejected() {
+        String cursor = v1();
+        for (CursorCodec.SortKey sort : CursorCodec.SortKey.values()) {
+            if (sort != CursorCodec.SortKey.LATEST) {
+                assertThrows(IllegalArgumentException.class, () -> codec.decode(sort, cursor));
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(CursorCodec.SortKey.RECOMMEND, v2()));
+    }
+
+    @Test
+    void truncatedCursor_isRejected() {
+        for (String cursor : new String[]{v1(), v2()}) {
+            byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+            for (int length = 0; length < bytes.length; length++) {
+                String truncated = encode(Arrays.copyOf(bytes, length));
+                assertThrows(IllegalArgumentException.class,
+                        () -> codec.decode(CursorCodec.SortKey.LATEST, truncated));
+            }
+        }
+    }
+
+    @Test
+    void unknownVersion_isRejected() {
+        byte[] bytes = Base64.getUrlDecoder().decode(v1());
+        for (byte version : new byte[]{0, 3, (byte) 0xFF}) {
+            bytes[0] = version;
+            String cursor = encode(bytes);
+            assertThrows(IllegalArgumentException.class, () -> codec.decode(CursorCodec.SortKey.LATEST, cursor));
+        }
+    }
+
+    @Test
+    void otherSecret_isRejected() {
+        CursorCodec other = new CursorCodec(SECRET + "-other");
+
+        assertThrows(IllegalArgumentException.class, () -> other.decode(CursorCodec.SortKey.LATEST, v1()));
+        assertThrows(IllegalArgumentException.class, () -> other.decode(CursorCodec.SortKey.DISTANCE, v2()));
+    }
+
+    private String v1() {
+        return codec.encode(CursorCodec.SortKey.LATEST, LocalDateTime.of(2025, 6, 1, 10, 0), 1001L);
+    }
+
+    private String v2() {
+        return codec.encode(CursorCodec.SortKey.DISTANCE, 3.5, 1002L, 99L, 20);
+    }
+
+    /**
+     * [from, to) 범위의 바이트를 하나씩 뒤집은 cursor 가 모두 거부되는지
+     */
+    private void assertEveryByteFlipRejected(String cursor, int from, int to, CursorCodec.SortKey sort) {
+        byte[] original = Base64.getUrlDecoder().decode(cursor);
+        for (int i = from; i < to; i++) {
+            byte[] tampered = original.clone();
+            tampered[i] ^= 0x01;
+            String encoded = encode(tampered);
+            assertThrows(IllegalArgumentException.class, () -> codec.decode(sort, encoded), "byte " + i);
+        }
+    }
+
+    private static String encode(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.scsa.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * GeoDistanceKernel 정확도 테스트
+ *
+ * 기존 MatchListService / CourtSpatialIndex 의 Haversine 계산과
+ * 반경 판정(포함 여부)이 같고 거리 값이 오차 범위 안에서 같은지 확인한다.
+ */
+class GeoDistanceKernelTest {
+
+    // 부동소수점 계산 순서 차이 허용 오차(km)
+    private static final double TOLERANCE_KM = 1e-9;
+
+    @Test
+    void haversineKm_matchesPreviousFormula() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            double lat1 = random.nextDouble() * 180 - 90;
+            double lng1 = random.nextDouble() * 360 - 180;
+            double lat2 = random.nextDouble() * 180 - 90;
+            double lng2 = random.nextDouble() * 360 - 180;
+
+            assertEquals(previousHaversineKm(lat1, lng1, lat2, lng2),
+                    GeoDistanceKernel.haversineKm(lat1, lng1, lat2, lng2), TOLERANCE_KM);
+        }
+    }
+
+    @Test
+    void distancesWithin_nearbyCourts() {
+        // 서울 기준 약 ±50km 코트, 반경 경계 부근 포함
+        assertBatchMatches(37.5666, 126.9782, 0.9, 1.2, new double[]{0.5, 5, 25, 49.9});
+    }
+
+    @Test
+    void distancesWithin_worldwideCourts() {
+        // 전 세계 코트 (극지방 / 날짜변경선 건너편 포함), 큰 반경
+        assertBatchMatches(0, 179.9, 180, 360, new double[]{100, 5_000, 20_000, 100_000});
+        assertBatchMatches(89.5, -45, 180, 360, new double[]{100, 1_000, 10_000});
+    }
+
+    @Test
+    void distancesWithin_writesFromRangeStart() {
+        double[] latRad = {0, Math.toRadians(1), Math.toRadians(2)};
+        double[] lngRad = {0, 0, 0};
+        double[] cosLat = {1, Math.cos(latRad[1]), Math.cos(latRad[2])};
+        double[] out = new double[2];
+
+        int within = GeoDistanceKernel.distancesWithin(0, 0, 1, latRad, lngRad, cosLat, 1, 3, 150, out);
+
+        assertEquals(1, within);
+        assertEquals(previousHaversineKm(0, 0, 1, 0), out[0], TOLERANCE_KM);
+        assertEquals(Double.POSITIVE_INFINITY, out[1]);
+    }
+
+    private void assertBatchMatches(double originLat, double originLng,
+                                    double latSpan, double lngSpan, double[] radii) {
+        Random random = new Random(7);
+        int n = 50_000;
+        double[] latDeg = new double[n];
+        double[] lngDeg = new double[n];
+        double[] latRad = new double[n];
+        double[] lngRad = new double[n];
+        double[] cosLat = new double[n];
+        for (int i = 0; i < n; i++) {
+            latDeg[i] = clamp(originLat + (random.nextDouble() - 0.5) * latSpan, -90, 90);
+            lngDeg[i] = wrap(originLng + (random.nextDouble() - 0.5) * lngSpan);
+            latRad[i] = Math.toRadians(latDeg[i]);
+            lngRad[i] = Math.toRadians(lngDeg[i]);
+            cosLat[i] = Math.cos(latRad[i]);
+        }
+
+        double originLatRad = Math.toRadians(originLat);
+        double originLngRad = Math.toRadians(originLng);
+        double originCos = Math.cos(originLatRad);
+
+        for (double radiusKm : radii) {
+            double[] out = new double[n];
+            int within = GeoDistanceKernel.distancesWithin(
+                    originLatRad, originLngRad, originCos, latRad, lngRad, cosLat, 0, n, radiusKm, out);
+
+            int expectedWithin = 0;
+            for (int i = 0; i < n; i++) {
+                double expected = previousHaversineKm(originLat, originLng, latDeg[i], lngDeg[i]);
+
+                // 반경 경계에서 오차 범위 안인 경우는 판정 비교 제외
+                if (Math.abs(expected - radiusKm) <= TOLERANCE_KM) {
+                    if (out[i] <= radiusKm) expectedWithin++;
+                    continue;
+                }
+
+                if (expected <= radiusKm) {
+                    expectedWithin++;
+                    assertEquals(expected, out[i], TOLERANCE_KM, "court " + i + ", radius " + radiusKm);
+                } else {
+                    assertEquals(Double.POSITIVE_INFINITY, out[i], "court " + i + ", radius " + radiusKm);
+                }
+            }
+            assertEquals(expectedWithin, within, "radius " + radiusKm);
+        }
+    }
+
+    /**
+     * 기존 MatchListService.calculateDistanceKm 공식
+     */
+    private static double previousHaversineKm(double lat1, double lng1, double lat2, double lng2) {
+        final int R = 6371;
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+
+        return R * c;
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private static double wrap(double lng) {
+        if (lng > 180) return lng - 360;
+        if (lng < -180) return lng + 360;
+        return lng;
+    }
+}
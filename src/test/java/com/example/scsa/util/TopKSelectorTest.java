@@ -0,0 +1,104 @@
+package com.example.scsa.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * TopKSelector 결과가 전체 정렬 후 상위 K개와 같은지 확인하는 테스트
+ *
+ * 값이 자주 중복되는 후보(거리/점수 동률)를 무작위 순서로 넣고,
+ * (값, id) 순서의 전체 정렬 결과와 비교한다. chunk별 선택 후 merge 한 결과도 같아야 한다.
+ */
+class TopKSelectorTest {
+
+    private static final Comparator<Item> ORDER = Comparator
+            .comparingDouble(Item::value)
+            .thenComparingLong(Item::id);
+
+    @Test
+    void sameAsFullSort_withDuplicateValues() {
+        Random random = new Random(42);
+
+        for (int round = 0; round < 50; round++) {
+            List<Item> items = randomItems(random, 1 + random.nextInt(300));
+            int k = 1 + random.nextInt(40);
+
+            TopKSelector<Item> selector = new TopKSelector<>(k, ORDER);
+            items.forEach(selector::offer);
+
+            assertEquals(fullSort(items, k), selector.toSortedList(), "round " + round + ", k " + k);
+        }
+    }
+
+    @Test
+    void mergedChunks_sameAsFullSort() {
+        Random random = new Random(7);
+
+        for (int round = 0; round < 50; round++) {
+            List<Item> items = randomItems(random, 1 + random.nextInt(300));
+            int k = 1 + random.nextInt(40);
+            int chunkSize = 1 + random.nextInt(50);
+
+            TopKSelector<Item> merged = new TopKSelector<>(k, ORDER);
+            for (int from = 0; from < items.size(); from += chunkSize) {
+                TopKSelector<Item> chunk = new TopKSelector<>(k, ORDER);
+                items.subList(from, Math.min(from + chunkSize, items.size())).forEach(chunk::offer);
+                merged.merge(chunk);
+            }
+
+            assertEquals(fullSort(items, k), merged.toSortedList(), "round " + round + ", k " + k);
+        }
+    }
+
+    @Test
+    void fewerCandidatesThanK_returnsAllSorted() {
+        List<Item> items = List.of(new Item(3, 1.0), new Item(1, 1.0), new Item(2, 0.5));
+
+        TopKSelector<Item> selector = new TopKSelector<>(10, ORDER);
+        items.forEach(selector::offer);
+
+        assertEquals(3, selector.size());
+        assertEquals(List.of(new Item(2, 0.5), new Item(1, 1.0), new Item(3, 1.0)), selector.toSortedList());
+    }
+
+    @Test
+    void nonPositiveK_rejected() {
+        assertThrows(IllegalArgumentException.class, () -> new TopKSelector<>(0, ORDER));
+    }
+
+    /**
+     * id는 중복 없이 섞고, 값은 좁은 범위에서 뽑아 동률이 많이 생기게 함
+     */
+    private List<Item> randomItems(Random random, int n) {
+        List<Long> ids = new ArrayList<>(n);
+        for (long id = 1; id <= n; id++) {
+            ids.add(id);
+        }
+        Collections.shuffle(ids, random);
+
+        List<Item> items = new ArrayList<>(n);
+        for (long id : ids) {
+            items.add(new Item(id, random.nextInt(8) * 0.5));
+        }
+        return items;
+    }
+
+    private List<Item> fullSort(List<Item> items, int k) {
+        return items.stream()
+                .sorted(ORDER)
+                .limit(k)
+                .collect(Collectors.toList());
+    }
+
+    private record Item(long id, double value) {
+    }
+}